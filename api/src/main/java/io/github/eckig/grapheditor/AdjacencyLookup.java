@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2005 - 2014 by TESIS DYNAware GmbH
+ */
+package io.github.eckig.grapheditor;
+
+import java.util.List;
+import java.util.Set;
+
+import io.github.eckig.grapheditor.model.GConnection;
+import io.github.eckig.grapheditor.model.GConnector;
+import io.github.eckig.grapheditor.model.GNode;
+
+/**
+ * Provides lookup methods to navigate between the nodes of the current model via their connections.
+ *
+ * <p>
+ * A connection goes out of the node of its {@link GConnection#getSource() source} connector and into the node of its
+ * {@link GConnection#getTarget() target} connector. The lookup is updated whenever the editor processes model changes,
+ * so every query only costs time in the order of the number of connections involved instead of walking all
+ * {@link GConnector connectors} and their connections. It should only be accessed from the JavaFX Application Thread.
+ * </p>
+ *
+ * @since 16.10.2026
+ */
+public interface AdjacencyLookup {
+
+    /**
+     * Gets the connections going out of the given node.
+     *
+     * @param node a {@link GNode} instance
+     *
+     * @return an unmodifiable list of the connections whose source connector belongs to the node
+     */
+    List<GConnection> getOutgoingConnections(final GNode node);
+
+    /**
+     * Gets the connections going into the given node.
+     *
+     * @param node a {@link GNode} instance
+     *
+     * @return an unmodifiable list of the connections whose target connector belongs to the node
+     */
+    List<GConnection> getIncomingConnections(final GNode node);
+
+    /**
+     * Gets all connections attached to the given node.
+     *
+     * @param node a {@link GNode} instance
+     *
+     * @return the outgoing followed by the incoming connections of the node
+     */
+    List<GConnection> getConnections(final GNode node);
+
+    /**
+     * @param node a {@link GNode} instance
+     *
+     * @return the number of connections going out of the node
+     */
+    int getOutDegree(final GNode node);
+
+    /**
+     * @param node a {@link GNode} instance
+     *
+     * @return the number of connections going into the node
+     */
+    int getInDegree(final GNode node);
+
+    /**
+     * Gets the nodes at the other end of the connections of the given node.
+     *
+     * @param node a {@link GNode} instance
+     *
+     * @return the neighbouring nodes, without duplicates
+     */
+    Set<GNode> getNeighbours(final GNode node);
+
+    /**
+     * Gets all nodes that can be reached from the given node via connections in any direction.
+     *
+     * @param node a {@link GNode} instance
+     *
+     * @return the connected component of the node, including the node itself, in breadth-first order
+     */
+    Set<GNode> getConnectedComponent(final GNode node);
+}
@@ -3,8 +3,8 @@
  */
 package io.github.eckig.grapheditor;
 
-import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -119,13 +119,14 @@ public class Commands
             final CompoundCommand command = new CompoundCommand();
             command.append(RemoveCommand.create(editingDomain, model, NODES, node));
 
-            final List<GConnection> connectionsToDelete = new ArrayList<>();
+            // the set removes connections from the node to itself without a linear lookup:
+            final Set<GConnection> connectionsToDelete = new LinkedHashSet<>();
 
             for (final GConnector connector : node.getConnectors())
             {
                 for (final GConnection connection : connector.getConnections())
                 {
-                    if (connection != null && !connectionsToDelete.contains(connection))
+                    if (connection != null)
                     {
                         connectionsToDelete.add(connection);
                     }
@@ -0,0 +1,28 @@
+/*
+ * Copyright (C) 2005 - 2014 by TESIS DYNAware GmbH
+ */
+package io.github.eckig.grapheditor;
+
+/**
+ * The level of detail skins should be rendered with, depending on how far the
+ * graph editor is zoomed out.
+ *
+ * @since 16.10.2026
+ */
+public enum DetailLevel
+{
+    /**
+     * Everything is rendered
+     */
+    FULL,
+    /**
+     * Joints and connectors are hidden, connections are drawn without
+     * intersection gaps or detours
+     */
+    REDUCED,
+    /**
+     * Like {@link #REDUCED}, additionally nodes are rendered as simple
+     * rectangles
+     */
+    MINIMAL;
+}
@@ -34,6 +34,32 @@ public abstract class GConnectionSkin extends GSkin<GConnection> {
      */
     private int mConnectionIndex;
 
+    /**
+     * Whether a skin class overrides {@link #update()}, in which case
+     * {@link #updateCoordinates()} has to go through it.
+     */
+    private static final ClassValue<Boolean> OVERRIDES_UPDATE = new ClassValue<>()
+    {
+
+        @Override
+        protected Boolean computeValue(final Class<?> pType)
+        {
+            try
+            {
+                return pType.getMethod("update").getDeclaringClass() != GConnectionSkin.class;
+            }
+            catch (final NoSuchMethodException e)
+            {
+                return Boolean.FALSE;
+            }
+        }
+    };
+
+    /**
+     * The coordinate buffer reused by every {@link #updateCoordinates()}
+     */
+    private double[] mCoordinates;
+
     /**
      * Creates a new {@link GConnectionSkin}.
      *
@@ -116,40 +142,102 @@ public abstract class GConnectionSkin extends GSkin<GConnection> {
      */
     public Point2D[] update()
     {
-        final GConnection item = getItem();
-        final SkinLookup skinLookup = getGraphEditor() == null ? null : getGraphEditor().getSkinLookup();
-        if (item == null || skinLookup == null)
+        final double[] coordinates = computeCoordinates();
+        if (coordinates == null)
         {
             return null;
         }
-        else if (item.getJoints().isEmpty())
+        constrainCoordinates(coordinates);
+        return GeometryUtils.toPoints(coordinates);
+    }
+
+    /**
+     * Allocation-free variant of {@link #update()}: Updates and returns the
+     * points of this connection as flat coordinates
+     * ({@code x0, y0, x1, y1, ...}, in the order described in
+     * {@link #update()}). A point that cannot be determined has
+     * {@link Double#NaN} coordinates.
+     *
+     * <p>
+     * The returned buffer is owned by this skin and reused by the next call,
+     * as long as the number of points does not change. It must not be
+     * modified by the caller.
+     * </p>
+     *
+     * <p>
+     * Skins that override {@link #update()} keep working: Their points are
+     * copied into the buffer. To avoid the {@link Point2D} allocations, such
+     * skins should override {@link #constrainCoordinates(double[])} instead.
+     * </p>
+     *
+     * @return the coordinates or {@code null}
+     * @since 16.10.2026
+     */
+    public double[] updateCoordinates()
+    {
+        if (OVERRIDES_UPDATE.get(getClass()))
         {
-            final Point2D[] points = new Point2D[2];
+            final Point2D[] points = update();
+            if (points == null)
+            {
+                return null;
+            }
+            mCoordinates = GeometryUtils.toCoordinates(points, mCoordinates);
+            return mCoordinates;
+        }
 
-            // Start: Source position
-            points[0] = GeometryUtils.getConnectorPosition(item.getSource(), skinLookup);
+        final double[] coordinates = computeCoordinates();
+        if (coordinates != null)
+        {
+            constrainCoordinates(coordinates);
+        }
+        return coordinates;
+    }
 
-            // End: Target position
-            points[1] = GeometryUtils.getConnectorPosition(item.getTarget(), skinLookup);
+    /**
+     * Applies constraints to the freshly computed coordinates of this
+     * connection during {@link #update()} and {@link #updateCoordinates()}.
+     * Does nothing by default.
+     *
+     * @param pCoordinates
+     *            the coordinates ({@code x0, y0, x1, y1, ...}) to modify in
+     *            place
+     * @since 16.10.2026
+     */
+    protected void constrainCoordinates(@SuppressWarnings("unused") final double[] pCoordinates)
+    {
+        // no constraints by default
+    }
 
-            return points;
+    /**
+     * Writes the source, joint and target positions into the reused
+     * coordinate buffer.
+     */
+    private double[] computeCoordinates()
+    {
+        final GConnection item = getItem();
+        final SkinLookup skinLookup = getGraphEditor() == null ? null : getGraphEditor().getSkinLookup();
+        if (item == null || skinLookup == null)
+        {
+            return null;
         }
-        else
+
+        final int pointCount = item.getJoints().size() + 2;
+        if (mCoordinates == null || mCoordinates.length != 2 * pointCount)
         {
-            final int len = item.getJoints().size() + 2;
-            final Point2D[] points = new Point2D[len];
+            mCoordinates = new double[2 * pointCount];
+        }
 
-            // Middle: joint positions
-            GeometryUtils.fillJointPositions(item, skinLookup, points);
+        // Middle: joint positions
+        GeometryUtils.fillJointPositions(item, skinLookup, mCoordinates);
 
-            // Start: Source position
-            points[0] = GeometryUtils.getConnectorPosition(item.getSource(), skinLookup);
+        // Start: Source position
+        GeometryUtils.fillConnectorPosition(item.getSource(), skinLookup, mCoordinates, 0);
 
-            // End: Target position
-            points[len - 1] = GeometryUtils.getConnectorPosition(item.getTarget(), skinLookup);
+        // End: Target position
+        GeometryUtils.fillConnectorPosition(item.getTarget(), skinLookup, mCoordinates, pointCount - 1);
 
-            return points;
-        }
+        return mCoordinates;
     }
 
     /**
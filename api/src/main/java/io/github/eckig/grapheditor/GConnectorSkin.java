@@ -4,6 +4,7 @@
 package io.github.eckig.grapheditor;
 
 import io.github.eckig.grapheditor.model.GConnector;
+import javafx.scene.Node;
 
 /**
  * The skin class for a {@link GConnector}. Responsible for visualizing connectors in the graph editor.
@@ -53,4 +54,19 @@ public abstract class GConnectorSkin extends GSkin<GConnector> {
      * @param style the {@link GConnectorStyle} to apply
      */
     public abstract void applyStyle(GConnectorStyle style);
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Connectors are only visible at {@link DetailLevel#FULL}.
+     * </p>
+     */
+    @Override
+    protected void detailLevelChanged(final DetailLevel detailLevel) {
+        final Node root = getRoot();
+        if (root != null) {
+            root.setVisible(detailLevel == DetailLevel.FULL);
+        }
+    }
 }
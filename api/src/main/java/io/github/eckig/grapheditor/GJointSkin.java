@@ -62,6 +62,18 @@ public abstract class GJointSkin extends GSkin<GJoint> {
         getRoot().setLayoutY(getItem().getY() - getHeight() / 2);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Joints are only visible at {@link DetailLevel#FULL}.
+     * </p>
+     */
+    @Override
+    protected void detailLevelChanged(final DetailLevel detailLevel) {
+        getRoot().setVisible(detailLevel == DetailLevel.FULL);
+    }
+
     /**
      * Gets the width of the joint.
      *
@@ -49,7 +49,8 @@ public abstract class GSkin<T extends EObject>
     };
 
     private GraphEditor graphEditor;
-    private final T item;
+    private T item;
+    private DetailLevel detailLevel = DetailLevel.FULL;
     private Consumer<GSkin<?>> onPositionMoved;
 
     /**
@@ -146,6 +147,50 @@ public abstract class GSkin<T extends EObject>
      */
     protected abstract void selectionChanged(final boolean isSelected);
 
+    /**
+     * Sets the level of detail this skin should be rendered with.
+     * <p>
+     * <b>Should not</b> be called directly, the level of detail is managed by
+     * the graph editor depending on the current zoom factor!
+     * </p>
+     *
+     * @param pDetailLevel
+     *            the new {@link DetailLevel}
+     * @since 16.10.2026
+     */
+    public final void setDetailLevel(final DetailLevel pDetailLevel)
+    {
+        final DetailLevel newLevel = pDetailLevel == null ? DetailLevel.FULL : pDetailLevel;
+        if (newLevel != detailLevel)
+        {
+            detailLevel = newLevel;
+            detailLevelChanged(newLevel);
+        }
+    }
+
+    /**
+     * @return the {@link DetailLevel} this skin should currently be rendered
+     *         with
+     * @since 16.10.2026
+     */
+    public DetailLevel getDetailLevel()
+    {
+        return detailLevel;
+    }
+
+    /**
+     * Is called whenever the level of detail has changed. Switching levels
+     * should be cheap, as it can happen during an ongoing zoom gesture.
+     *
+     * @param pDetailLevel
+     *            the new {@link DetailLevel}
+     * @since 16.10.2026
+     */
+    protected void detailLevelChanged(final DetailLevel pDetailLevel)
+    {
+        // no-op by default
+    }
+
     /**
      * Called after the skin is removed. Can be overridden for cleanup.
      */
@@ -160,6 +205,69 @@ public abstract class GSkin<T extends EObject>
         graphEditor = null;
     }
 
+    /**
+     * Gets whether this skin can be reused for another item of the same type
+     * after it has been {@link #dispose() disposed}.
+     *
+     * <p>
+     * Skins that return {@code true} must restore their initial state in
+     * {@link #reset()} and update all state derived from the item in
+     * {@link #itemChanged(EObject)}. The default is {@code false}.
+     * </p>
+     *
+     * @return {@code true} if this skin supports {@link #reset()} and
+     *         {@link #rebind(EObject)}
+     * @since 16.10.2026
+     */
+    public boolean isReusable()
+    {
+        return false;
+    }
+
+    /**
+     * Resets a {@link #dispose() disposed} skin to its initial state, before it
+     * is kept for later reuse. Only called if the skin is
+     * {@link #isReusable() reusable}.
+     *
+     * @since 16.10.2026
+     */
+    public void reset()
+    {
+        setSelected(false);
+    }
+
+    /**
+     * Binds a {@link #reset()} skin to a new item.
+     *
+     * <p>
+     * This method is called by the framework. Afterwards the skin is set up
+     * like a newly created skin.
+     * </p>
+     *
+     * @param pItem
+     *            the new item represented by this skin
+     * @since 16.10.2026
+     */
+    public final void rebind(final T pItem)
+    {
+        final T previous = item;
+        item = pItem;
+        itemChanged(previous);
+    }
+
+    /**
+     * Is called after the skin has been {@link #rebind(EObject) rebound} to a
+     * new item.
+     *
+     * @param pPreviousItem
+     *            the item previously represented by this skin
+     * @since 16.10.2026
+     */
+    protected void itemChanged(final T pPreviousItem)
+    {
+        // no-op by default
+    }
+
     /**
      * Gets the root JavaFX node of the skin.
      *
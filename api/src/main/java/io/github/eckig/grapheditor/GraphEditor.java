@@ -4,7 +4,9 @@
 package io.github.eckig.grapheditor;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import io.github.eckig.grapheditor.utils.GraphEditorProperties;
@@ -17,6 +19,7 @@ import io.github.eckig.grapheditor.model.GConnection;
 import io.github.eckig.grapheditor.model.GModel;
 import io.github.eckig.grapheditor.model.GNode;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.scene.layout.Region;
 
 
@@ -88,6 +91,31 @@ public interface GraphEditor extends GraphEditorSkins {
      */
     GModel getModel();
 
+    /**
+     * Sets the graph model to be edited without blocking the JavaFX application thread.
+     *
+     * <p>
+     * The model is validated and indexed on a background thread. Afterwards it is set as the current model and its
+     * skins are created in time-sliced chunks over several JavaFX pulses. The model must not be modified while it is
+     * being prepared.
+     * </p>
+     *
+     * @param model the {@link GModel} to be edited
+     * @return a {@link CompletableFuture} that completes on the JavaFX application thread once all skins have been
+     *         created
+     * @see #loadProgressProperty()
+     * @since 16.10.2026
+     */
+    CompletableFuture<GModel> loadModel(final GModel model);
+
+    /**
+     * The progress of the last {@link #loadModel(GModel) staged model load}, ranging from {@code 0} to {@code 1}.
+     *
+     * @return a read-only property containing the loading progress
+     * @since 16.10.2026
+     */
+    ReadOnlyDoubleProperty loadProgressProperty();
+
     /**
      * Reloads the graph model currently being edited.
      *
@@ -147,6 +175,31 @@ public interface GraphEditor extends GraphEditorSkins {
      */
     SkinLookup getSkinLookup();
 
+    /**
+     * Gets the id lookup.
+     *
+     * <p>
+     * The id lookup resolves the id of a model element to the element and its skin without searching the model.
+     * </p>
+     *
+     * @return an {@link IdLookup} used to lookup elements by their id
+     * @since 16.10.2026
+     */
+    IdLookup getIdLookup();
+
+    /**
+     * Gets the adjacency lookup.
+     *
+     * <p>
+     * The adjacency lookup navigates from a node to its connections and neighbouring nodes without walking through all
+     * of its connectors.
+     * </p>
+     *
+     * @return an {@link AdjacencyLookup} used to navigate the graph
+     * @since 16.10.2026
+     */
+    AdjacencyLookup getAdjacencyLookup();
+
     /**
      * Gets the selection manager.
      *
@@ -196,6 +249,22 @@ public interface GraphEditor extends GraphEditorSkins {
      */
     void setOnNodeRemoved(BiFunction<RemoveContext, GNode, Command> pOnNodeRemoved);
 
+    /**
+     * Sets a method to be called with the {@link ProcessingStatistics} of
+     * every processing pass, i.e. every time changes of the model are applied
+     * to the skins.
+     *
+     * <p>
+     * The statistics are only collected while such a method is set (or a
+     * processing budget is configured), so there is no overhead otherwise.
+     * </p>
+     *
+     * @param pOnProcessed
+     *            a {@link Consumer} receiving the statistics, or {@code null}
+     * @since 16.10.2026
+     */
+    void setOnProcessed(Consumer<ProcessingStatistics> pOnProcessed);
+
     /**
      * Deletes all elements that are currently selected.
      *
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2005 - 2014 by TESIS DYNAware GmbH
+ */
+package io.github.eckig.grapheditor;
+
+import org.eclipse.emf.ecore.EObject;
+
+import io.github.eckig.grapheditor.model.GConnection;
+import io.github.eckig.grapheditor.model.GConnector;
+import io.github.eckig.grapheditor.model.GJoint;
+import io.github.eckig.grapheditor.model.GNode;
+
+/**
+ * Provides lookup methods to find the model elements and their skins by their id.
+ *
+ * <p>
+ * Covers the {@link GNode nodes}, {@link GConnector connectors}, {@link GConnection connections} and {@link GJoint
+ * joints} of the current model. The index is updated whenever the editor processes model changes, so it is up to date
+ * once a command has been executed on the JavaFX Application Thread. It should only be accessed from the JavaFX
+ * Application Thread.
+ * </p>
+ *
+ * @since 16.10.2026
+ */
+public interface IdLookup {
+
+    /**
+     * Gets the element with the given id.
+     *
+     * <p>
+     * If several elements share the same id, the one added first is returned.
+     * </p>
+     *
+     * @param id an id
+     *
+     * @return the element with the given id, or {@code null} if there is none
+     */
+    EObject lookup(final String id);
+
+    /**
+     * Gets the element of the given type with the given id.
+     *
+     * @param id an id
+     * @param type the expected type, e.g. {@code GNode.class}
+     *
+     * @return the element with the given id, or {@code null} if there is none or it has another type
+     */
+    <T extends EObject> T lookup(final String id, final Class<T> type);
+
+    /**
+     * Gets the skin of the element with the given id.
+     *
+     * @param id an id
+     *
+     * @return the skin of the element with the given id, or {@code null} if there is no such element or it has no skin
+     *         (yet)
+     */
+    GSkin<?> lookupSkin(final String id);
+
+    /**
+     * Creates a new id that is not used by any element of the current model and has not been created before.
+     *
+     * @param prefix the prefix of the id, e.g. {@code "node-"} (may be {@code null})
+     *
+     * @return a new, unique id consisting of the prefix followed by a number
+     */
+    String createUniqueId(final String prefix);
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2005 - 2014 by TESIS DYNAware GmbH
+ */
+package io.github.eckig.grapheditor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Statistics of a single processing pass of the {@link GraphEditor}, i.e. one
+ * run that applies model changes to the skins and redraws the connections.
+ *
+ * @param notificationCount
+ *            the number of model notifications taken from the queue
+ * @param skinsCreated
+ *            the number of skins created for new nodes, connectors,
+ *            connections and joints
+ * @param skinsRemoved
+ *            the number of skins removed for removed nodes, connectors,
+ *            connections and joints
+ * @param connectorUpdates
+ *            the number of nodes whose connector skins were updated
+ * @param jointUpdates
+ *            the number of connections whose joint skins were updated
+ * @param connectionsDrawn
+ *            the number of connections drawn again
+ * @param totalNanos
+ *            the duration of the whole pass
+ * @param connectionLayoutNanos
+ *            the part of the duration spent updating and drawing connections
+ * @param intersectionNanos
+ *            the part of the connection drawing spent finding intersections
+ *            between connections
+ * @see GraphEditor#setOnProcessed(java.util.function.Consumer)
+ * @since 16.10.2026
+ */
+public record ProcessingStatistics(int notificationCount, int skinsCreated, int skinsRemoved, int connectorUpdates,
+        int jointUpdates, int connectionsDrawn, long totalNanos, long connectionLayoutNanos, long intersectionNanos)
+{
+
+    /**
+     * @return the duration of the whole pass in milliseconds
+     */
+    public double totalMillis()
+    {
+        return totalNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -3,7 +3,11 @@
  */
 package io.github.eckig.grapheditor;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.emf.ecore.EObject;
 
@@ -77,6 +81,45 @@ public interface SelectionManager {
      * @param object The object to attempt to select in the underlying data model.
      */
     void select(EObject object);
+
+    /**
+     * Selects all of the given objects.
+     *
+     * <p>
+     * Objects that are already selected are ignored. Implementations may apply the whole change in one step and update
+     * the skins of the newly selected objects afterwards, which is much cheaper than calling {@link #select(EObject)}
+     * for every object. In that case an {@link javafx.beans.InvalidationListener} of {@link #getSelectedItems()} is
+     * notified only once, while a {@link javafx.collections.SetChangeListener} still receives one change per object.
+     * </p>
+     *
+     * @param objects the objects to select
+     * @since 16.10.2026
+     */
+    default void select(final Collection<? extends EObject> objects) {
+        for (final EObject object : objects) {
+            select(object);
+        }
+    }
+
+    /**
+     * Replaces the current selection with the given objects.
+     *
+     * <p>
+     * Only objects whose selection state actually changes are selected / de-selected.
+     * </p>
+     *
+     * @param objects the objects that should be selected afterwards
+     * @since 16.10.2026
+     */
+    default void replaceSelection(final Collection<? extends EObject> objects) {
+        final Set<EObject> keep = new HashSet<>(objects);
+        for (final EObject selected : new ArrayList<>(getSelectedItems())) {
+            if (!keep.contains(selected)) {
+                clearSelection(selected);
+            }
+        }
+        select(objects);
+    }
     
     /**
      * Selects all selectable elements (nodes, joints, and connections) in the graph editor.
@@ -61,6 +61,38 @@ public class GeometryUtils {
         return new Point2D(moveOnPixel(nodeX + connectorX), moveOnPixel(nodeY + connectorY));
     }
 
+    /**
+     * Writes the position of the <b>center</b> of a connector in the coordinate system of the view into a flat
+     * coordinate buffer, without allocating a {@link Point2D} for it.
+     *
+     * @param connector the {@link GConnector} whose position is desired
+     * @param skinLookup the {@link SkinLookup} instance for this graph editor
+     * @param pTarget the coordinate buffer ({@code x0, y0, x1, y1, ...})
+     * @param pPointIndex the index of the point to write, i.e. {@code x} is written to {@code 2 * pPointIndex}
+     * @return {@code true} if the position was written, {@code false} if the connector isn't attached to a node, in
+     *         which case both coordinates are set to {@link Double#NaN}
+     * @see #getConnectorPosition(GConnector, SkinLookup)
+     * @since 16.10.2026
+     */
+    public static boolean fillConnectorPosition(final GConnector connector, final SkinLookup skinLookup,
+            final double[] pTarget, final int pPointIndex)
+    {
+        final GNodeSkin nodeSkin = connector == null ? null : skinLookup.lookupNode(connector.getParent());
+        if (nodeSkin == null)
+        {
+            pTarget[2 * pPointIndex] = Double.NaN;
+            pTarget[2 * pPointIndex + 1] = Double.NaN;
+            return false;
+        }
+
+        nodeSkin.layoutConnectors();
+
+        final Point2D connectorPosition = nodeSkin.getConnectorPosition(skinLookup.lookupConnector(connector));
+        pTarget[2 * pPointIndex] = moveOnPixel(nodeSkin.getRoot().getLayoutX() + connectorPosition.getX());
+        pTarget[2 * pPointIndex + 1] = moveOnPixel(nodeSkin.getRoot().getLayoutY() + connectorPosition.getY());
+        return true;
+    }
+
     /**
      * Gets the position of the cursor relative to some node.
      *
@@ -127,6 +159,36 @@ public class GeometryUtils {
         }
     }
 
+    /**
+     * Writes the layout x and y values of all joints within a connection into
+     * a flat coordinate buffer, starting at the second point (the first point
+     * is reserved for the source position).
+     *
+     * <p>
+     * Uses the JavaFX properties of the skins, not the model values, like
+     * {@link #fillJointPositions(GConnection, SkinLookup, Point2D[])}.
+     * </p>
+     *
+     * @param connection
+     *            the {@link GConnection} for which the positions are desired
+     * @param skinLookup
+     *            the {@link SkinLookup} instance for this graph editor
+     * @param pTarget
+     *            the coordinate buffer ({@code x0, y0, x1, y1, ...})
+     * @since 16.10.2026
+     */
+    public static void fillJointPositions(final GConnection connection, final SkinLookup skinLookup, final double[] pTarget)
+    {
+        final List<GJoint> joints = connection.getJoints();
+        for (int i = 0; i < joints.size(); i++)
+        {
+            final GJointSkin jointSkin = skinLookup.lookupJoint(joints.get(i));
+            final Region region = jointSkin.getRoot();
+            pTarget[2 * i + 2] = region.getLayoutX() + jointSkin.getWidth() / 2;
+            pTarget[2 * i + 3] = region.getLayoutY() + jointSkin.getHeight() / 2;
+        }
+    }
+
     /**
      * Gets the layout x and y values from all joints within a connection.
      *
@@ -198,6 +260,62 @@ public class GeometryUtils {
         return jointPositions;
     }
 
+    /**
+     * Converts a flat coordinate buffer into points.
+     *
+     * @param pCoordinates
+     *            the coordinates ({@code x0, y0, x1, y1, ...}), a point with
+     *            {@link Double#NaN} coordinates is converted to {@code null}
+     * @return the points or {@code null} if the given coordinates are
+     *         {@code null}
+     * @since 16.10.2026
+     */
+    public static Point2D[] toPoints(final double[] pCoordinates)
+    {
+        if (pCoordinates == null)
+        {
+            return null;
+        }
+        final Point2D[] points = new Point2D[pCoordinates.length / 2];
+        for (int i = 0; i < points.length; i++)
+        {
+            final double x = pCoordinates[2 * i];
+            final double y = pCoordinates[2 * i + 1];
+            points[i] = Double.isNaN(x) || Double.isNaN(y) ? null : new Point2D(x, y);
+        }
+        return points;
+    }
+
+    /**
+     * Converts points into a flat coordinate buffer.
+     *
+     * @param pPoints
+     *            the points, {@code null} points are converted to
+     *            {@link Double#NaN} coordinates
+     * @param pTarget
+     *            a buffer to reuse if it has the right size (may be
+     *            {@code null})
+     * @return the coordinates ({@code x0, y0, x1, y1, ...}) or {@code null}
+     *         if the given points are {@code null}
+     * @since 16.10.2026
+     */
+    public static double[] toCoordinates(final Point2D[] pPoints, final double[] pTarget)
+    {
+        if (pPoints == null)
+        {
+            return null;
+        }
+        final double[] coordinates = pTarget != null && pTarget.length == 2 * pPoints.length ? pTarget
+                : new double[2 * pPoints.length];
+        for (int i = 0; i < pPoints.length; i++)
+        {
+            final Point2D point = pPoints[i];
+            coordinates[2 * i] = point == null ? Double.NaN : point.getX();
+            coordinates[2 * i + 1] = point == null ? Double.NaN : point.getY();
+        }
+        return coordinates;
+    }
+
     /**
      * Moves an x or y position value on-pixel.
      *
@@ -2,6 +2,7 @@ package io.github.eckig.grapheditor.window;
 
 import io.github.eckig.grapheditor.model.GNode;
 import javafx.scene.Node;
+import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 
 /**
@@ -73,4 +74,92 @@ public interface IMinimapRenderer<N extends Node>
             pNode.setHeight(pHeight);
         }
     }
+
+    /**
+     * Renderer for very large models: No minimap node is created per
+     * {@link GNode}. Instead the whole model is rendered from its plain model
+     * coordinates into a single image on a background thread, which is swapped
+     * in when done. While the model is edited, the image is re-rendered at
+     * most once per {@link #getThrottleMillis() throttle interval}.
+     *
+     * @since 16.10.2026
+     */
+    class RasterMinimapRenderer implements IMinimapRenderer<Rectangle>
+    {
+
+        private Color nodeColor = Color.web("#9a9a9a"); //$NON-NLS-1$
+        private Color selectedNodeColor = Color.web("#1f6fbf"); //$NON-NLS-1$
+        private long throttleMillis = 250;
+
+        @Override
+        public Rectangle createMinimapNode(final GNode pNode)
+        {
+            // everything is rendered into one image
+            return null;
+        }
+
+        @Override
+        public Class<Rectangle> getType()
+        {
+            return Rectangle.class;
+        }
+
+        @Override
+        public void resizeRelocate(final Rectangle pNode, final double pX, final double pY, final double pWidth,
+                final double pHeight)
+        {
+            // everything is rendered into one image
+        }
+
+        /**
+         * @return the {@link Color} to fill the nodes with
+         */
+        public Color getNodeColor()
+        {
+            return nodeColor;
+        }
+
+        /**
+         * @param pNodeColor
+         *         the {@link Color} to fill the nodes with
+         */
+        public void setNodeColor(final Color pNodeColor)
+        {
+            nodeColor = pNodeColor;
+        }
+
+        /**
+         * @return the {@link Color} to fill the selected nodes with
+         */
+        public Color getSelectedNodeColor()
+        {
+            return selectedNodeColor;
+        }
+
+        /**
+         * @param pSelectedNodeColor
+         *         the {@link Color} to fill the selected nodes with
+         */
+        public void setSelectedNodeColor(final Color pSelectedNodeColor)
+        {
+            selectedNodeColor = pSelectedNodeColor;
+        }
+
+        /**
+         * @return the minimum time between two renderings in milliseconds
+         */
+        public long getThrottleMillis()
+        {
+            return throttleMillis;
+        }
+
+        /**
+         * @param pThrottleMillis
+         *         the minimum time between two renderings in milliseconds
+         */
+        public void setThrottleMillis(final long pThrottleMillis)
+        {
+            throttleMillis = pThrottleMillis;
+        }
+    }
 }
@@ -3,19 +3,30 @@
  */
 package io.github.eckig.grapheditor.window;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+
 import io.github.eckig.grapheditor.SelectionManager;
 import io.github.eckig.grapheditor.model.GConnection;
 import io.github.eckig.grapheditor.model.GConnector;
 import io.github.eckig.grapheditor.model.GJoint;
 import io.github.eckig.grapheditor.model.GModel;
 import io.github.eckig.grapheditor.model.GNode;
+import io.github.eckig.grapheditor.model.GraphPackage;
 import javafx.beans.InvalidationListener;
 import javafx.beans.WeakInvalidationListener;
 import javafx.beans.property.ObjectProperty;
@@ -40,12 +51,37 @@ import javafx.scene.paint.Color;
  * {@link GModel}. This group of mini-nodes is then displayed inside the
  * {@link GraphEditorMinimap}.
  * </p>
+ *
+ * <p>
+ * The minimap is updated incrementally: The notifications of the model, its
+ * nodes, connections and joints that affect the minimap are queued and
+ * processed by {@link #update()}. Only the minimap nodes of added, removed,
+ * moved or resized {@link GNode nodes} are touched, and only the regions of
+ * the connection canvas covered by changed connections are repainted.
+ * </p>
+ *
+ * <p>
+ * With an {@link IMinimapRenderer.RasterMinimapRenderer} no minimap node is
+ * created at all. The whole model is rendered into one image by a
+ * {@link MinimapRaster} instead.
+ * </p>
  */
 class MinimapNodeGroup extends Parent
 {
 
     private static final PseudoClass PSEUDO_CLASS_SELECTED = PseudoClass.getPseudoClass("selected"); //$NON-NLS-1$
 
+    /**
+     * When more regions of the canvas are dirty, the whole canvas is repainted
+     */
+    private static final int MAX_DIRTY_REGIONS = 32;
+
+    /**
+     * When more notifications are queued, the queue is dropped and the next
+     * {@link #update()} draws everything again
+     */
+    private static final int MAX_QUEUED_NOTIFICATIONS = 4096;
+
     private final InvalidationListener checkSelectionListener = obs -> checkSelection();
     private final InvalidationListener checkSelectionWeakListener = new WeakInvalidationListener(checkSelectionListener);
 
@@ -54,6 +90,16 @@ class MinimapNodeGroup extends Parent
 
     private final Map<GNode, Node> nodes = new HashMap<>();
 
+    private final ModelChangeAdapter modelChangeAdapter = new ModelChangeAdapter();
+    private final Set<GNode> dirtyNodes = new HashSet<>();
+    private final Set<GConnection> dirtyConnections = new HashSet<>();
+
+    /**
+     * The connection paths as painted on the canvas, in minimap coordinates
+     */
+    private final Map<GConnection, ConnectionPath> paths = new HashMap<>();
+    private boolean fullRepaint = true;
+
     private IMinimapRenderer<?> minimapRenderer = new IMinimapRenderer.DefaultMinimapRenderer();
     private Predicate<GConnection> connectionFilter = c -> true;
 
@@ -61,6 +107,7 @@ class MinimapNodeGroup extends Parent
     private double height = -1;
     private double scaleFactor = -1;
     private final Canvas canvas = new Canvas();
+    private final MinimapRaster raster = new MinimapRaster(this::createRasterSnapshot);
 
     private final StyleableObjectProperty<Color> connectionColor = new StyleableObjectProperty<>(Color.GRAY)
     {
@@ -82,6 +129,14 @@ class MinimapNodeGroup extends Parent
         {
             return StyleableProperties.CONNECTION_COLOR;
         }
+
+        @Override
+        protected void invalidated()
+        {
+            fullRepaint = true;
+            requestLayout();
+            requestRasterRender();
+        }
     };
 
     /**
@@ -127,11 +182,23 @@ class MinimapNodeGroup extends Parent
      */
     public void setModel(final GModel pModel)
     {
+        if (model != null)
+        {
+            modelChangeAdapter.detachModel(model);
+        }
+
         model = pModel;
+        modelChangeAdapter.clear();
+
+        if (model != null)
+        {
+            modelChangeAdapter.attachModel(model);
+        }
     }
 
     private void checkSelection()
     {
+        requestRasterRender();
         for (final Map.Entry<GNode, Node> entry : nodes.entrySet())
         {
             entry.getValue().pseudoClassStateChanged(PSEUDO_CLASS_SELECTED, isSelected(entry.getKey()));
@@ -159,6 +226,9 @@ class MinimapNodeGroup extends Parent
     public void setConnectionFilter(final Predicate<GConnection> pConnectionFilter)
     {
         connectionFilter = pConnectionFilter;
+        fullRepaint = true;
+        requestLayout();
+        requestRasterRender();
     }
 
     /**
@@ -233,12 +303,17 @@ class MinimapNodeGroup extends Parent
 
     private void redraw()
     {
-        if (nodes.isEmpty())
+        if (isRasterMode())
+        {
+            requestRasterRender();
+        }
+        else if (nodes.isEmpty())
         {
             draw();
         }
         else
         {
+            fullRepaint = true;
             requestLayout();
         }
     }
@@ -254,6 +329,20 @@ class MinimapNodeGroup extends Parent
         {
             getChildren().remove(1, getChildren().size());
         }
+        modelChangeAdapter.clear();
+        dirtyNodes.clear();
+        dirtyConnections.clear();
+        fullRepaint = true;
+
+        if (isRasterMode())
+        {
+            canvas.setVisible(false);
+            getChildren().add(raster.getImageView());
+            raster.requestRender(0);
+            return;
+        }
+        raster.cancel();
+        canvas.setVisible(true);
 
         if (width == -1 || height == -1 || scaleFactor == -1 || minimapRenderer == null)
         {
@@ -264,13 +353,7 @@ class MinimapNodeGroup extends Parent
         {
             for (int i = 0; i < model.getNodes().size(); i++)
             {
-                final GNode node = model.getNodes().get(i);
-                final Node minimapNode = minimapRenderer == null ? null : minimapRenderer.createMinimapNode(node);
-                if (minimapNode != null)
-                {
-                    getChildren().add(minimapNode);
-                    nodes.put(node, minimapNode);
-                }
+                addNode(model.getNodes().get(i));
             }
             checkSelection();
         }
@@ -278,81 +361,371 @@ class MinimapNodeGroup extends Parent
         requestLayout();
     }
 
+    /**
+     * Applies all model changes since the last call to the minimap. Only the
+     * changed nodes and connections are updated.
+     *
+     * @since 16.10.2026
+     */
+    public void update()
+    {
+        if (isRasterMode())
+        {
+            modelChangeAdapter.clear();
+            requestRasterRender();
+            return;
+        }
+
+        if (nodes.isEmpty() || minimapRenderer == null || modelChangeAdapter.overflowed)
+        {
+            // nothing drawn yet or too many changes to apply them one by one
+            draw();
+            return;
+        }
+
+        Notification n;
+        while ((n = modelChangeAdapter.queue.poll()) != null)
+        {
+            processNotification(n);
+        }
+
+        if (!dirtyNodes.isEmpty() || !dirtyConnections.isEmpty())
+        {
+            requestLayout();
+        }
+    }
+
+    private void processNotification(final Notification pNotification)
+    {
+        final Object feature = pNotification.getFeature();
+        final Object notifier = pNotification.getNotifier();
+        if (feature == GraphPackage.Literals.GMODEL__NODES)
+        {
+            forEachValue(pNotification.getOldValue(), GNode.class, this::removeNode);
+            forEachValue(pNotification.getNewValue(), GNode.class, node ->
+            {
+                if (addNode(node) != null)
+                {
+                    node.getConnectors().forEach(c -> dirtyConnections.addAll(c.getConnections()));
+                }
+            });
+        }
+        else if (feature == GraphPackage.Literals.GMODEL__CONNECTIONS)
+        {
+            forEachValue(pNotification.getOldValue(), GConnection.class, dirtyConnections::add);
+            forEachValue(pNotification.getNewValue(), GConnection.class, dirtyConnections::add);
+        }
+        else if (notifier instanceof GNode node)
+        {
+            if (feature == GraphPackage.Literals.GNODE__TYPE)
+            {
+                // the type is part of the style classes:
+                removeNode(node);
+                addNode(node);
+            }
+            else if (feature == GraphPackage.Literals.GNODE__CONNECTORS)
+            {
+                forEachValue(pNotification.getOldValue(), GConnector.class, c -> dirtyConnections.addAll(c.getConnections()));
+                forEachValue(pNotification.getNewValue(), GConnector.class, c -> dirtyConnections.addAll(c.getConnections()));
+            }
+            else if (feature == GraphPackage.Literals.GNODE__X || feature == GraphPackage.Literals.GNODE__Y
+                    || feature == GraphPackage.Literals.GNODE__WIDTH || feature == GraphPackage.Literals.GNODE__HEIGHT)
+            {
+                if (nodes.containsKey(node))
+                {
+                    dirtyNodes.add(node);
+                }
+                node.getConnectors().forEach(c -> dirtyConnections.addAll(c.getConnections()));
+            }
+        }
+        else if (notifier instanceof GConnection connection)
+        {
+            dirtyConnections.add(connection);
+        }
+        else if (notifier instanceof GJoint joint && joint.getConnection() != null)
+        {
+            dirtyConnections.add(joint.getConnection());
+        }
+    }
+
+    private static <T> void forEachValue(final Object pValue, final Class<T> pType, final Consumer<T> pConsumer)
+    {
+        if (pType.isInstance(pValue))
+        {
+            pConsumer.accept(pType.cast(pValue));
+        }
+        else if (pValue instanceof Collection<?> values)
+        {
+            for (final Object value : values)
+            {
+                if (pType.isInstance(value))
+                {
+                    pConsumer.accept(pType.cast(value));
+                }
+            }
+        }
+    }
+
+    private Node addNode(final GNode pNode)
+    {
+        final Node minimapNode = minimapRenderer == null ? null : minimapRenderer.createMinimapNode(pNode);
+        if (minimapNode != null)
+        {
+            getChildren().add(minimapNode);
+            nodes.put(pNode, minimapNode);
+            minimapNode.pseudoClassStateChanged(PSEUDO_CLASS_SELECTED, isSelected(pNode));
+            dirtyNodes.add(pNode);
+        }
+        return minimapNode;
+    }
+
+    private void removeNode(final GNode pNode)
+    {
+        final Node minimapNode = nodes.remove(pNode);
+        if (minimapNode != null)
+        {
+            getChildren().remove(minimapNode);
+        }
+        dirtyNodes.remove(pNode);
+    }
+
+    private boolean isRasterMode()
+    {
+        return minimapRenderer instanceof IMinimapRenderer.RasterMinimapRenderer;
+    }
+
+    private void requestRasterRender()
+    {
+        if (minimapRenderer instanceof IMinimapRenderer.RasterMinimapRenderer rasterRenderer)
+        {
+            raster.requestRender(rasterRenderer.getThrottleMillis());
+        }
+    }
+
+    /**
+     * Copies the current model state for the {@link MinimapRaster}.
+     *
+     * @return the {@link MinimapRaster.Snapshot} or {@code null} if there is
+     *         nothing to render
+     */
+    private MinimapRaster.Snapshot createRasterSnapshot()
+    {
+        if (!(minimapRenderer instanceof IMinimapRenderer.RasterMinimapRenderer rasterRenderer) || model == null
+                || width < 1 || height < 1 || scaleFactor <= 0)
+        {
+            return null;
+        }
+
+        final double[] nodeBounds = new double[4 * model.getNodes().size()];
+        final boolean[] selected = new boolean[model.getNodes().size()];
+        for (int i = 0; i < model.getNodes().size(); i++)
+        {
+            final GNode node = model.getNodes().get(i);
+            nodeBounds[4 * i] = Math.round(node.getX() * scaleFactor);
+            nodeBounds[4 * i + 1] = Math.round(node.getY() * scaleFactor);
+            nodeBounds[4 * i + 2] = Math.round(node.getWidth() * scaleFactor);
+            nodeBounds[4 * i + 3] = Math.round(node.getHeight() * scaleFactor);
+            selected[i] = isSelected(node);
+        }
+
+        final List<double[]> connectionPaths = new ArrayList<>(model.getConnections().size());
+        for (int i = 0; i < model.getConnections().size(); i++)
+        {
+            final ConnectionPath path = computePath(model.getConnections().get(i));
+            if (path != null)
+            {
+                connectionPaths.add(path.points);
+            }
+        }
+
+        return new MinimapRaster.Snapshot((int) Math.ceil(width), (int) Math.ceil(height), nodeBounds, selected,
+                connectionPaths, MinimapRaster.toArgb(rasterRenderer.getNodeColor()),
+                MinimapRaster.toArgb(rasterRenderer.getSelectedNodeColor()),
+                MinimapRaster.toArgb(connectionColor.get()));
+    }
+
     @Override
     protected void layoutChildren()
     {
-        if (width < 1 || height < 1 || minimapRenderer == null)
+        if (width < 1 || height < 1 || minimapRenderer == null || isRasterMode())
         {
             return;
         }
 
+        if (fullRepaint || canvas.getWidth() != width || canvas.getHeight() != height)
+        {
+            repaintAll();
+            for (final Map.Entry<GNode, Node> entry : nodes.entrySet())
+            {
+                resizeRelocate(entry.getKey(), entry.getValue(), minimapRenderer);
+            }
+        }
+        else
+        {
+            repaintDirtyConnections();
+            for (final GNode node : dirtyNodes)
+            {
+                resizeRelocate(node, nodes.get(node), minimapRenderer);
+            }
+        }
+
+        fullRepaint = false;
+        dirtyNodes.clear();
+        dirtyConnections.clear();
+    }
+
+    private void repaintAll()
+    {
         final GraphicsContext gc = canvas.getGraphicsContext2D();
         gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
 
         canvas.setWidth(width);
         canvas.setHeight(height);
 
-        gc.beginPath();
-        gc.setStroke(connectionColor.get());
-        gc.setLineWidth(1);
-
+        paths.clear();
         if (model != null)
         {
             for (int i = 0; i < model.getConnections().size(); i++)
             {
                 final GConnection conn = model.getConnections().get(i);
-                if (connectionFilter != null && !connectionFilter.test(conn))
+                final ConnectionPath path = computePath(conn);
+                if (path != null)
                 {
-                    continue;
+                    paths.put(conn, path);
                 }
+            }
+        }
+
+        gc.setStroke(connectionColor.get());
+        gc.setLineWidth(1);
+        gc.beginPath();
+        for (final ConnectionPath path : paths.values())
+        {
+            path.trace(gc);
+        }
+        gc.stroke();
+    }
 
-                final GConnector source = conn.getSource();
-                final GNode parentSource = source.getParent();
+    private void repaintDirtyConnections()
+    {
+        if (dirtyConnections.isEmpty())
+        {
+            return;
+        }
 
-                double x = scaleSharp(source.getX() + parentSource.getX() - 10, scaleFactor),
-                        y = scaleSharp(source.getY() + parentSource.getY(), scaleFactor);
-                gc.moveTo(x, y);
+        final List<ConnectionPath> regions = new ArrayList<>();
+        for (final GConnection conn : dirtyConnections)
+        {
+            final ConnectionPath oldPath = paths.remove(conn);
+            if (oldPath != null)
+            {
+                regions.add(oldPath);
+            }
+
+            final ConnectionPath newPath = conn.eContainer() == model ? computePath(conn) : null;
+            if (newPath != null)
+            {
+                paths.put(conn, newPath);
+                regions.add(newPath);
+            }
+        }
+
+        if (regions.size() > MAX_DIRTY_REGIONS)
+        {
+            repaintAll();
+            return;
+        }
 
-                for (int j = 0; j <= conn.getJoints().size(); j++)
+        final GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setStroke(connectionColor.get());
+        gc.setLineWidth(1);
+        for (final ConnectionPath region : regions)
+        {
+            // the line width extends half a pixel beyond the path:
+            final double minX = region.minX - 1;
+            final double minY = region.minY - 1;
+            final double w = region.maxX - region.minX + 2;
+            final double h = region.maxY - region.minY + 2;
+
+            gc.save();
+            gc.beginPath();
+            gc.rect(minX, minY, w, h);
+            gc.clip();
+            gc.clearRect(minX, minY, w, h);
+            gc.beginPath();
+            for (final ConnectionPath path : paths.values())
+            {
+                if (path.intersects(minX, minY, minX + w, minY + h))
                 {
-                    final double newX;
-                    final double newY;
-                    if (j < conn.getJoints().size())
-                    {
-                        final GJoint joint = conn.getJoints().get(j);
-                        newX = scaleSharp(joint.getX(), scaleFactor);
-                        newY = scaleSharp(joint.getY(), scaleFactor);
-                    }
-                    else
-                    {
-                        final GConnector target = conn.getTarget();
-                        final GNode parentTarget = target.getParent();
-                        newX = scaleSharp(target.getX() + parentTarget.getX(), scaleFactor);
-                        newY = scaleSharp(target.getY() + parentTarget.getY(), scaleFactor);
-                    }
-
-                    // only draw direct rectangular and sharp lines:
-                    if (Math.abs(newX - x) < Math.abs(newY - y))
-                    {
-                        gc.lineTo(x, newY);
-                    }
-                    else
-                    {
-                        gc.lineTo(newX, y);
-                    }
-
-                    x = newX;
-                    y = newY;
+                    path.trace(gc);
                 }
+            }
+            gc.stroke();
+            gc.restore();
+        }
+    }
+
+    /**
+     * Computes the rectangular path of the given connection in minimap
+     * coordinates.
+     *
+     * @return the {@link ConnectionPath} or {@code null} if the connection is
+     *         not painted
+     */
+    private ConnectionPath computePath(final GConnection conn)
+    {
+        if (connectionFilter != null && !connectionFilter.test(conn))
+        {
+            return null;
+        }
 
-                gc.stroke();
+        final GConnector source = conn.getSource();
+        final GConnector target = conn.getTarget();
+        if (source == null || target == null || source.getParent() == null || target.getParent() == null)
+        {
+            return null;
+        }
+
+        final GNode parentSource = source.getParent();
+        final double[] points = new double[2 * (conn.getJoints().size() + 2)];
+        double x = scaleSharp(source.getX() + parentSource.getX() - 10, scaleFactor),
+                y = scaleSharp(source.getY() + parentSource.getY(), scaleFactor);
+        points[0] = x;
+        points[1] = y;
+
+        for (int j = 0; j <= conn.getJoints().size(); j++)
+        {
+            final double newX;
+            final double newY;
+            if (j < conn.getJoints().size())
+            {
+                final GJoint joint = conn.getJoints().get(j);
+                newX = scaleSharp(joint.getX(), scaleFactor);
+                newY = scaleSharp(joint.getY(), scaleFactor);
+            }
+            else
+            {
+                final GNode parentTarget = target.getParent();
+                newX = scaleSharp(target.getX() + parentTarget.getX(), scaleFactor);
+                newY = scaleSharp(target.getY() + parentTarget.getY(), scaleFactor);
             }
 
-            for (final Map.Entry<GNode, Node> entry : nodes.entrySet())
+            // only draw direct rectangular and sharp lines:
+            if (Math.abs(newX - x) < Math.abs(newY - y))
             {
-                resizeRelocate(entry.getKey(), entry.getValue(), minimapRenderer);
+                points[2 * j + 2] = x;
+                points[2 * j + 3] = newY;
+            }
+            else
+            {
+                points[2 * j + 2] = newX;
+                points[2 * j + 3] = y;
             }
+
+            x = newX;
+            y = newY;
         }
+        return new ConnectionPath(points);
     }
 
     private <N extends Node> void resizeRelocate(final GNode node, final Node rendered,
@@ -368,6 +741,166 @@ class MinimapNodeGroup extends Parent
         }
     }
 
+    /**
+     * The painted points of one connection and their bounding box.
+     */
+    private static final class ConnectionPath
+    {
+
+        private final double[] points;
+        private final double minX;
+        private final double minY;
+        private final double maxX;
+        private final double maxY;
+
+        private ConnectionPath(final double[] pPoints)
+        {
+            points = pPoints;
+            double x1 = Double.POSITIVE_INFINITY, y1 = Double.POSITIVE_INFINITY;
+            double x2 = Double.NEGATIVE_INFINITY, y2 = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < points.length; i += 2)
+            {
+                x1 = Math.min(x1, points[i]);
+                y1 = Math.min(y1, points[i + 1]);
+                x2 = Math.max(x2, points[i]);
+                y2 = Math.max(y2, points[i + 1]);
+            }
+            minX = x1;
+            minY = y1;
+            maxX = x2;
+            maxY = y2;
+        }
+
+        private boolean intersects(final double pMinX, final double pMinY, final double pMaxX, final double pMaxY)
+        {
+            return maxX >= pMinX && minX <= pMaxX && maxY >= pMinY && minY <= pMaxY;
+        }
+
+        private void trace(final GraphicsContext gc)
+        {
+            gc.moveTo(points[0], points[1]);
+            for (int i = 2; i < points.length; i += 2)
+            {
+                gc.lineTo(points[i], points[i + 1]);
+            }
+        }
+    }
+
+    /**
+     * Queues the notifications of the model and of its nodes, connections and
+     * joints that affect the minimap, they are processed by
+     * {@link MinimapNodeGroup#update()}.
+     *
+     * <p>
+     * Unlike an {@link org.eclipse.emf.ecore.util.EContentAdapter}, this
+     * adapter is not attached to connectors, and notifications of features
+     * the minimap does not draw are dropped right away. Added and removed
+     * elements are attached and detached as soon as they are notified, so
+     * nothing is missed while the queue is not processed.
+     * </p>
+     */
+    private static final class ModelChangeAdapter extends AdapterImpl
+    {
+
+        private final Deque<Notification> queue = new ArrayDeque<>();
+        private boolean overflowed;
+
+        @Override
+        public void notifyChanged(final Notification pNotification)
+        {
+            if (pNotification.isTouch() || !isHandled(pNotification.getFeature()))
+            {
+                return;
+            }
+
+            final Object feature = pNotification.getFeature();
+            if (feature == GraphPackage.Literals.GMODEL__NODES || feature == GraphPackage.Literals.GMODEL__CONNECTIONS
+                    || feature == GraphPackage.Literals.GCONNECTION__JOINTS)
+            {
+                forEachValue(pNotification.getOldValue(), Notifier.class, this::detachElement);
+                forEachValue(pNotification.getNewValue(), Notifier.class, this::attachElement);
+            }
+
+            if (overflowed)
+            {
+                return;
+            }
+            if (queue.size() >= MAX_QUEUED_NOTIFICATIONS)
+            {
+                queue.clear();
+                overflowed = true;
+                return;
+            }
+            queue.add(pNotification);
+        }
+
+        @Override
+        public boolean isAdapterForType(final Object pType)
+        {
+            return pType == ModelChangeAdapter.class;
+        }
+
+        void clear()
+        {
+            queue.clear();
+            overflowed = false;
+        }
+
+        void attachModel(final GModel pModel)
+        {
+            attach(pModel);
+            pModel.getNodes().forEach(this::attach);
+            pModel.getConnections().forEach(this::attachElement);
+        }
+
+        void detachModel(final GModel pModel)
+        {
+            pModel.eAdapters().remove(this);
+            pModel.getNodes().forEach(this::detachElement);
+            pModel.getConnections().forEach(this::detachElement);
+        }
+
+        private void attachElement(final Notifier pElement)
+        {
+            attach(pElement);
+            if (pElement instanceof GConnection connection)
+            {
+                connection.getJoints().forEach(this::attach);
+            }
+        }
+
+        private void detachElement(final Notifier pElement)
+        {
+            pElement.eAdapters().remove(this);
+            if (pElement instanceof GConnection connection)
+            {
+                connection.getJoints().forEach(j -> j.eAdapters().remove(this));
+            }
+        }
+
+        private void attach(final Notifier pElement)
+        {
+            // only scans the few adapters of the element itself:
+            if (!pElement.eAdapters().contains(this))
+            {
+                pElement.eAdapters().add(this);
+            }
+        }
+
+        private static boolean isHandled(final Object pFeature)
+        {
+            return pFeature == GraphPackage.Literals.GMODEL__NODES || pFeature == GraphPackage.Literals.GMODEL__CONNECTIONS
+                    || pFeature == GraphPackage.Literals.GNODE__X || pFeature == GraphPackage.Literals.GNODE__Y
+                    || pFeature == GraphPackage.Literals.GNODE__WIDTH || pFeature == GraphPackage.Literals.GNODE__HEIGHT
+                    || pFeature == GraphPackage.Literals.GNODE__TYPE
+                    || pFeature == GraphPackage.Literals.GNODE__CONNECTORS
+                    || pFeature == GraphPackage.Literals.GCONNECTION__SOURCE
+                    || pFeature == GraphPackage.Literals.GCONNECTION__TARGET
+                    || pFeature == GraphPackage.Literals.GCONNECTION__JOINTS
+                    || pFeature == GraphPackage.Literals.GJOINT__X || pFeature == GraphPackage.Literals.GJOINT__Y;
+        }
+    }
+
     @Override
     public List<CssMetaData<? extends Styleable, ?>> getCssMetaData()
     {
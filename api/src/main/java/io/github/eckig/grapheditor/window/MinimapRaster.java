@@ -0,0 +1,252 @@
+/*
+ * Copyright (C) 2005 - 2014 by TESIS DYNAware GmbH
+ */
+package io.github.eckig.grapheditor.window;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import javafx.animation.Animation;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.util.Duration;
+
+
+/**
+ * Renders the minimap into a single image on a background thread, used by the
+ * {@link MinimapNodeGroup} together with the
+ * {@link IMinimapRenderer.RasterMinimapRenderer}.
+ *
+ * <p>
+ * Rendering requests are throttled: While a rendering is scheduled or running,
+ * further requests are merged into one follow-up rendering. Results of
+ * outdated renderings are dropped.
+ * </p>
+ *
+ * @since 16.10.2026
+ */
+final class MinimapRaster
+{
+
+    private final ImageView imageView = new ImageView();
+    private final PauseTransition throttle = new PauseTransition();
+    private final Supplier<Snapshot> snapshotSupplier;
+
+    private long generation;
+    private boolean rendering;
+    private boolean pending;
+    private long pendingDelay;
+
+    /**
+     * Creates a new {@link MinimapRaster}.
+     *
+     * @param pSnapshotSupplier
+     *            supplies the model data to render, called on the FX
+     *            Application Thread; may return {@code null} if there is
+     *            nothing to render
+     */
+    MinimapRaster(final Supplier<Snapshot> pSnapshotSupplier)
+    {
+        snapshotSupplier = pSnapshotSupplier;
+        throttle.setOnFinished(event -> render());
+    }
+
+    /**
+     * @return the {@link ImageView} showing the last rendered image
+     */
+    ImageView getImageView()
+    {
+        return imageView;
+    }
+
+    /**
+     * Requests a new rendering.
+     *
+     * @param pDelayMillis
+     *            the time to wait before rendering, further requests within
+     *            that time are merged
+     */
+    void requestRender(final long pDelayMillis)
+    {
+        if (rendering)
+        {
+            pending = true;
+            pendingDelay = pDelayMillis;
+        }
+        else if (throttle.getStatus() != Animation.Status.RUNNING)
+        {
+            throttle.setDuration(Duration.millis(Math.max(0, pDelayMillis)));
+            throttle.playFromStart();
+        }
+    }
+
+    /**
+     * Cancels all scheduled and running renderings and releases the image.
+     */
+    void cancel()
+    {
+        generation++;
+        throttle.stop();
+        rendering = false;
+        pending = false;
+        imageView.setImage(null);
+    }
+
+    private void render()
+    {
+        final Snapshot snapshot = snapshotSupplier.get();
+        if (snapshot == null)
+        {
+            return;
+        }
+
+        final long renderGeneration = ++generation;
+        rendering = true;
+        CompletableFuture.supplyAsync(() -> rasterize(snapshot)).whenCompleteAsync((pixels, error) ->
+        {
+            if (renderGeneration != generation)
+            {
+                // outdated or cancelled
+                return;
+            }
+
+            rendering = false;
+            if (pixels != null)
+            {
+                final WritableImage image = new WritableImage(snapshot.width(), snapshot.height());
+                image.getPixelWriter()
+                        .setPixels(0, 0, snapshot.width(), snapshot.height(), PixelFormat.getIntArgbInstance(), pixels,
+                                0, snapshot.width());
+                imageView.setImage(image);
+            }
+            if (pending)
+            {
+                pending = false;
+                requestRender(pendingDelay);
+            }
+        }, Platform::runLater);
+    }
+
+    /**
+     * Renders the given snapshot into ARGB pixels. Connections are drawn first,
+     * nodes are filled on top of them.
+     *
+     * @param pSnapshot
+     *            the {@link Snapshot} to render
+     * @return the pixels of the image, row by row
+     */
+    static int[] rasterize(final Snapshot pSnapshot)
+    {
+        final int width = pSnapshot.width();
+        final int height = pSnapshot.height();
+        final int[] pixels = new int[width * height];
+
+        for (final double[] path : pSnapshot.paths())
+        {
+            for (int i = 2; i < path.length; i += 2)
+            {
+                drawLine(pixels, width, height, (int) path[i - 2], (int) path[i - 1], (int) path[i], (int) path[i + 1],
+                        pSnapshot.connectionColor());
+            }
+        }
+
+        final double[] nodes = pSnapshot.nodes();
+        for (int i = 0; i < nodes.length / 4; i++)
+        {
+            final int color = pSnapshot.selected()[i] ? pSnapshot.selectedNodeColor() : pSnapshot.nodeColor();
+            final int minX = Math.max(0, (int) nodes[4 * i]);
+            final int minY = Math.max(0, (int) nodes[4 * i + 1]);
+            // nodes are at least one pixel large to stay visible:
+            final int maxX = Math.min(width, Math.max(minX + 1, (int) (nodes[4 * i] + nodes[4 * i + 2])));
+            final int maxY = Math.min(height, Math.max(minY + 1, (int) (nodes[4 * i + 1] + nodes[4 * i + 3])));
+            for (int y = minY; y < maxY; y++)
+            {
+                final int row = y * width;
+                for (int x = minX; x < maxX; x++)
+                {
+                    pixels[row + x] = color;
+                }
+            }
+        }
+        return pixels;
+    }
+
+    private static void drawLine(final int[] pixels, final int width, final int height, final int x0, final int y0,
+            final int x1, final int y1, final int color)
+    {
+        // Bresenham:
+        final int dx = Math.abs(x1 - x0);
+        final int dy = -Math.abs(y1 - y0);
+        final int sx = x0 < x1 ? 1 : -1;
+        final int sy = y0 < y1 ? 1 : -1;
+        int error = dx + dy;
+        int x = x0;
+        int y = y0;
+        while (true)
+        {
+            if (x >= 0 && x < width && y >= 0 && y < height)
+            {
+                pixels[y * width + x] = color;
+            }
+            if (x == x1 && y == y1)
+            {
+                return;
+            }
+            final int e2 = 2 * error;
+            if (e2 >= dy)
+            {
+                error += dy;
+                x += sx;
+            }
+            if (e2 <= dx)
+            {
+                error += dx;
+                y += sy;
+            }
+        }
+    }
+
+    /**
+     * @return the given {@link Color} as non-premultiplied ARGB value
+     */
+    static int toArgb(final Color pColor)
+    {
+        if (pColor == null)
+        {
+            return 0;
+        }
+        return (int) Math.round(pColor.getOpacity() * 255) << 24 | (int) Math.round(pColor.getRed() * 255) << 16
+                | (int) Math.round(pColor.getGreen() * 255) << 8 | (int) Math.round(pColor.getBlue() * 255);
+    }
+
+    /**
+     * Immutable copy of everything needed to render the minimap, taken on the
+     * FX Application Thread.
+     *
+     * @param width
+     *            image width in pixels
+     * @param height
+     *            image height in pixels
+     * @param nodes
+     *            x, y, width and height of every node in minimap coordinates
+     * @param selected
+     *            the selection state of every node
+     * @param paths
+     *            the points of every connection in minimap coordinates
+     * @param nodeColor
+     *            ARGB node color
+     * @param selectedNodeColor
+     *            ARGB color of selected nodes
+     * @param connectionColor
+     *            ARGB connection color
+     */
+    record Snapshot(int width, int height, double[] nodes, boolean[] selected, List<double[]> paths, int nodeColor,
+            int selectedNodeColor, int connectionColor)
+    {
+    }
+}
@@ -0,0 +1,158 @@
+package io.github.eckig.grapheditor.window;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import io.github.eckig.grapheditor.model.GConnection;
+import io.github.eckig.grapheditor.model.GConnector;
+import io.github.eckig.grapheditor.model.GModel;
+import io.github.eckig.grapheditor.model.GNode;
+import io.github.eckig.grapheditor.model.GraphFactory;
+import io.github.eckig.grapheditor.utils.JavaFXThreadingRule;
+import javafx.scene.Node;
+import javafx.scene.image.ImageView;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+
+public class MinimapNodeGroupTest {
+
+    @ClassRule
+    public static JavaFXThreadingRule javaFXThreadingRule = new JavaFXThreadingRule();
+
+    private final MinimapNodeGroup group = new MinimapNodeGroup();
+    private final GModel model = GraphFactory.eINSTANCE.createGModel();
+
+    private GNode first;
+    private GNode second;
+
+    @Before
+    public void setUp() {
+
+        first = createNode(100, 100);
+        second = createNode(1000, 1000);
+        model.getNodes().add(first);
+        model.getNodes().add(second);
+
+        final GConnection connection = GraphFactory.eINSTANCE.createGConnection();
+        connection.setSource(first.getConnectors().get(0));
+        connection.setTarget(second.getConnectors().get(0));
+        model.getConnections().add(connection);
+
+        group.setModel(model);
+        group.resize(200, 200);
+        group.setScaleFactor(0.1);
+        group.draw();
+        group.layout();
+    }
+
+    @Test
+    public void updateOnlyTouchesChangedNodes() {
+
+        final Node firstMinimapNode = findMinimapNode(10);
+        final Node secondMinimapNode = findMinimapNode(100);
+
+        first.setX(500);
+        group.update();
+        group.layout();
+
+        assertTrue("Minimap node should be reused.", findMinimapNode(50) == firstMinimapNode);
+        assertTrue("Unchanged minimap node should be kept.", findMinimapNode(100) == secondMinimapNode);
+
+        final GNode third = createNode(1500, 100);
+        model.getNodes().add(third);
+        group.update();
+        group.layout();
+
+        assertTrue("Added node should be drawn.", findMinimapNode(150) != null);
+        assertTrue("Existing minimap nodes should be kept.", findMinimapNode(50) == firstMinimapNode);
+
+        model.getNodes().remove(second);
+        group.update();
+        group.layout();
+
+        assertNull("Removed node should no longer be drawn.", findMinimapNode(100));
+        assertTrue("Other minimap nodes should be kept.", findMinimapNode(50) == firstMinimapNode);
+    }
+
+    @Test
+    public void onlyDrawnElementsAreObserved() {
+
+        final GConnection connection = model.getConnections().get(0);
+        assertFalse("The model should be observed.", model.eAdapters().isEmpty());
+        assertFalse("Nodes should be observed.", first.eAdapters().isEmpty());
+        assertFalse("Connections should be observed.", connection.eAdapters().isEmpty());
+        assertTrue("Connectors should not be observed.", first.getConnectors().get(0).eAdapters().isEmpty());
+
+        final GNode third = createNode(1500, 100);
+        model.getNodes().add(third);
+        model.getNodes().remove(second);
+        assertFalse("Added nodes should be observed.", third.eAdapters().isEmpty());
+        assertTrue("Removed nodes should no longer be observed.", second.eAdapters().isEmpty());
+
+        group.setModel(null);
+        assertTrue("The old model should no longer be observed.", model.eAdapters().isEmpty());
+        assertTrue("Nodes of the old model should no longer be observed.", first.eAdapters().isEmpty());
+        assertTrue("Connections of the old model should no longer be observed.", connection.eAdapters().isEmpty());
+    }
+
+    @Test
+    public void manyChangesAreAppliedByRedrawing() {
+
+        for (int i = 0; i < 10000; i++) {
+            first.setX(i % 500);
+        }
+        first.setX(700);
+        group.update();
+        group.layout();
+
+        assertTrue("Node should be drawn at its last position.", findMinimapNode(70) != null);
+        assertTrue("Unchanged node should still be drawn.", findMinimapNode(100) != null);
+    }
+
+    @Test
+    public void rasterModeRendersIntoOneImage() {
+
+        group.setMinimapRenderer(new IMinimapRenderer.RasterMinimapRenderer());
+
+        assertTrue("No minimap node should exist per GNode.",
+                group.getChildrenUnmodifiable().stream().noneMatch(n -> n instanceof Rectangle));
+        assertTrue("The image should be shown.", group.getChildrenUnmodifiable().stream().anyMatch(n -> n instanceof ImageView));
+
+        final int nodeColor = MinimapRaster.toArgb(Color.RED);
+        final int connectionColor = MinimapRaster.toArgb(Color.BLUE);
+        final MinimapRaster.Snapshot snapshot = new MinimapRaster.Snapshot(20, 20, new double[] { 2, 2, 4, 4 },
+                new boolean[] { false }, List.of(new double[] { 0, 15, 19, 15 }), nodeColor, 0, connectionColor);
+        final int[] pixels = MinimapRaster.rasterize(snapshot);
+
+        assertTrue("Node should be filled.", pixels[3 * 20 + 3] == nodeColor);
+        assertTrue("Connection should be drawn.", pixels[15 * 20 + 10] == connectionColor);
+        assertTrue("Background should be transparent.", pixels[10 * 20 + 10] == 0);
+    }
+
+    private Node findMinimapNode(final double x) {
+        return group.getChildrenUnmodifiable()
+                .stream()
+                .filter(n -> n instanceof Rectangle r && r.getX() == x)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static GNode createNode(final double x, final double y) {
+
+        final GNode node = GraphFactory.eINSTANCE.createGNode();
+        node.setX(x);
+        node.setY(y);
+        node.setWidth(100);
+        node.setHeight(100);
+        final GConnector connector = GraphFactory.eINSTANCE.createGConnector();
+        node.getConnectors().add(connector);
+        return node;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2005 - 2014 by TESIS DYNAware GmbH
+ */
+package io.github.eckig.grapheditor.benchmark;
+
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.domain.EditingDomain;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.github.eckig.grapheditor.GraphEditor;
+import io.github.eckig.grapheditor.core.DefaultGraphEditor;
+import io.github.eckig.grapheditor.core.data.GraphGenerator;
+import io.github.eckig.grapheditor.core.data.GraphGenerator.Layout;
+import io.github.eckig.grapheditor.model.GModel;
+
+
+/**
+ * Base class of all benchmarks that need a {@link GraphEditor} with the skins
+ * of a generated model.
+ */
+@State(Scope.Benchmark)
+public abstract class AbstractEditorBenchmark
+{
+
+    /**
+     * The number of nodes of the generated model, there are about as many
+     * connections
+     */
+    @Param({ "100", "1000", "10000", "100000" })
+    public int nodeCount;
+
+    /**
+     * The {@link Layout} of the generated model
+     */
+    @Param({ "GRID" })
+    public String layout;
+
+    protected GraphEditor mGraphEditor;
+    protected GModel mModel;
+
+    /**
+     * Creates a new {@link GraphEditor} showing a newly generated model with
+     * {@link #nodeCount} nodes.
+     */
+    protected void createEditor()
+    {
+        FxPlatform.startup();
+        mModel = generateModel(0);
+        FxPlatform.run(() ->
+        {
+            mGraphEditor = new DefaultGraphEditor();
+            mGraphEditor.setModel(mModel);
+            mGraphEditor.reload();
+            mGraphEditor.getView().resize(1920, 1080);
+            mGraphEditor.getView().layout();
+        });
+    }
+
+    /**
+     * Generates a new model with {@link #nodeCount} nodes in the configured
+     * {@link #layout}.
+     *
+     * @param pSeed
+     *            the seed of the {@link GraphGenerator}
+     * @return a new {@link GModel}
+     */
+    protected GModel generateModel(final long pSeed)
+    {
+        return new GraphGenerator().setNodeCount(nodeCount).setLayout(Layout.valueOf(layout)).setSeed(pSeed).generate();
+    }
+
+    /**
+     * @return the {@link EditingDomain} of the current model
+     */
+    protected EditingDomain getEditingDomain()
+    {
+        return AdapterFactoryEditingDomain.getEditingDomainFor(mModel);
+    }
+
+    /**
+     * Releases the editor, so it does not influence the next trial.
+     */
+    @TearDown
+    public void releaseEditor()
+    {
+        if (mGraphEditor != null)
+        {
+            FxPlatform.run(() -> mGraphEditor.setModel(null));
+        }
+        mGraphEditor = null;
+        mModel = null;
+    }
+}
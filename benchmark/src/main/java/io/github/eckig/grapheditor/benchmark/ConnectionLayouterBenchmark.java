@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2005 - 2014 by TESIS DYNAware GmbH
+ */
+package io.github.eckig.grapheditor.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.eckig.grapheditor.core.view.impl.DefaultConnectionLayouter;
+import io.github.eckig.grapheditor.model.GConnection;
+import io.github.eckig.grapheditor.utils.GraphEditorProperties;
+
+
+/**
+ * Updates and draws connections with the {@link DefaultConnectionLayouter}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ConnectionLayouterBenchmark extends AbstractEditorBenchmark
+{
+
+    private DefaultConnectionLayouter mLayouter;
+    private GConnection mConnection;
+
+    /**
+     * Creates a separate layouter for the skins of the editor, with
+     * incremental drawing enabled.
+     */
+    @Setup
+    public void setUp()
+    {
+        createEditor();
+        final GraphEditorProperties properties = new GraphEditorProperties();
+        properties.getCustomProperties().put(DefaultConnectionLayouter.INCREMENTAL_DRAW_KEY, Boolean.toString(true));
+        mLayouter = new DefaultConnectionLayouter(mGraphEditor.getSkinLookup(), properties);
+        mLayouter.initialize(mModel);
+        mConnection = mModel.getConnections().get(mModel.getConnections().size() / 2);
+        FxPlatform.run(mLayouter::draw);
+    }
+
+    /**
+     * Updates and draws all connections, as after loading a model.
+     */
+    @Benchmark
+    public void drawAll()
+    {
+        FxPlatform.run(() ->
+        {
+            mLayouter.markAllDirty();
+            mLayouter.draw();
+        });
+    }
+
+    /**
+     * Updates a single connection and draws the connections around it, as
+     * during a drag.
+     */
+    @Benchmark
+    public void drawOne()
+    {
+        FxPlatform.run(() ->
+        {
+            mLayouter.markDirty(mConnection);
+            mLayouter.draw();
+        });
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2005 - 2014 by TESIS DYNAware GmbH
+ */
+package io.github.eckig.grapheditor.benchmark;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.common.command.CompoundCommand;
+import org.eclipse.emf.edit.command.AddCommand;
+import org.eclipse.emf.edit.command.RemoveCommand;
+import org.eclipse.emf.edit.domain.EditingDomain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.eckig.grapheditor.core.GraphEditorController;
+import io.github.eckig.grapheditor.model.GModel;
+import io.github.eckig.grapheditor.model.GraphPackage;
+
+
+/**
+ * Adds and removes many elements with a single command each. Executing the
+ * command makes the {@link GraphEditorController} process all notifications
+ * and create or remove the skins.
+ *
+ * <p>
+ * Every iteration runs on a newly created editor, so it measures a single
+ * invocation.
+ * </p>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ControllerBenchmark extends AbstractEditorBenchmark
+{
+
+    private GModel mAdditions;
+
+    /**
+     * Creates a new editor and a second model whose elements are added.
+     */
+    @Setup(Level.Iteration)
+    public void setUp()
+    {
+        releaseEditor();
+        createEditor();
+        mAdditions = generateModel(1);
+    }
+
+    /**
+     * Adds as many nodes and connections as the editor already shows.
+     */
+    @Benchmark
+    public void addAll()
+    {
+        FxPlatform.run(() ->
+        {
+            final EditingDomain domain = getEditingDomain();
+            final CompoundCommand command = new CompoundCommand();
+            command.append(AddCommand.create(domain, mModel, GraphPackage.Literals.GMODEL__NODES,
+                    new ArrayList<>(mAdditions.getNodes())));
+            command.append(AddCommand.create(domain, mModel, GraphPackage.Literals.GMODEL__CONNECTIONS,
+                    new ArrayList<>(mAdditions.getConnections())));
+            domain.getCommandStack().execute(command);
+        });
+    }
+
+    /**
+     * Removes all nodes and connections the editor shows.
+     */
+    @Benchmark
+    public void removeAll()
+    {
+        FxPlatform.run(() ->
+        {
+            final EditingDomain domain = getEditingDomain();
+            final CompoundCommand command = new CompoundCommand();
+            command.append(RemoveCommand.create(domain, mModel, GraphPackage.Literals.GMODEL__CONNECTIONS,
+                    new ArrayList<>(mModel.getConnections())));
+            command.append(RemoveCommand.create(domain, mModel, GraphPackage.Literals.GMODEL__NODES,
+                    new ArrayList<>(mModel.getNodes())));
+            domain.getCommandStack().execute(command);
+        });
+    }
+}
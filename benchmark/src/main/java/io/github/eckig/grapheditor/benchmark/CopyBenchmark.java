@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2005 - 2014 by TESIS DYNAware GmbH
+ */
+package io.github.eckig.grapheditor.benchmark;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.eckig.grapheditor.core.connections.ConnectionCopier;
+import io.github.eckig.grapheditor.core.data.GraphGenerator;
+import io.github.eckig.grapheditor.core.model.GraphFragment;
+import io.github.eckig.grapheditor.model.GConnection;
+import io.github.eckig.grapheditor.model.GModel;
+import io.github.eckig.grapheditor.model.GNode;
+
+
+/**
+ * Copies all nodes of a model and the connections between them without any
+ * editor, once with a {@link GraphFragment} and once node by node with the
+ * {@link ConnectionCopier} for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CopyBenchmark
+{
+
+    /**
+     * The number of nodes of the generated model, there are about as many
+     * connections
+     */
+    @Param({ "100", "1000", "10000", "100000" })
+    public int nodeCount;
+
+    private GModel mModel;
+
+    /**
+     * Generates the model.
+     */
+    @Setup
+    public void setUp()
+    {
+        mModel = new GraphGenerator().setNodeCount(nodeCount).generate();
+    }
+
+    /**
+     * Copies all nodes with a {@link GraphFragment}.
+     *
+     * @return the copy
+     */
+    @Benchmark
+    public GraphFragment copyFragment()
+    {
+        return GraphFragment.copy(mModel.getNodes());
+    }
+
+    /**
+     * Copies every node on its own and the connections with the
+     * {@link ConnectionCopier}.
+     *
+     * @return the copied connections
+     */
+    @Benchmark
+    public List<GConnection> copyPerNode()
+    {
+        final Map<GNode, GNode> copies = new HashMap<>();
+        for (final GNode node : mModel.getNodes())
+        {
+            copies.put(node, EcoreUtil.copy(node));
+        }
+        return ConnectionCopier.copyConnections(copies);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2005 - 2014 by TESIS DYNAware GmbH
+ */
+package io.github.eckig.grapheditor.benchmark;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+
+import javafx.application.Platform;
+
+
+/**
+ * Starts the headless JavaFX platform for the benchmarks and runs code on the
+ * FX Application Thread.
+ *
+ * <p>
+ * The platform uses the software renderer on the headless Monocle glass
+ * platform, unless the corresponding system properties have been set on the
+ * command line already. So the results do not depend on a display or a GPU.
+ * </p>
+ */
+final class FxPlatform
+{
+
+    private static boolean mStarted;
+
+    private FxPlatform()
+    {
+        // static helper
+    }
+
+    /**
+     * Starts the JavaFX platform, if it is not running yet.
+     */
+    static synchronized void startup()
+    {
+        if (mStarted)
+        {
+            return;
+        }
+
+        setDefault("glass.platform", "Monocle");
+        setDefault("monocle.platform", "Headless");
+        setDefault("prism.order", "sw");
+        setDefault("java.awt.headless", "true");
+
+        final CountDownLatch started = new CountDownLatch(1);
+        try
+        {
+            Platform.startup(started::countDown);
+        }
+        catch (final IllegalStateException e)
+        {
+            // already started by someone else
+            started.countDown();
+        }
+        Platform.setImplicitExit(false);
+        await(started);
+        mStarted = true;
+    }
+
+    /**
+     * Runs the given code on the FX Application Thread and waits for it.
+     *
+     * @param pRunnable
+     *            the code to run
+     */
+    static void run(final Runnable pRunnable)
+    {
+        call(() ->
+        {
+            pRunnable.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs the given code on the FX Application Thread and waits for its
+     * result.
+     *
+     * @param pCallable
+     *            the code to run
+     * @return the result of the given code
+     */
+    static <T> T call(final Callable<T> pCallable)
+    {
+        if (Platform.isFxApplicationThread())
+        {
+            try
+            {
+                return pCallable.call();
+            }
+            catch (final Exception e)
+            {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        Platform.runLater(() ->
+        {
+            try
+            {
+                result.complete(pCallable.call());
+            }
+            catch (final Throwable e)
+            {
+                result.completeExceptionally(e);
+            }
+        });
+        try
+        {
+            return result.get();
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        catch (final ExecutionException e)
+        {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static void setDefault(final String pKey, final String pValue)
+    {
+        if (System.getProperty(pKey) == null)
+        {
+            System.setProperty(pKey, pValue);
+        }
+    }
+
+    private static void await(final CountDownLatch pLatch)
+    {
+        try
+        {
+            pLatch.await();
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2005 - 2014 by TESIS DYNAware GmbH
+ */
+package io.github.eckig.grapheditor.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.github.eckig.grapheditor.GConnectionSkin;
+import io.github.eckig.grapheditor.core.skins.defaults.connection.ConnectionPoints;
+import io.github.eckig.grapheditor.core.skins.defaults.connection.IntersectionFinder;
+import io.github.eckig.grapheditor.model.GConnection;
+
+
+/**
+ * Finds the intersections of every connection with all others, as done while
+ * drawing all connections.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class IntersectionFinderBenchmark extends AbstractEditorBenchmark
+{
+
+    private final List<GConnectionSkin> mSkins = new ArrayList<>();
+    private ConnectionPoints mPoints;
+
+    /**
+     * Collects the points of all connections.
+     */
+    @Setup
+    public void setUp()
+    {
+        createEditor();
+        mPoints = FxPlatform.call(() ->
+        {
+            final ConnectionPoints points = new ConnectionPoints(mModel.getConnections().size());
+            for (final GConnection connection : mModel.getConnections())
+            {
+                final GConnectionSkin skin = mGraphEditor.getSkinLookup().lookupConnection(connection);
+                points.putCoordinates(skin, skin.updateCoordinates().clone());
+                mSkins.add(skin);
+            }
+            return points;
+        });
+    }
+
+    /**
+     * Finds the intersections of all connections, the segment index is built
+     * once and then reused.
+     *
+     * @param pBlackhole
+     *            consumes the results
+     */
+    @Benchmark
+    public void findAll(final Blackhole pBlackhole)
+    {
+        for (final GConnectionSkin skin : mSkins)
+        {
+            pBlackhole.consume(IntersectionFinder.find(skin, mPoints, false));
+        }
+    }
+
+    /**
+     * Finds the intersections of all connections after the points changed,
+     * i.e. including building the segment index.
+     *
+     * @param pBlackhole
+     *            consumes the results
+     */
+    @Benchmark
+    public void findAllAfterChange(final Blackhole pBlackhole)
+    {
+        final GConnectionSkin first = mSkins.get(0);
+        mPoints.putCoordinates(first, mPoints.getCoordinates(first));
+        findAll(pBlackhole);
+    }
+}
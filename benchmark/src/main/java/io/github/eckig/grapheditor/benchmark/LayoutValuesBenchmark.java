@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2005 - 2014 by TESIS DYNAware GmbH
+ */
+package io.github.eckig.grapheditor.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.common.command.CompoundCommand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.eckig.grapheditor.Commands;
+import io.github.eckig.grapheditor.GNodeSkin;
+import io.github.eckig.grapheditor.model.GNode;
+
+
+/**
+ * Builds the command that writes the layout values of all skins back to the
+ * model with {@link Commands#updateLayoutValues}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class LayoutValuesBenchmark extends AbstractEditorBenchmark
+{
+
+    /**
+     * Creates the editor and moves every node skin, without updating the
+     * model, so every node gets set commands.
+     */
+    @Setup
+    public void setUp()
+    {
+        createEditor();
+        FxPlatform.run(() ->
+        {
+            for (final GNode node : mModel.getNodes())
+            {
+                final GNodeSkin skin = mGraphEditor.getSkinLookup().lookupNode(node);
+                skin.getRoot().setLayoutX(skin.getRoot().getLayoutX() + 10);
+            }
+        });
+    }
+
+    /**
+     * Builds, but does not execute, the command.
+     *
+     * @return the built command
+     */
+    @Benchmark
+    public CompoundCommand updateLayoutValues()
+    {
+        final CompoundCommand command = new CompoundCommand();
+        Commands.updateLayoutValues(command, mModel, mGraphEditor.getSkinLookup());
+        return command;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2005 - 2014 by TESIS DYNAware GmbH
+ */
+package io.github.eckig.grapheditor.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.EObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.eckig.grapheditor.core.model.DefaultModelEditingManager;
+
+
+/**
+ * Deletes half of the nodes through {@link DefaultModelEditingManager#remove},
+ * including their connections, as when deleting a large selection.
+ *
+ * <p>
+ * Every iteration runs on a newly created editor, so it measures a single
+ * invocation.
+ * </p>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ModelEditingBenchmark extends AbstractEditorBenchmark
+{
+
+    private final List<EObject> mToDelete = new ArrayList<>();
+
+    /**
+     * Creates a new editor and collects every second node.
+     */
+    @Setup(Level.Iteration)
+    public void setUp()
+    {
+        releaseEditor();
+        createEditor();
+        mToDelete.clear();
+        for (int i = 0; i < mModel.getNodes().size(); i += 2)
+        {
+            mToDelete.add(mModel.getNodes().get(i));
+        }
+    }
+
+    /**
+     * Deletes the collected nodes.
+     */
+    @Benchmark
+    public void deleteHalf()
+    {
+        FxPlatform.run(() -> mGraphEditor.delete(mToDelete));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2005 - 2014 by TESIS DYNAware GmbH
+ */
+package io.github.eckig.grapheditor.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.Resource.Factory;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.eckig.grapheditor.core.data.GraphGenerator;
+import io.github.eckig.grapheditor.core.model.BinaryGraphResourceFactory;
+import io.github.eckig.grapheditor.model.GModel;
+
+
+/**
+ * Saves and loads a model without any editor, as XMI and in the binary format
+ * of the {@link BinaryGraphResourceFactory} for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PersistenceBenchmark
+{
+
+    /**
+     * The number of nodes of the generated model, there are about as many
+     * connections
+     */
+    @Param({ "100", "1000", "10000", "100000" })
+    public int nodeCount;
+
+    /**
+     * The format to save and load: {@code xmi} or {@code graphbin}
+     */
+    @Param({ "xmi", BinaryGraphResourceFactory.FILE_EXTENSION })
+    public String format;
+
+    private Factory mFactory;
+    private GModel mModel;
+    private byte[] mSaved;
+
+    /**
+     * Generates the model and saves it once for the load benchmark.
+     *
+     * @throws IOException
+     *             if the model cannot be saved
+     */
+    @Setup
+    public void setUp() throws IOException
+    {
+        mFactory = BinaryGraphResourceFactory.FILE_EXTENSION.equals(format) ? new BinaryGraphResourceFactory()
+                : new XMIResourceFactoryImpl();
+        mModel = new GraphGenerator().setNodeCount(nodeCount).generate();
+        mFactory.createResource(createUri()).getContents().add(mModel);
+        mSaved = save();
+    }
+
+    /**
+     * Saves the model into memory.
+     *
+     * @return the saved bytes
+     * @throws IOException
+     *             if the model cannot be saved
+     */
+    @Benchmark
+    public byte[] save() throws IOException
+    {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        mModel.eResource().save(output, Collections.emptyMap());
+        return output.toByteArray();
+    }
+
+    /**
+     * Loads the model from memory.
+     *
+     * @return the loaded resource
+     * @throws IOException
+     *             if the model cannot be loaded
+     */
+    @Benchmark
+    public Resource load() throws IOException
+    {
+        final Resource resource = mFactory.createResource(createUri());
+        resource.load(new ByteArrayInputStream(mSaved), Collections.emptyMap());
+        return resource;
+    }
+
+    private URI createUri()
+    {
+        return URI.createURI("benchmark." + format);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2005 - 2014 by TESIS DYNAware GmbH
+ */
+package io.github.eckig.grapheditor.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.eckig.grapheditor.core.selections.SelectionCreator;
+import javafx.event.Event;
+import javafx.event.EventType;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Region;
+
+
+/**
+ * Drags a selection box over a quarter of the model, as handled by the
+ * {@link SelectionCreator}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SelectionBenchmark extends AbstractEditorBenchmark
+{
+
+    private double mEndX;
+    private double mEndY;
+
+    /**
+     * Creates the editor and computes the size of the selection box.
+     */
+    @Setup
+    public void setUp()
+    {
+        createEditor();
+        mEndX = mModel.getContentWidth() / 2;
+        mEndY = mModel.getContentHeight() / 2;
+    }
+
+    /**
+     * Drags the selection box open in ten steps and releases it, then clears
+     * the selection again.
+     */
+    @Benchmark
+    public void dragSelectionBox()
+    {
+        FxPlatform.run(() ->
+        {
+            final Region view = mGraphEditor.getView();
+            fire(view, MouseEvent.MOUSE_PRESSED, 0, 0);
+            for (int i = 1; i <= 10; i++)
+            {
+                fire(view, MouseEvent.MOUSE_DRAGGED, mEndX * i / 10, mEndY * i / 10);
+            }
+            fire(view, MouseEvent.MOUSE_RELEASED, mEndX, mEndY);
+            mGraphEditor.getSelectionManager().clearSelection();
+        });
+    }
+
+    private static void fire(final Region pView, final EventType<MouseEvent> pType, final double pX, final double pY)
+    {
+        Event.fireEvent(pView, new MouseEvent(pType, pX, pY, pX, pY, MouseButton.PRIMARY, 1, false, false, false,
+                false, true, false, false, false, false, false, null));
+    }
+}
@@ -4,7 +4,9 @@
 package io.github.eckig.grapheditor.core;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import io.github.eckig.grapheditor.core.connections.ConnectionEventManager;
@@ -24,6 +26,9 @@ import io.github.eckig.grapheditor.GJointSkin;
 import io.github.eckig.grapheditor.GNodeSkin;
 import io.github.eckig.grapheditor.GTailSkin;
 import io.github.eckig.grapheditor.GraphEditor;
+import io.github.eckig.grapheditor.AdjacencyLookup;
+import io.github.eckig.grapheditor.IdLookup;
+import io.github.eckig.grapheditor.ProcessingStatistics;
 import io.github.eckig.grapheditor.SelectionManager;
 import io.github.eckig.grapheditor.SkinLookup;
 import io.github.eckig.grapheditor.model.GConnection;
@@ -33,6 +38,7 @@ import io.github.eckig.grapheditor.model.GModel;
 import io.github.eckig.grapheditor.model.GNode;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ObjectPropertyBase;
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.scene.layout.Region;
 import javafx.util.Callback;
 
@@ -137,9 +143,22 @@ public class DefaultGraphEditor implements GraphEditor
         return mModelProperty.get();
     }
 
+    @Override
+    public CompletableFuture<GModel> loadModel(final GModel pModel)
+    {
+        return mController.loadModel(pModel);
+    }
+
+    @Override
+    public ReadOnlyDoubleProperty loadProgressProperty()
+    {
+        return mController.loadProgressProperty();
+    }
+
     @Override
     public void reload()
     {
+        mController.getConnectionLayouter().markAllDirty();
         mController.process();
     }
 
@@ -167,6 +186,18 @@ public class DefaultGraphEditor implements GraphEditor
         return mSkinManager;
     }
 
+    @Override
+    public IdLookup getIdLookup()
+    {
+        return mController.getIdLookup();
+    }
+
+    @Override
+    public AdjacencyLookup getAdjacencyLookup()
+    {
+        return mController.getAdjacencyLookup();
+    }
+
     @Override
     public SelectionManager getSelectionManager()
     {
@@ -192,6 +223,12 @@ public class DefaultGraphEditor implements GraphEditor
         getModelEditingManager().setOnNodeRemoved(pOnNodeRemoved);
     }
 
+    @Override
+    public void setOnProcessed(final Consumer<ProcessingStatistics> pOnProcessed)
+    {
+        mController.setOnProcessed(pOnProcessed);
+    }
+
     @Override
     public void delete(Collection<EObject> pItems)
     {
@@ -1,18 +1,25 @@
 package io.github.eckig.grapheditor.core;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import io.github.eckig.grapheditor.core.connections.ConnectionEventManager;
 import io.github.eckig.grapheditor.core.connections.ConnectorDragManager;
+import io.github.eckig.grapheditor.core.model.DefaultAdjacencyLookup;
+import io.github.eckig.grapheditor.core.model.DefaultIdLookup;
 import io.github.eckig.grapheditor.core.model.DefaultModelEditingManager;
 import io.github.eckig.grapheditor.core.model.ModelLayoutUpdater;
 import io.github.eckig.grapheditor.core.model.ModelSanityChecker;
@@ -20,12 +27,15 @@ import io.github.eckig.grapheditor.core.selections.DefaultSelectionManager;
 import io.github.eckig.grapheditor.core.skins.SkinManager;
 import io.github.eckig.grapheditor.core.view.ConnectionLayouter;
 import io.github.eckig.grapheditor.core.view.GraphEditorView;
+import io.github.eckig.grapheditor.core.view.impl.CanvasConnectionLayouter;
 import io.github.eckig.grapheditor.core.view.impl.DefaultConnectionLayouter;
 import io.github.eckig.grapheditor.utils.GraphEditorProperties;
 
 import org.eclipse.emf.common.command.CommandStackListener;
 import org.eclipse.emf.common.command.CompoundCommand;
 import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.impl.ENotificationImpl;
@@ -35,11 +45,14 @@ import org.eclipse.emf.edit.domain.EditingDomain;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.github.eckig.grapheditor.AdjacencyLookup;
 import io.github.eckig.grapheditor.Commands;
 import io.github.eckig.grapheditor.GConnectorValidator;
 import io.github.eckig.grapheditor.GJointSkin;
 import io.github.eckig.grapheditor.GNodeSkin;
 import io.github.eckig.grapheditor.GraphEditor;
+import io.github.eckig.grapheditor.IdLookup;
+import io.github.eckig.grapheditor.ProcessingStatistics;
 import io.github.eckig.grapheditor.SelectionManager;
 import io.github.eckig.grapheditor.SkinLookup;
 import io.github.eckig.grapheditor.model.GConnection;
@@ -48,9 +61,12 @@ import io.github.eckig.grapheditor.model.GJoint;
 import io.github.eckig.grapheditor.model.GModel;
 import io.github.eckig.grapheditor.model.GNode;
 import io.github.eckig.grapheditor.model.GraphPackage;
+import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import javafx.beans.value.WeakChangeListener;
@@ -71,13 +87,17 @@ import javafx.beans.value.WeakChangeListener;
  * </p>
  *
  * <p>
- * The process of synchronizing is rather complicated in case more than one
- * model is part of the resource set:
+ * The process of synchronizing works as follows:
  * <ol>
- * <li>register listener on every model in the resource set (with an
- * {@link EContentAdapter}</li>
- * <li>receive notifications</li>
- * <li>put notification into queue</li>
+ * <li>register a listener on the model, it is attached to every node,
+ * connector, connection and joint when the controller processes its
+ * addition</li>
+ * <li>receive notifications, ignoring those nobody has
+ * {@link #registerChangeListener(EStructuralFeature, Consumer) registered} a
+ * handler for</li>
+ * <li>put notification into queue, replacing a directly preceding
+ * {@link Notification#SET SET} notification for the same notifier and
+ * feature</li>
  * <li>{@link #process() process queue} on every reload and/or command stack
  * change</li>
  * </ol>
@@ -90,16 +110,67 @@ import javafx.beans.value.WeakChangeListener;
  * This implementation is thread safe: It is able to process notifications in
  * parallel and processes them in chunks on the FX Thread.
  * </p>
+ *
+ * <p>
+ * When the custom property {@link #COALESCE_PROCESSING_KEY} is set to
+ * {@code true}, command stack changes do not process the queue immediately.
+ * Instead at most one processing run is scheduled per JavaFX pulse and
+ * repeated {@link Notification#SET SET} notifications for the same notifier and
+ * feature are merged, so that a bulk edit only costs one layout pass.
+ * </p>
+ *
+ * <p>
+ * A model passed to {@link #loadModel(GModel)} is validated on a background
+ * thread and its skins are created in time-sliced chunks over several JavaFX
+ * pulses afterwards.
+ * </p>
+ *
+ * <p>
+ * Every processing run can be measured, see {@link #setOnProcessed(Consumer)}
+ * and {@link #PROCESSING_BUDGET_KEY}. Nothing is measured as long as neither
+ * is set.
+ * </p>
  */
 public class GraphEditorController<E extends GraphEditor>
 {
 
+    /**
+     * Custom property key to coalesce the processing of notifications per
+     * JavaFX pulse
+     *
+     * @see GraphEditorProperties#getCustomProperties()
+     * @since 16.10.2026
+     */
+    public static final String COALESCE_PROCESSING_KEY = "graph-editor-coalesce-processing";
+
+    /**
+     * Custom property key for a time budget in milliseconds per processing
+     * run. Every run that takes longer is logged as a warning together with
+     * its {@link ProcessingStatistics}.
+     *
+     * @see GraphEditorProperties#getCustomProperties()
+     * @since 16.10.2026
+     */
+    public static final String PROCESSING_BUDGET_KEY = "graph-editor-processing-budget";
+
     private static final Logger LOGGER = LoggerFactory.getLogger(GraphEditorController.class);
 
-    private final GraphEditorEContentAdapter mContentAdapter = new GraphEditorEContentAdapter();
+    /**
+     * Time budget per pulse for creating skins during a staged model load
+     */
+    private static final long LOAD_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(8);
+
+    /**
+     * Share of the load progress reserved for the background preparation
+     */
+    private static final double PREPARATION_PROGRESS = 0.1;
+
+    // notifications may arrive on any thread, so the handlers are looked up concurrently:
+    private final Map<EStructuralFeature, Consumer<Notification>> mHandlersByFeature = new ConcurrentHashMap<>();
+    private final Map<Integer, Consumer<Notification>> mHandlersByType = new ConcurrentHashMap<>();
 
-    private final Map<EStructuralFeature, Consumer<Notification>> mHandlersByFeature = new HashMap<>();
-    private final Map<Integer, Consumer<Notification>> mHandlersByType = new HashMap<>();
+    private final GraphEditorContentAdapter mContentAdapter = new GraphEditorContentAdapter(
+            n -> mHandlersByFeature.containsKey(n.getFeature()) || mHandlersByType.containsKey(n.getEventType()));
 
     private final Collection<GNode> mNodeConnectorsDirty = new HashSet<>();
     private final Collection<GConnection> mConnectionsDirty = new HashSet<>();
@@ -109,7 +180,17 @@ public class GraphEditorController<E extends GraphEditor>
     private final Collection<GJoint> mJointsToAdd = new HashSet<>();
     private final Collection<GConnector> mConnectorsToAdd = new HashSet<>();
 
-    private final CommandStackListener mCommandStackListener = event -> process();
+    private final CommandStackListener mCommandStackListener = event -> requestProcess();
+
+    private final AnimationTimer mProcessTimer = new AnimationTimer()
+    {
+
+        @Override
+        public void handle(final long pNow)
+        {
+            process();
+        }
+    };
 
     private final ModelEditingManager mModelEditingManager = new DefaultModelEditingManager(mCommandStackListener);
     private final ModelLayoutUpdater mModelLayoutUpdater;
@@ -117,6 +198,10 @@ public class GraphEditorController<E extends GraphEditor>
     private final ConnectorDragManager mConnectorDragManager;
     private final DefaultSelectionManager mSelectionManager;
     private final SkinManager mSkinManager;
+    private final DefaultIdLookup mIdLookup;
+    private final DefaultAdjacencyLookup mAdjacencyLookup;
+    private final GraphEditorView mView;
+    private final GraphEditorProperties mProperties;
 
     private final E mEditor;
     private final ChangeListener<GModel> mModelChangeListener = (w, o, n) -> modelChanged(o, n);
@@ -130,6 +215,31 @@ public class GraphEditorController<E extends GraphEditor>
      */
     private boolean mProcessing = false;
 
+    /**
+     * {@code true} while the {@link #mProcessTimer} is waiting for the next
+     * pulse
+     */
+    private boolean mProcessScheduled = false;
+
+    private final ReadOnlyDoubleWrapper mLoadProgress = new ReadOnlyDoubleWrapper(this, "loadProgress", 1);
+    private CompletableFuture<GModel> mLoadFuture;
+
+    /**
+     * The model whose skins are currently created in time-sliced chunks, or
+     * {@code null}
+     */
+    private GModel mLoadingModel;
+    private int mLoadElementCount;
+    private long mSliceDeadline = Long.MAX_VALUE;
+
+    private Consumer<ProcessingStatistics> mOnProcessed;
+
+    /**
+     * Counts the work of the current processing run, or {@code null} if the
+     * run is not measured
+     */
+    private ProcessingCounter mCounter;
+
     /**
      * Creates a new controller instance. Only one instance should exist per
      * {@link GraphEditor} instance.
@@ -147,13 +257,17 @@ public class GraphEditorController<E extends GraphEditor>
             final GraphEditorView pView, final ConnectionEventManager pConnectionEventManager, final GraphEditorProperties pProperties)
     {
         mEditor = Objects.requireNonNull(pEditor, "GraphEditor instance may not be null!");
-        mConnectionLayouter = new DefaultConnectionLayouter(pSkinManager);
+        mConnectionLayouter = createConnectionLayouter(pSkinManager, pProperties);
 
         mSkinManager = Objects.requireNonNull(pSkinManager, "SkinManager may not be null!");
+        mView = pView;
+        mProperties = pProperties;
 
         mModelLayoutUpdater = new ModelLayoutUpdater(pSkinManager, mModelEditingManager, pProperties);
         mConnectorDragManager = new ConnectorDragManager(pSkinManager, pConnectionEventManager, pView);
         mSelectionManager = new DefaultSelectionManager(pSkinManager, pView);
+        mIdLookup = new DefaultIdLookup(pSkinManager);
+        mAdjacencyLookup = new DefaultAdjacencyLookup();
 
         initDefaultListeners();
 
@@ -163,6 +277,16 @@ public class GraphEditorController<E extends GraphEditor>
 
     private void initDefaultListeners()
     {
+        // attach to new elements before any other handler reads them:
+        registerChangeListener(GraphPackage.Literals.GMODEL__NODES,
+                e -> processNotification(e, mContentAdapter::attachNode, mContentAdapter::detachNode));
+        registerChangeListener(GraphPackage.Literals.GNODE__CONNECTORS,
+                e -> processNotification(e, mContentAdapter::attach, mContentAdapter::detach));
+        registerChangeListener(GraphPackage.Literals.GMODEL__CONNECTIONS,
+                e -> processNotification(e, mContentAdapter::attachConnection, mContentAdapter::detachConnection));
+        registerChangeListener(GraphPackage.Literals.GCONNECTION__JOINTS,
+                e -> processNotification(e, mContentAdapter::attach, mContentAdapter::detach));
+
         registerChangeListener(GraphPackage.Literals.GMODEL__NODES, e -> processNotification(e, this::addNode, this::removeNode));
 
         registerChangeListener(GraphPackage.Literals.GNODE__CONNECTORS,
@@ -193,6 +317,9 @@ public class GraphEditorController<E extends GraphEditor>
         registerChangeListener(GraphPackage.Literals.GNODE__HEIGHT, this::nodeSizeChanged);
         registerChangeListener(GraphPackage.Literals.GNODE__WIDTH, this::nodeSizeChanged);
 
+        initIdListeners();
+        initAdjacencyListeners();
+
         registerChangeListener(GraphPackage.Literals.GNODE__TYPE, e ->
         {
             final GNode node = (GNode) e.getNotifier();
@@ -201,6 +328,38 @@ public class GraphEditorController<E extends GraphEditor>
         });
     }
 
+    private void initIdListeners()
+    {
+        registerChangeListener(GraphPackage.Literals.GMODEL__NODES,
+                e -> processNotification(e, mIdLookup::addNode, mIdLookup::removeNode));
+        registerChangeListener(GraphPackage.Literals.GNODE__CONNECTORS,
+                e -> processNotification(e, mIdLookup::addConnector, mIdLookup::removeConnector));
+        registerChangeListener(GraphPackage.Literals.GMODEL__CONNECTIONS,
+                e -> processNotification(e, mIdLookup::addConnection, mIdLookup::removeConnection));
+        registerChangeListener(GraphPackage.Literals.GCONNECTION__JOINTS,
+                e -> processNotification(e, mIdLookup::addJoint, mIdLookup::removeJoint));
+
+        final Consumer<Notification> idChanged = e -> mIdLookup.idChanged((EObject) e.getNotifier(),
+                e.getNewStringValue());
+        registerChangeListener(GraphPackage.Literals.GNODE__ID, idChanged);
+        registerChangeListener(GraphPackage.Literals.GCONNECTOR__ID, idChanged);
+        registerChangeListener(GraphPackage.Literals.GCONNECTION__ID, idChanged);
+        registerChangeListener(GraphPackage.Literals.GJOINT__ID, idChanged);
+    }
+
+    private void initAdjacencyListeners()
+    {
+        registerChangeListener(GraphPackage.Literals.GMODEL__CONNECTIONS,
+                e -> processNotification(e, mAdjacencyLookup::addConnection, mAdjacencyLookup::removeConnection));
+        registerChangeListener(GraphPackage.Literals.GNODE__CONNECTORS,
+                e -> processNotification(e, mAdjacencyLookup::connectorChanged, mAdjacencyLookup::connectorChanged));
+
+        final Consumer<Notification> connectionChanged = e -> mAdjacencyLookup
+                .connectionChanged((GConnection) e.getNotifier());
+        registerChangeListener(GraphPackage.Literals.GCONNECTION__SOURCE, connectionChanged);
+        registerChangeListener(GraphPackage.Literals.GCONNECTION__TARGET, connectionChanged);
+    }
+
     /**
      * Registers a change listener
      *
@@ -234,10 +393,16 @@ public class GraphEditorController<E extends GraphEditor>
 
     private void modelChanged(final GModel pOldModel, final GModel pNewModel)
     {
+        if (pNewModel != mLoadingModel)
+        {
+            // the model was replaced while a staged load was still running:
+            cancelLoad();
+        }
+
         if (pOldModel != null)
         {
-            final EditingDomain editingDomain = AdapterFactoryEditingDomain.getEditingDomainFor(pOldModel);
-            editingDomain.getResourceSet().eAdapters().remove(mContentAdapter);
+            mContentAdapter.detachModel(pOldModel);
+            mContentAdapter.clear();
 
             for (int i = 0; i < pOldModel.getNodes().size(); i++)
             {
@@ -251,15 +416,21 @@ public class GraphEditorController<E extends GraphEditor>
 
         // remove any remaining skins that might have been left over:
         mSkinManager.clear();
+        mIdLookup.clear();
+        mAdjacencyLookup.clear();
 
         if (pNewModel != null)
         {
-            ModelSanityChecker.validate(pNewModel);
+            if (pNewModel != mLoadingModel)
+            {
+                // staged loads have already been validated in the background
+                ModelSanityChecker.validate(pNewModel);
+            }
 
             mModelEditingManager.initialize(pNewModel);
 
-            final EditingDomain editingDomain = AdapterFactoryEditingDomain.getEditingDomainFor(pNewModel);
-            editingDomain.getResourceSet().eAdapters().add(mContentAdapter);
+            // the elements are attached by the handlers of the ADD notifications below:
+            mContentAdapter.attach(pNewModel);
 
             if(pNewModel instanceof InternalEObject ieo)
             {
@@ -275,11 +446,13 @@ public class GraphEditorController<E extends GraphEditor>
             {
                 for(final GNode node : pNewModel.getNodes())
                 {
+                    mContentAdapter.attachNode(node);
                     addNode(node);
                 }
 
                 for(final GConnection connection : pNewModel.getConnections())
                 {
+                    mContentAdapter.attachConnection(connection);
                     addConnection(connection);
                 }
             }
@@ -290,11 +463,160 @@ public class GraphEditorController<E extends GraphEditor>
             mConnectionLayouter.initialize(pNewModel);
             mConnectorDragManager.initialize(pNewModel);
 
-            // 1) wait until the graph editor is registered in a visible view (scene != null)
-            // 2) wait a little bit with Platform.runLater() so the UI has a chance to "settle down"
-            // 3) update layout values
-            executeOnceWhenPropertyIsNonNull(mEditor.getView().sceneProperty(),
-                    scene -> Platform.runLater(() -> updateLayoutValues(pNewModel)));
+            if (pNewModel != mLoadingModel)
+            {
+                scheduleLayoutValuesUpdate(pNewModel);
+            }
+        }
+    }
+
+    private void scheduleLayoutValuesUpdate(final GModel pModel)
+    {
+        // 1) wait until the graph editor is registered in a visible view (scene != null)
+        // 2) wait a little bit with Platform.runLater() so the UI has a chance to "settle down"
+        // 3) update layout values
+        executeOnceWhenPropertyIsNonNull(mEditor.getView().sceneProperty(),
+                scene -> Platform.runLater(() -> updateLayoutValues(pModel)));
+    }
+
+    /**
+     * Sets the given model on the {@link GraphEditor} without blocking the FX
+     * Application Thread: The model is validated on a background thread, and
+     * its skins are created in time-sliced chunks over several pulses
+     * afterwards.
+     *
+     * @param pModel
+     *            the {@link GModel} to load
+     * @return a {@link CompletableFuture} that completes on the FX Application
+     *         Thread once all skins have been created
+     * @see #loadProgressProperty()
+     * @since 16.10.2026
+     */
+    public final CompletableFuture<GModel> loadModel(final GModel pModel)
+    {
+        final CompletableFuture<GModel> future = new CompletableFuture<>();
+        if (Platform.isFxApplicationThread())
+        {
+            startLoad(pModel, future);
+        }
+        else
+        {
+            Platform.runLater(() -> startLoad(pModel, future));
+        }
+        return future;
+    }
+
+    /**
+     * @return the progress of the last {@link #loadModel(GModel) staged
+     *         load}, ranging from {@code 0} to {@code 1}
+     * @since 16.10.2026
+     */
+    public final ReadOnlyDoubleProperty loadProgressProperty()
+    {
+        return mLoadProgress.getReadOnlyProperty();
+    }
+
+    private void startLoad(final GModel pModel, final CompletableFuture<GModel> pFuture)
+    {
+        cancelLoad();
+        mLoadFuture = pFuture;
+        mLoadProgress.set(0);
+
+        CompletableFuture.supplyAsync(() -> prepare(pModel)).whenCompleteAsync((count, error) ->
+        {
+            if (mLoadFuture != pFuture)
+            {
+                // superseded by another load or model
+                return;
+            }
+            if (error != null)
+            {
+                mLoadFuture = null;
+                pFuture.completeExceptionally(error);
+                return;
+            }
+
+            mLoadElementCount = count;
+            mLoadProgress.set(PREPARATION_PROGRESS);
+            if (pModel == null)
+            {
+                mLoadFuture = null;
+                mEditor.setModel(null);
+                mLoadProgress.set(1);
+                pFuture.complete(null);
+                return;
+            }
+
+            mLoadingModel = pModel;
+            if (mEditor.getModel() != pModel)
+            {
+                mEditor.setModel(pModel);
+            }
+            updateLoadProgress();
+        }, Platform::runLater);
+    }
+
+    /**
+     * Validates the given model and counts all elements that need a skin.
+     * Called on a background thread.
+     */
+    private static int prepare(final GModel pModel)
+    {
+        if (pModel == null)
+        {
+            return 0;
+        }
+
+        ModelSanityChecker.validate(pModel);
+
+        int count = pModel.getNodes().size() + pModel.getConnections().size();
+        for (final GNode node : pModel.getNodes())
+        {
+            count += node.getConnectors().size();
+        }
+        for (final GConnection connection : pModel.getConnections())
+        {
+            count += connection.getJoints().size();
+        }
+        return count;
+    }
+
+    private void cancelLoad()
+    {
+        final CompletableFuture<GModel> future = mLoadFuture;
+        mLoadFuture = null;
+        mLoadingModel = null;
+        if (future != null)
+        {
+            future.cancel(false);
+        }
+    }
+
+    private void updateLoadProgress()
+    {
+        if (mLoadingModel == null)
+        {
+            return;
+        }
+
+        final int remaining = mNodesToAdd.size() + mConnectorsToAdd.size() + mConnectionsToAdd.size()
+                + mJointsToAdd.size();
+        if (remaining > 0)
+        {
+            final double created = 1 - remaining / (double) Math.max(remaining, mLoadElementCount);
+            mLoadProgress.set(PREPARATION_PROGRESS + (1 - PREPARATION_PROGRESS) * created);
+            return;
+        }
+
+        final GModel model = mLoadingModel;
+        final CompletableFuture<GModel> future = mLoadFuture;
+        mLoadingModel = null;
+        mLoadFuture = null;
+        mLoadProgress.set(1);
+        scheduleLayoutValuesUpdate(model);
+        if (future != null)
+        {
+            future.complete(model);
         }
     }
 
@@ -338,28 +660,50 @@ public class GraphEditorController<E extends GraphEditor>
             return;
         }
 
+        if (mProcessScheduled)
+        {
+            // everything is flushed now, the scheduled run would be a no-op:
+            mProcessScheduled = false;
+            mProcessTimer.stop();
+        }
+
+        // skins of a staged load are created in slices, one per pulse:
+        mSliceDeadline = mLoadingModel == null ? Long.MAX_VALUE : System.nanoTime() + LOAD_SLICE_NANOS;
+
+        final long budgetNanos = getProcessingBudgetNanos();
+        final ProcessingCounter counter = mOnProcessed != null || budgetNanos > 0 ? new ProcessingCounter() : null;
+        mCounter = counter;
+        mConnectionLayouter.setCollectStatistics(counter != null);
+
         mProcessing = true;
         try
         {
-            Notification n;
-            while ((n = mContentAdapter.getQueue().poll()) != null)
+            if (isCoalescing())
             {
-                try
+                for (final Notification n : pollMerged())
                 {
-                    processFeatureChanged(n);
+                    processQueued(n);
                 }
-                catch (Exception e)
+            }
+            else
+            {
+                Notification n;
+                while ((n = mContentAdapter.poll()) != null)
                 {
-                    LOGGER.error("Could not process update notification '{}': ", n, e); //$NON-NLS-1$
+                    processQueued(n);
                 }
             }
 
             if (!mNodesToAdd.isEmpty())
             {
-                for (final Iterator<GNode> iter = mNodesToAdd.iterator(); iter.hasNext();)
+                for (final Iterator<GNode> iter = mNodesToAdd.iterator(); iter.hasNext() && hasTimeLeft();)
                 {
                     final GNode next = iter.next();
                     mSkinManager.lookupOrCreateNode(next); // implicit create
+                    if (counter != null)
+                    {
+                        counter.mSkinsCreated++;
+                    }
                     mModelLayoutUpdater.addNode(next);
                     mSelectionManager.addNode(next);
                     markConnectorsDirty(next);
@@ -367,12 +711,16 @@ public class GraphEditorController<E extends GraphEditor>
                 }
             }
 
-            if (!mConnectorsToAdd.isEmpty())
+            if (mNodesToAdd.isEmpty() && !mConnectorsToAdd.isEmpty())
             {
-                for (final Iterator<GConnector> iter = mConnectorsToAdd.iterator(); iter.hasNext();)
+                for (final Iterator<GConnector> iter = mConnectorsToAdd.iterator(); iter.hasNext() && hasTimeLeft();)
                 {
                     final GConnector next = iter.next();
                     mSkinManager.lookupOrCreateConnector(next); // implicit create
+                    if (counter != null)
+                    {
+                        counter.mSkinsCreated++;
+                    }
                     mConnectorDragManager.addConnector(next);
                     mSelectionManager.addConnector(next);
                     markConnectorsDirty(next.getParent());
@@ -380,24 +728,34 @@ public class GraphEditorController<E extends GraphEditor>
                 }
             }
 
-            if (!mConnectionsToAdd.isEmpty())
+            if (mConnectorsToAdd.isEmpty() && !mConnectionsToAdd.isEmpty())
             {
-                for (final Iterator<GConnection> iter = mConnectionsToAdd.iterator(); iter.hasNext();)
+                // new connections are added behind all others, which changes all intersections:
+                mConnectionLayouter.markAllDirty();
+                for (final Iterator<GConnection> iter = mConnectionsToAdd.iterator(); iter.hasNext() && hasTimeLeft();)
                 {
                     final GConnection next = iter.next();
                     mSkinManager.lookupOrCreateConnection(next); // implicit create
+                    if (counter != null)
+                    {
+                        counter.mSkinsCreated++;
+                    }
                     mSelectionManager.addConnection(next);
                     mConnectionsDirty.add(next);
                     iter.remove();
                 }
             }
 
-            if (!mJointsToAdd.isEmpty())
+            if (mConnectionsToAdd.isEmpty() && !mJointsToAdd.isEmpty())
             {
-                for (final Iterator<GJoint> iter = mJointsToAdd.iterator(); iter.hasNext();)
+                for (final Iterator<GJoint> iter = mJointsToAdd.iterator(); iter.hasNext() && hasTimeLeft();)
                 {
                     final GJoint next = iter.next();
                     mSkinManager.lookupOrCreateJoint(next); // implicit create
+                    if (counter != null)
+                    {
+                        counter.mSkinsCreated++;
+                    }
                     mModelLayoutUpdater.addJoint(next);
                     mSelectionManager.addJoint(next);
                     mConnectionsDirty.add(next.getConnection());
@@ -405,11 +763,27 @@ public class GraphEditorController<E extends GraphEditor>
                 }
             }
 
+            if (!mJointsToAdd.isEmpty() || !mNodesToAdd.isEmpty() || !mConnectorsToAdd.isEmpty()
+                    || !mConnectionsToAdd.isEmpty())
+            {
+                // out of time, continue on the next pulse and update the skins once all exist:
+                mProcessScheduled = true;
+                mProcessTimer.start();
+                updateLoadProgress();
+                return;
+            }
+
             if (!mNodeConnectorsDirty.isEmpty())
             {
                 for (final Iterator<GNode> iter = mNodeConnectorsDirty.iterator(); iter.hasNext();)
                 {
-                    mSkinManager.updateConnectors(iter.next());
+                    final GNode node = iter.next();
+                    mSkinManager.updateConnectors(node);
+                    if (counter != null)
+                    {
+                        counter.mConnectorUpdates++;
+                    }
+                    mConnectionLayouter.markDirty(node);
                     iter.remove();
                 }
             }
@@ -420,15 +794,163 @@ public class GraphEditorController<E extends GraphEditor>
                 {
                     final GConnection conn = iter.next();
                     mSkinManager.updateJoints(conn);
+                    if (counter != null)
+                    {
+                        counter.mJointUpdates++;
+                    }
+                    mConnectionLayouter.markDirty(conn);
                     iter.remove();
                 }
             }
 
             processingDone();
+            updateLoadProgress();
         }
         finally
         {
             mProcessing = false;
+            mCounter = null;
+            if (counter != null)
+            {
+                reportStatistics(counter, budgetNanos);
+            }
+        }
+    }
+
+    /**
+     * Sets a method to be called with the {@link ProcessingStatistics} of
+     * every processing run.
+     *
+     * @param pOnProcessed
+     *            a {@link Consumer} receiving the statistics, or {@code null}
+     * @since 16.10.2026
+     */
+    public final void setOnProcessed(final Consumer<ProcessingStatistics> pOnProcessed)
+    {
+        mOnProcessed = pOnProcessed;
+    }
+
+    private long getProcessingBudgetNanos()
+    {
+        final String budget = mProperties == null ? null : mProperties.getCustomProperties().get(PROCESSING_BUDGET_KEY);
+        if (budget != null)
+        {
+            try
+            {
+                return (long) (Double.parseDouble(budget) * TimeUnit.MILLISECONDS.toNanos(1));
+            }
+            catch (final NumberFormatException e)
+            {
+                LOGGER.debug("Invalid processing budget '{}': ", budget, e); //$NON-NLS-1$
+            }
+        }
+        return 0;
+    }
+
+    private void reportStatistics(final ProcessingCounter pCounter, final long pBudgetNanos)
+    {
+        final ProcessingStatistics statistics = new ProcessingStatistics(pCounter.mNotifications,
+                pCounter.mSkinsCreated, pCounter.mSkinsRemoved, pCounter.mConnectorUpdates, pCounter.mJointUpdates,
+                pCounter.mDrawn ? Math.max(0, mConnectionLayouter.getDrawnConnectionCount()) : 0,
+                System.nanoTime() - pCounter.mStart, pCounter.mDrawNanos,
+                pCounter.mDrawn ? mConnectionLayouter.getIntersectionNanos() : 0);
+
+        if (pBudgetNanos > 0 && statistics.totalNanos() > pBudgetNanos)
+        {
+            LOGGER.warn("Processing took {} ms, exceeding the budget of {} ms: {}", statistics.totalMillis(), //$NON-NLS-1$
+                    mProperties.getCustomProperties().get(PROCESSING_BUDGET_KEY), statistics);
+        }
+
+        final Consumer<ProcessingStatistics> onProcessed = mOnProcessed;
+        if (onProcessed != null)
+        {
+            onProcessed.accept(statistics);
+        }
+    }
+
+    private boolean hasTimeLeft()
+    {
+        return mSliceDeadline == Long.MAX_VALUE || System.nanoTime() < mSliceDeadline;
+    }
+
+    /**
+     * Schedules a call to {@link #process()} for the next JavaFX pulse if
+     * {@link #COALESCE_PROCESSING_KEY coalescing} is enabled, otherwise
+     * processes the queue immediately.
+     */
+    private void requestProcess()
+    {
+        if (!isCoalescing())
+        {
+            process();
+        }
+        else if (!mProcessScheduled && Platform.isFxApplicationThread())
+        {
+            mProcessScheduled = true;
+            mProcessTimer.start();
+        }
+    }
+
+    private boolean isCoalescing()
+    {
+        return mProperties != null
+                && Boolean.toString(true).equals(mProperties.getCustomProperties().get(COALESCE_PROCESSING_KEY));
+    }
+
+    /**
+     * Drains the notification queue and drops every {@link Notification#SET
+     * SET} or {@link Notification#UNSET UNSET} notification that is followed by
+     * another one for the same notifier and feature. The handlers only read the
+     * current value of the notifier, so only the last one has to be processed.
+     * All other notifications are kept in their original order.
+     *
+     * @return the merged notifications
+     */
+    private List<Notification> pollMerged()
+    {
+        final List<Notification> polled = new ArrayList<>();
+        final Map<NotificationKey, Integer> lastSetIndex = new HashMap<>();
+        Notification n;
+        while ((n = mContentAdapter.poll()) != null)
+        {
+            if (n.getEventType() == Notification.SET || n.getEventType() == Notification.UNSET)
+            {
+                lastSetIndex.put(new NotificationKey(n.getNotifier(), n.getFeature()), polled.size());
+            }
+            polled.add(n);
+        }
+
+        if (lastSetIndex.size() == polled.size())
+        {
+            return polled;
+        }
+
+        final List<Notification> merged = new ArrayList<>(polled.size());
+        for (int i = 0; i < polled.size(); i++)
+        {
+            final Notification next = polled.get(i);
+            if (next.getEventType() != Notification.SET && next.getEventType() != Notification.UNSET
+                    || lastSetIndex.get(new NotificationKey(next.getNotifier(), next.getFeature())) == i)
+            {
+                merged.add(next);
+            }
+        }
+        return merged;
+    }
+
+    private void processQueued(final Notification pNotification)
+    {
+        if (mCounter != null)
+        {
+            mCounter.mNotifications++;
+        }
+        try
+        {
+            processFeatureChanged(pNotification);
+        }
+        catch (Exception e)
+        {
+            LOGGER.error("Could not process update notification '{}': ", pNotification, e); //$NON-NLS-1$
         }
     }
 
@@ -449,6 +971,17 @@ public class GraphEditorController<E extends GraphEditor>
         }
     }
 
+    private static ConnectionLayouter createConnectionLayouter(final SkinManager pSkinManager,
+            final GraphEditorProperties pProperties)
+    {
+        if (pProperties != null
+                && Boolean.toString(true).equals(pProperties.getCustomProperties().get(CanvasConnectionLayouter.CANVAS_KEY)))
+        {
+            return new CanvasConnectionLayouter(pSkinManager, pProperties);
+        }
+        return new DefaultConnectionLayouter(pSkinManager, pProperties);
+    }
+
     /**
      * Called when all queued commands have been processed
      *
@@ -456,7 +989,22 @@ public class GraphEditorController<E extends GraphEditor>
      */
     protected void processingDone()
     {
-        mConnectionLayouter.draw();
+        final ProcessingCounter counter = mCounter;
+        if (counter != null)
+        {
+            final long start = System.nanoTime();
+            mConnectionLayouter.draw();
+            counter.mDrawNanos += System.nanoTime() - start;
+            counter.mDrawn = true;
+        }
+        else
+        {
+            mConnectionLayouter.draw();
+        }
+        if (mView != null)
+        {
+            mView.requestVisibleSkinsUpdate();
+        }
     }
 
     private void nodePositionChanged(final Notification pChange)
@@ -464,11 +1012,13 @@ public class GraphEditorController<E extends GraphEditor>
         final GNode node = (GNode) pChange.getNotifier();
         if (node != null)
         {
+            mSelectionManager.updateNode(node);
             final GNodeSkin skin = mSkinManager.lookupNode(node);
             if (skin != null)
             {
                 skin.getRoot().relocate(node.getX(), node.getY());
             }
+            mConnectionLayouter.markDirty(node);
         }
     }
 
@@ -477,11 +1027,13 @@ public class GraphEditorController<E extends GraphEditor>
         final GNode node = (GNode) pChange.getNotifier();
         if (node != null)
         {
+            mSelectionManager.updateNode(node);
             final GNodeSkin skin = mSkinManager.lookupNode(node);
             if (skin != null)
             {
                 skin.getRoot().resize(node.getWidth(), node.getHeight());
             }
+            mConnectionLayouter.markDirty(node);
         }
     }
 
@@ -490,11 +1042,13 @@ public class GraphEditorController<E extends GraphEditor>
         final GJoint joint = (GJoint) pChange.getNotifier();
         if (joint != null)
         {
+            mSelectionManager.updateJoint(joint);
             final GJointSkin skin = mSkinManager.lookupJoint(joint);
             if (skin != null)
             {
                 skin.initialize();
             }
+            mConnectionLayouter.markDirty(joint.getConnection());
         }
     }
 
@@ -517,6 +1071,7 @@ public class GraphEditorController<E extends GraphEditor>
         mSelectionManager.clearSelection(pJoint);
         mModelLayoutUpdater.removeJoint(pJoint);
         mSkinManager.removeJoint(pJoint);
+        countSkinRemoved();
     }
 
     private void removeJoint(final GJoint pJoint, final Object pNotifier)
@@ -560,10 +1115,12 @@ public class GraphEditorController<E extends GraphEditor>
     private void removeConnection(final GConnection pConnection)
     {
         mConnectionsToAdd.remove(pConnection);
+        mConnectionLayouter.markAllDirty();
 
         mSelectionManager.removeConnection(pConnection);
         mSelectionManager.clearSelection(pConnection);
         mSkinManager.removeConnection(pConnection);
+        countSkinRemoved();
 
         for (final GJoint joint : pConnection.getJoints())
         {
@@ -594,6 +1151,15 @@ public class GraphEditorController<E extends GraphEditor>
         mSelectionManager.clearSelection(pNode);
         mModelLayoutUpdater.removeNode(pNode);
         mSkinManager.removeNode(pNode);
+        countSkinRemoved();
+    }
+
+    private void countSkinRemoved()
+    {
+        if (mCounter != null)
+        {
+            mCounter.mSkinsRemoved++;
+        }
     }
 
     private void addConnector(final GConnector pConnector)
@@ -608,6 +1174,7 @@ public class GraphEditorController<E extends GraphEditor>
         mSelectionManager.removeConnector(pConnector);
         mConnectorDragManager.removeConnector(pConnector);
         mSkinManager.removeConnector(pConnector);
+        countSkinRemoved();
     }
 
     /**
@@ -618,6 +1185,24 @@ public class GraphEditorController<E extends GraphEditor>
         return mConnectionLayouter;
     }
 
+    /**
+     * @return {@link IdLookup} instance
+     * @since 16.10.2026
+     */
+    public final IdLookup getIdLookup()
+    {
+        return mIdLookup;
+    }
+
+    /**
+     * @return {@link AdjacencyLookup} instance
+     * @since 16.10.2026
+     */
+    public final AdjacencyLookup getAdjacencyLookup()
+    {
+        return mAdjacencyLookup;
+    }
+
     /**
      * @return {@link GraphEditor} instance
      */
@@ -768,24 +1353,209 @@ public class GraphEditorController<E extends GraphEditor>
         }
     }
 
-    private static class GraphEditorEContentAdapter extends EContentAdapter
+    private record NotificationKey(Object notifier, Object feature)
+    {
+    }
+
+    /**
+     * Mutable counters of a single measured processing run
+     */
+    private static final class ProcessingCounter
     {
 
-        private final Queue<Notification> imQueue = new ConcurrentLinkedQueue<>();
+        private final long mStart = System.nanoTime();
+        private int mNotifications;
+        private int mSkinsCreated;
+        private int mSkinsRemoved;
+        private int mConnectorUpdates;
+        private int mJointUpdates;
+        private long mDrawNanos;
+        private boolean mDrawn;
+    }
+
+    /**
+     * Queues the notifications of the model and of every element that was
+     * attached to it.
+     *
+     * <p>
+     * Unlike an {@link EContentAdapter}, this adapter does not walk the whole
+     * resource set, but it is still attached to every element of the model:
+     * when a model is set, the controller attaches it to all existing elements
+     * through the handlers of the synthetic ADD notifications, later on to
+     * every element whose addition it processes. Skins of elements outside of
+     * the visible area depend on these notifications as well, so the
+     * attachment is not deferred. The handlers only read the current state of
+     * an element, so changes before its attachment are not missed.
+     * Notifications without a handler are dropped. A {@link Notification#SET
+     * SET} notification replaces a queued one for the same notifier and
+     * feature that was not polled yet, even if other notifications were queued
+     * in between, e.g. alternating X and Y changes during a drag. Any other
+     * notification, e.g. an {@link Notification#ADD ADD} or
+     * {@link Notification#REMOVE REMOVE}, ends this merging for all pending
+     * SETs, so no SET is moved across a structural change.
+     * </p>
+     */
+    private static class GraphEditorContentAdapter extends AdapterImpl
+    {
+
+        private final Predicate<Notification> imFilter;
+        private final Deque<QueuedNotification> imQueue = new ArrayDeque<>();
+        private final Map<NotificationKey, QueuedNotification> imPendingSets = new HashMap<>();
+
+        GraphEditorContentAdapter(final Predicate<Notification> pFilter)
+        {
+            imFilter = pFilter;
+        }
+
+        @Override
+        public void notifyChanged(final Notification pNotification)
+        {
+            if (pNotification.getEventType() == Notification.REMOVING_ADAPTER || !imFilter.test(pNotification))
+            {
+                return;
+            }
+            synchronized (imQueue)
+            {
+                if (!isSet(pNotification))
+                {
+                    imPendingSets.clear();
+                    imQueue.add(new QueuedNotification(pNotification));
+                    return;
+                }
+
+                final NotificationKey key = new NotificationKey(pNotification.getNotifier(),
+                        pNotification.getFeature());
+                final QueuedNotification pending = imPendingSets.get(key);
+                if (pending != null)
+                {
+                    // the handlers only read the current value, the previous notification is obsolete:
+                    pending.imNotification = pNotification;
+                }
+                else
+                {
+                    final QueuedNotification queued = new QueuedNotification(pNotification);
+                    imPendingSets.put(key, queued);
+                    imQueue.add(queued);
+                }
+            }
+        }
 
         @Override
-        public final void notifyChanged(final Notification pNotification)
+        public boolean isAdapterForType(final Object pType)
+        {
+            return pType == GraphEditorContentAdapter.class;
+        }
+
+        Notification poll()
+        {
+            synchronized (imQueue)
+            {
+                final QueuedNotification queued = imQueue.poll();
+                if (queued == null)
+                {
+                    return null;
+                }
+                if (isSet(queued.imNotification))
+                {
+                    // later SETs of the same feature have to be processed again:
+                    imPendingSets.remove(new NotificationKey(queued.imNotification.getNotifier(),
+                            queued.imNotification.getFeature()), queued);
+                }
+                return queued.imNotification;
+            }
+        }
+
+        void clear()
         {
-            super.notifyChanged(pNotification);
-            if (pNotification.getEventType() != Notification.REMOVING_ADAPTER)
+            synchronized (imQueue)
             {
-                imQueue.add(pNotification);
+                imQueue.clear();
+                imPendingSets.clear();
             }
         }
 
-        Queue<Notification> getQueue()
+        void attach(final EObject pElement)
         {
-            return imQueue;
+            // only scans the few adapters of the element itself:
+            if (!pElement.eAdapters().contains(this))
+            {
+                pElement.eAdapters().add(this);
+            }
+        }
+
+        void detach(final EObject pElement)
+        {
+            pElement.eAdapters().remove(this);
+        }
+
+        void attachNode(final GNode pNode)
+        {
+            attach(pNode);
+            for (final GConnector connector : pNode.getConnectors())
+            {
+                attach(connector);
+            }
+        }
+
+        void detachNode(final GNode pNode)
+        {
+            detach(pNode);
+            for (final GConnector connector : pNode.getConnectors())
+            {
+                detach(connector);
+            }
+        }
+
+        void attachConnection(final GConnection pConnection)
+        {
+            attach(pConnection);
+            for (final GJoint joint : pConnection.getJoints())
+            {
+                attach(joint);
+            }
+        }
+
+        void detachConnection(final GConnection pConnection)
+        {
+            detach(pConnection);
+            for (final GJoint joint : pConnection.getJoints())
+            {
+                detach(joint);
+            }
+        }
+
+        void detachModel(final GModel pModel)
+        {
+            detach(pModel);
+            for (final GNode node : pModel.getNodes())
+            {
+                detachNode(node);
+            }
+            for (final GConnection connection : pModel.getConnections())
+            {
+                detachConnection(connection);
+            }
+        }
+
+        private static boolean isSet(final Notification pNotification)
+        {
+            return pNotification.getEventType() == Notification.SET
+                    || pNotification.getEventType() == Notification.UNSET;
+        }
+
+        /**
+         * A queue entry, its notification is replaced by later SETs of the
+         * same feature
+         */
+        private static final class QueuedNotification
+        {
+
+            private Notification imNotification;
+
+            QueuedNotification(final Notification pNotification)
+            {
+                imNotification = pNotification;
+            }
         }
     }
 }
@@ -43,6 +43,7 @@ public final class ConnectionCopier
      *            a map that links source nodes to their copies in its key-value
      *            pairs
      * @return the list of created connections
+     * @see io.github.eckig.grapheditor.core.model.GraphFragment
      */
     public static List<GConnection> copyConnections(final Map<GNode, GNode> copies)
     {
@@ -52,9 +53,9 @@ public final class ConnectionCopier
         {
             final GNode copy = copies.get(node);
 
-            for (final GConnector connector : node.getConnectors())
+            for (int connectorIndex = 0; connectorIndex < node.getConnectors().size(); connectorIndex++)
             {
-                final int connectorIndex = node.getConnectors().indexOf(connector);
+                final GConnector connector = node.getConnectors().get(connectorIndex);
                 final GConnector copiedConnector = copy.getConnectors().get(connectorIndex);
 
                 copiedConnector.getConnections().clear();
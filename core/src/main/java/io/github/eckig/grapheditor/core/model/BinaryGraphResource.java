@@ -0,0 +1,591 @@
+/*
+ * Copyright (C) 2005 - 2014 by TESIS DYNAware GmbH
+ */
+package io.github.eckig.grapheditor.core.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.util.InternalEList;
+
+import io.github.eckig.grapheditor.model.GConnection;
+import io.github.eckig.grapheditor.model.GConnector;
+import io.github.eckig.grapheditor.model.GJoint;
+import io.github.eckig.grapheditor.model.GModel;
+import io.github.eckig.grapheditor.model.GNode;
+import io.github.eckig.grapheditor.model.GraphFactory;
+
+
+/**
+ * A {@link org.eclipse.emf.ecore.resource.Resource Resource} that stores a
+ * {@link GModel} in a compact binary format instead of XMI.
+ *
+ * <p>
+ * The model is written and read in a single pass: First the model attributes,
+ * then all nodes with their connectors, then all connections with their joints
+ * and finally the connections of every connector. References between
+ * connectors and connections are stored as indices into the order in which the
+ * elements were written, instead of string URIs. Strings are stored once and
+ * referenced by index afterwards, so repeated type names cost a few bytes
+ * only.
+ * </p>
+ *
+ * <p>
+ * References to elements outside of the saved {@link GModel} are not
+ * supported and are dropped when saving.
+ * </p>
+ *
+ * @see BinaryGraphResourceFactory
+ * @since 16.10.2026
+ */
+public class BinaryGraphResource extends ResourceImpl
+{
+
+    /**
+     * Identifies the format at the start of a stream ({@code "GEB"} + version)
+     */
+    private static final int MAGIC = 0x47454201;
+
+    /**
+     * Load option: if set to {@link Boolean#TRUE} and the resource has a file
+     * {@link URI}, the file is mapped into memory and the model is read
+     * straight from the mapping instead of through a stream. This only
+     * changes how the file is read: the whole {@link GModel} is still created
+     * when the resource is loaded, so it does not reduce the memory needed for
+     * huge models. Files larger than 2 GB cannot be mapped.
+     */
+    public static final String OPTION_MEMORY_MAPPED = "MEMORY_MAPPED";
+
+    private static final int NULL_STRING = -1;
+    private static final int NEW_STRING = -2;
+    private static final int NO_INDEX = -1;
+
+    /**
+     * Creates a new {@link BinaryGraphResource} with the given {@link URI}.
+     *
+     * @param pUri
+     *            the {@link URI} of the resource
+     */
+    public BinaryGraphResource(final URI pUri)
+    {
+        super(pUri);
+    }
+
+    @Override
+    public void load(final Map<?, ?> pOptions) throws IOException
+    {
+        if (pOptions != null && Boolean.TRUE.equals(pOptions.get(OPTION_MEMORY_MAPPED)) && getURI() != null
+                && getURI().isFile() && !isLoaded())
+        {
+            load(new MappedInputStream(map(Path.of(getURI().toFileString()))), pOptions);
+        }
+        else
+        {
+            super.load(pOptions);
+        }
+    }
+
+    /**
+     * Maps the given file into memory, without reading it.
+     */
+    private static ByteBuffer map(final Path pFile) throws IOException
+    {
+        try (final FileChannel channel = FileChannel.open(pFile, StandardOpenOption.READ))
+        {
+            if (channel.size() > Integer.MAX_VALUE)
+            {
+                throw new IOException("File too large to be mapped: " + pFile);
+            }
+            // the mapping stays valid after the channel is closed:
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    @Override
+    protected void doSave(final OutputStream pOutputStream, final Map<?, ?> pOptions) throws IOException
+    {
+        final GModel model = getContents().isEmpty() ? null : getModel();
+        final ModelWriter writer = new ModelWriter(pOutputStream);
+        writer.write(model);
+    }
+
+    @Override
+    protected void doLoad(final InputStream pInputStream, final Map<?, ?> pOptions) throws IOException
+    {
+        final Input input = pInputStream instanceof MappedInputStream mapped ? Input.of(mapped.mBuffer.duplicate())
+                : Input.of(new DataInputStream(new BufferedInputStream(pInputStream)));
+        final GModel model = new ModelReader(input).read();
+        if (model != null)
+        {
+            getContents().add(model);
+        }
+    }
+
+    /**
+     * Writes the given nodes and connections in the format of this resource,
+     * as if they were the contents of an otherwise empty {@link GModel}. The
+     * elements are not added to any model, so they stay where they are.
+     *
+     * @param pNodes
+     *            the nodes to write
+     * @param pConnections
+     *            the connections to write
+     * @param pOutputStream
+     *            the stream to write to
+     * @throws IOException
+     *             if writing to the stream failed
+     */
+    static void write(final List<GNode> pNodes, final List<GConnection> pConnections,
+            final OutputStream pOutputStream) throws IOException
+    {
+        new ModelWriter(pOutputStream).write(GraphFactory.eINSTANCE.createGModel(), pNodes, pConnections);
+    }
+
+    private GModel getModel() throws IOException
+    {
+        final EObject root = getContents().get(0);
+        if (root instanceof GModel model)
+        {
+            return model;
+        }
+        throw new IOException("Only GModel contents are supported, found: " + root.eClass().getName());
+    }
+
+    /**
+     * Writes a {@link GModel} to a stream.
+     */
+    private static final class ModelWriter
+    {
+
+        private final DataOutputStream mOutput;
+        private final Map<String, Integer> mStrings = new HashMap<>();
+
+        ModelWriter(final OutputStream pOutputStream)
+        {
+            mOutput = new DataOutputStream(new BufferedOutputStream(pOutputStream));
+        }
+
+        void write(final GModel pModel) throws IOException
+        {
+            if (pModel != null)
+            {
+                write(pModel, pModel.getNodes(), pModel.getConnections());
+            }
+            else
+            {
+                mOutput.writeInt(MAGIC);
+                mOutput.writeBoolean(false);
+                mOutput.flush();
+            }
+        }
+
+        /**
+         * Writes the attributes of the given {@link GModel} with the given
+         * nodes and connections, which do not have to be contained in it.
+         */
+        void write(final GModel pModel, final List<GNode> pNodes, final List<GConnection> pConnections)
+                throws IOException
+        {
+            mOutput.writeInt(MAGIC);
+            mOutput.writeBoolean(true);
+            writeModel(pModel, pNodes, pConnections);
+            mOutput.flush();
+        }
+
+        private void writeModel(final GModel pModel, final List<GNode> pNodes, final List<GConnection> pConnections)
+                throws IOException
+        {
+            writeString(pModel.getType());
+            mOutput.writeDouble(pModel.getContentWidth());
+            mOutput.writeDouble(pModel.getContentHeight());
+
+            final Map<GConnector, Integer> connectorIndices = new IdentityHashMap<>();
+            final List<GConnector> connectors = new ArrayList<>();
+            mOutput.writeInt(pNodes.size());
+            for (final GNode node : pNodes)
+            {
+                writeString(node.getId());
+                writeString(node.getType());
+                mOutput.writeDouble(node.getX());
+                mOutput.writeDouble(node.getY());
+                mOutput.writeDouble(node.getWidth());
+                mOutput.writeDouble(node.getHeight());
+                mOutput.writeInt(node.getConnectors().size());
+                for (final GConnector connector : node.getConnectors())
+                {
+                    connectorIndices.put(connector, connectors.size());
+                    connectors.add(connector);
+                    writeString(connector.getId());
+                    writeString(connector.getType());
+                    mOutput.writeDouble(connector.getX());
+                    mOutput.writeDouble(connector.getY());
+                    mOutput.writeBoolean(connector.isConnectionDetachedOnDrag());
+                }
+            }
+
+            final Map<GConnection, Integer> connectionIndices = new IdentityHashMap<>();
+            mOutput.writeInt(pConnections.size());
+            for (final GConnection connection : pConnections)
+            {
+                connectionIndices.put(connection, connectionIndices.size());
+                writeString(connection.getId());
+                writeString(connection.getType());
+                mOutput.writeInt(connectorIndices.getOrDefault(connection.getSource(), NO_INDEX));
+                mOutput.writeInt(connectorIndices.getOrDefault(connection.getTarget(), NO_INDEX));
+                mOutput.writeInt(connection.getJoints().size());
+                for (final GJoint joint : connection.getJoints())
+                {
+                    writeString(joint.getId());
+                    writeString(joint.getType());
+                    mOutput.writeDouble(joint.getX());
+                    mOutput.writeDouble(joint.getY());
+                }
+            }
+
+            for (final GConnector connector : connectors)
+            {
+                final List<GConnection> connections = connector.getConnections();
+                int count = 0;
+                for (final GConnection connection : connections)
+                {
+                    if (connectionIndices.containsKey(connection))
+                    {
+                        count++;
+                    }
+                }
+                mOutput.writeInt(count);
+                for (final GConnection connection : connections)
+                {
+                    final Integer index = connectionIndices.get(connection);
+                    if (index != null)
+                    {
+                        mOutput.writeInt(index);
+                    }
+                }
+            }
+        }
+
+        private void writeString(final String pString) throws IOException
+        {
+            if (pString == null)
+            {
+                mOutput.writeInt(NULL_STRING);
+                return;
+            }
+
+            final Integer index = mStrings.get(pString);
+            if (index != null)
+            {
+                mOutput.writeInt(index);
+                return;
+            }
+
+            mStrings.put(pString, mStrings.size());
+            final byte[] bytes = pString.getBytes(StandardCharsets.UTF_8);
+            mOutput.writeInt(NEW_STRING);
+            mOutput.writeInt(bytes.length);
+            mOutput.write(bytes);
+        }
+    }
+
+    /**
+     * The values read by the {@link ModelReader}.
+     */
+    private interface Input
+    {
+
+        int readInt() throws IOException;
+
+        double readDouble() throws IOException;
+
+        boolean readBoolean() throws IOException;
+
+        void readFully(byte[] pBytes) throws IOException;
+
+        static Input of(final DataInputStream pInput)
+        {
+            return new Input()
+            {
+
+                @Override
+                public int readInt() throws IOException
+                {
+                    return pInput.readInt();
+                }
+
+                @Override
+                public double readDouble() throws IOException
+                {
+                    return pInput.readDouble();
+                }
+
+                @Override
+                public boolean readBoolean() throws IOException
+                {
+                    return pInput.readBoolean();
+                }
+
+                @Override
+                public void readFully(final byte[] pBytes) throws IOException
+                {
+                    pInput.readFully(pBytes);
+                }
+            };
+        }
+
+        static Input of(final ByteBuffer pBuffer)
+        {
+            return new Input()
+            {
+
+                @Override
+                public int readInt() throws IOException
+                {
+                    checkRemaining(Integer.BYTES);
+                    return pBuffer.getInt();
+                }
+
+                @Override
+                public double readDouble() throws IOException
+                {
+                    checkRemaining(Double.BYTES);
+                    return pBuffer.getDouble();
+                }
+
+                @Override
+                public boolean readBoolean() throws IOException
+                {
+                    checkRemaining(1);
+                    return pBuffer.get() != 0;
+                }
+
+                @Override
+                public void readFully(final byte[] pBytes) throws IOException
+                {
+                    checkRemaining(pBytes.length);
+                    pBuffer.get(pBytes);
+                }
+
+                private void checkRemaining(final int pBytes) throws EOFException
+                {
+                    if (pBuffer.remaining() < pBytes)
+                    {
+                        throw new EOFException();
+                    }
+                }
+            };
+        }
+    }
+
+    /**
+     * Stream over a mapped file, which {@link #doLoad(InputStream, Map)} reads
+     * directly from the mapping.
+     */
+    private static final class MappedInputStream extends InputStream
+    {
+
+        private final ByteBuffer mBuffer;
+
+        MappedInputStream(final ByteBuffer pBuffer)
+        {
+            mBuffer = pBuffer;
+        }
+
+        @Override
+        public int read()
+        {
+            // only used if the stream was wrapped, e.g. by a load option of the resource:
+            return mBuffer.hasRemaining() ? mBuffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(final byte[] pBytes, final int pOffset, final int pLength)
+        {
+            if (pLength == 0)
+            {
+                return 0;
+            }
+            if (!mBuffer.hasRemaining())
+            {
+                return -1;
+            }
+            final int length = Math.min(pLength, mBuffer.remaining());
+            mBuffer.get(pBytes, pOffset, length);
+            return length;
+        }
+
+        @Override
+        public int available()
+        {
+            return mBuffer.remaining();
+        }
+    }
+
+    /**
+     * Reads a {@link GModel}.
+     */
+    private static final class ModelReader
+    {
+
+        private final Input mInput;
+        private final List<String> mStrings = new ArrayList<>();
+
+        ModelReader(final Input pInput)
+        {
+            mInput = pInput;
+        }
+
+        GModel read() throws IOException
+        {
+            final int magic = mInput.readInt();
+            if (magic != MAGIC)
+            {
+                throw new IOException("Not a binary graph model, unknown header: " + Integer.toHexString(magic));
+            }
+            return mInput.readBoolean() ? readModel() : null;
+        }
+
+        private GModel readModel() throws IOException
+        {
+            final GraphFactory factory = GraphFactory.eINSTANCE;
+            final GModel model = factory.createGModel();
+            model.setType(readString());
+            model.setContentWidth(mInput.readDouble());
+            model.setContentHeight(mInput.readDouble());
+
+            final int nodeCount = readCount();
+            final List<GNode> nodes = new ArrayList<>(nodeCount);
+            final List<GConnector> connectors = new ArrayList<>(nodeCount * 2);
+            for (int i = 0; i < nodeCount; i++)
+            {
+                final GNode node = factory.createGNode();
+                node.setId(readString());
+                node.setType(readString());
+                node.setX(mInput.readDouble());
+                node.setY(mInput.readDouble());
+                node.setWidth(mInput.readDouble());
+                node.setHeight(mInput.readDouble());
+
+                final int connectorCount = readCount();
+                final List<GConnector> nodeConnectors = new ArrayList<>(connectorCount);
+                for (int j = 0; j < connectorCount; j++)
+                {
+                    final GConnector connector = factory.createGConnector();
+                    connector.setId(readString());
+                    connector.setType(readString());
+                    connector.setX(mInput.readDouble());
+                    connector.setY(mInput.readDouble());
+                    connector.setConnectionDetachedOnDrag(mInput.readBoolean());
+                    nodeConnectors.add(connector);
+                }
+                // the written lists are unique, skip the linear uniqueness check:
+                ((InternalEList<GConnector>) node.getConnectors()).addAllUnique(nodeConnectors);
+                connectors.addAll(nodeConnectors);
+                nodes.add(node);
+            }
+            ((InternalEList<GNode>) model.getNodes()).addAllUnique(nodes);
+
+            final int connectionCount = readCount();
+            final List<GConnection> connections = new ArrayList<>(connectionCount);
+            for (int i = 0; i < connectionCount; i++)
+            {
+                final GConnection connection = factory.createGConnection();
+                connection.setId(readString());
+                connection.setType(readString());
+                connection.setSource(get(connectors, mInput.readInt()));
+                connection.setTarget(get(connectors, mInput.readInt()));
+
+                final int jointCount = readCount();
+                final List<GJoint> joints = new ArrayList<>(jointCount);
+                for (int j = 0; j < jointCount; j++)
+                {
+                    final GJoint joint = factory.createGJoint();
+                    joint.setId(readString());
+                    joint.setType(readString());
+                    joint.setX(mInput.readDouble());
+                    joint.setY(mInput.readDouble());
+                    joints.add(joint);
+                }
+                ((InternalEList<GJoint>) connection.getJoints()).addAllUnique(joints);
+                connections.add(connection);
+            }
+            ((InternalEList<GConnection>) model.getConnections()).addAllUnique(connections);
+
+            for (final GConnector connector : connectors)
+            {
+                final int count = readCount();
+                final List<GConnection> connectorConnections = new ArrayList<>(count);
+                for (int i = 0; i < count; i++)
+                {
+                    final GConnection connection = get(connections, mInput.readInt());
+                    if (connection != null)
+                    {
+                        connectorConnections.add(connection);
+                    }
+                }
+                ((InternalEList<GConnection>) connector.getConnections()).addAllUnique(connectorConnections);
+            }
+            return model;
+        }
+
+        private int readCount() throws IOException
+        {
+            final int count = mInput.readInt();
+            if (count < 0)
+            {
+                throw new IOException("Corrupt binary graph model, negative element count: " + count);
+            }
+            return count;
+        }
+
+        private String readString() throws IOException
+        {
+            final int index = mInput.readInt();
+            if (index == NULL_STRING)
+            {
+                return null;
+            }
+            else if (index == NEW_STRING)
+            {
+                final byte[] bytes = new byte[readCount()];
+                mInput.readFully(bytes);
+                final String string = new String(bytes, StandardCharsets.UTF_8);
+                mStrings.add(string);
+                return string;
+            }
+            return get(mStrings, index);
+        }
+
+        private static <T> T get(final List<T> pElements, final int pIndex) throws IOException
+        {
+            if (pIndex == NO_INDEX)
+            {
+                return null;
+            }
+            else if (pIndex < 0 || pIndex >= pElements.size())
+            {
+                throw new IOException("Corrupt binary graph model, invalid index: " + pIndex);
+            }
+            return pElements.get(pIndex);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2005 - 2014 by TESIS DYNAware GmbH
+ */
+package io.github.eckig.grapheditor.core.model;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceFactoryImpl;
+
+
+/**
+ * {@link Resource.Factory} creating {@link BinaryGraphResource} instances.
+ *
+ * <p>
+ * Can be used in place of the {@code XMIResourceFactoryImpl}, e.g. registered
+ * for the {@link #FILE_EXTENSION} in the resource set of an editing domain:
+ *
+ * <pre>
+ * resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap()
+ *         .put(BinaryGraphResourceFactory.FILE_EXTENSION, new BinaryGraphResourceFactory());
+ * </pre>
+ * </p>
+ *
+ * @since 16.10.2026
+ */
+public class BinaryGraphResourceFactory extends ResourceFactoryImpl
+{
+
+    /**
+     * Suggested file extension for binary graph models
+     */
+    public static final String FILE_EXTENSION = "graphbin";
+
+    @Override
+    public Resource createResource(final URI pUri)
+    {
+        return new BinaryGraphResource(pUri);
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright (C) 2005 - 2014 by TESIS DYNAware GmbH
+ */
+package io.github.eckig.grapheditor.core.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.command.AbstractCommand;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.NotificationChain;
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.impl.ENotificationImpl;
+
+import io.github.eckig.grapheditor.model.GConnection;
+import io.github.eckig.grapheditor.model.GConnector;
+import io.github.eckig.grapheditor.model.GModel;
+import io.github.eckig.grapheditor.model.GNode;
+import io.github.eckig.grapheditor.model.GraphPackage;
+
+
+/**
+ * Command removing many nodes and connections from a {@link GModel} at once.
+ *
+ * <p>
+ * Unlike a compound of {@link org.eclipse.emf.edit.command.RemoveCommand
+ * RemoveCommands}, every affected list is changed in a single linear pass and
+ * fires a single {@link Notification#REMOVE_MANY REMOVE_MANY} notification:
+ * {@link GModel#getNodes()}, {@link GModel#getConnections()} and the
+ * {@link GConnector#getConnections() connections} of every source and target
+ * connector. The connectors and joints of the removed elements are removed
+ * along with their containers.
+ * </p>
+ *
+ * <p>
+ * Undo puts every element back at its original position, redo removes them
+ * again.
+ * </p>
+ *
+ * @since 16.10.2026
+ */
+public class BulkRemoveCommand extends AbstractCommand
+{
+
+    private static final String LABEL = "Delete";
+
+    private final GModel mModel;
+    private final Set<GNode> mNodes;
+    private final Set<GConnection> mConnections;
+
+    /**
+     * Removals of the last execution, in the order they were applied
+     */
+    private final List<ListRemoval> mRemovals = new ArrayList<>();
+
+    /**
+     * Creates a new {@link BulkRemoveCommand}.
+     *
+     * @param pModel
+     *            the {@link GModel} containing the elements
+     * @param pNodes
+     *            the {@link GNode nodes} to remove
+     * @param pConnections
+     *            the {@link GConnection connections} to remove, typically
+     *            including all connections of the removed nodes
+     */
+    public BulkRemoveCommand(final GModel pModel, final Collection<GNode> pNodes,
+            final Collection<GConnection> pConnections)
+    {
+        super(LABEL);
+        mModel = pModel;
+        mNodes = newIdentitySet(pNodes);
+        mConnections = newIdentitySet(pConnections);
+    }
+
+    @Override
+    protected boolean prepare()
+    {
+        return mModel != null && (!mNodes.isEmpty() || !mConnections.isEmpty());
+    }
+
+    @Override
+    public void execute()
+    {
+        mRemovals.clear();
+        remove(mModel, GraphPackage.Literals.GMODEL__CONNECTIONS, mConnections);
+
+        // group the connections per connector, so every connector list is changed once:
+        final Map<GConnector, Set<GConnection>> byConnector = new LinkedHashMap<>();
+        for (final GConnection connection : mConnections)
+        {
+            addToConnector(byConnector, connection.getSource(), connection);
+            addToConnector(byConnector, connection.getTarget(), connection);
+        }
+        for (final Map.Entry<GConnector, Set<GConnection>> entry : byConnector.entrySet())
+        {
+            remove(entry.getKey(), GraphPackage.Literals.GCONNECTOR__CONNECTIONS, entry.getValue());
+        }
+
+        remove(mModel, GraphPackage.Literals.GMODEL__NODES, mNodes);
+    }
+
+    @Override
+    public void undo()
+    {
+        for (int i = mRemovals.size() - 1; i >= 0; i--)
+        {
+            mRemovals.get(i).undo();
+        }
+        mRemovals.clear();
+    }
+
+    @Override
+    public void redo()
+    {
+        execute();
+    }
+
+    @Override
+    public Collection<?> getAffectedObjects()
+    {
+        final List<EObject> affected = new ArrayList<>(mNodes.size() + mConnections.size());
+        affected.addAll(mNodes);
+        affected.addAll(mConnections);
+        return affected;
+    }
+
+    private void remove(final EObject pOwner, final EReference pFeature, final Set<? extends EObject> pToRemove)
+    {
+        if (pOwner != null && !pToRemove.isEmpty())
+        {
+            final ListRemoval removal = ListRemoval.remove((InternalEObject) pOwner, pFeature, pToRemove);
+            if (removal != null)
+            {
+                mRemovals.add(removal);
+            }
+        }
+    }
+
+    private static void addToConnector(final Map<GConnector, Set<GConnection>> pByConnector,
+            final GConnector pConnector, final GConnection pConnection)
+    {
+        if (pConnector != null)
+        {
+            pByConnector.computeIfAbsent(pConnector, k -> newIdentitySet(Collections.emptyList())).add(pConnection);
+        }
+    }
+
+    private static <T> Set<T> newIdentitySet(final Collection<? extends T> pElements)
+    {
+        final Set<T> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(pElements);
+        return set;
+    }
+
+    /**
+     * The removal of some elements from a single list of a single owner.
+     */
+    private static final class ListRemoval
+    {
+
+        private final InternalEObject mOwner;
+        private final EReference mFeature;
+
+        /**
+         * Original positions of the removed elements, in ascending order
+         */
+        private final int[] mPositions;
+        private final Object[] mRemoved;
+
+        private ListRemoval(final InternalEObject pOwner, final EReference pFeature, final int[] pPositions,
+                final Object[] pRemoved)
+        {
+            mOwner = pOwner;
+            mFeature = pFeature;
+            mPositions = pPositions;
+            mRemoved = pRemoved;
+        }
+
+        /**
+         * Removes all given elements from the list in a single pass.
+         *
+         * @return the performed {@link ListRemoval} or {@code null} if the
+         *         list did not contain any of the elements
+         */
+        static ListRemoval remove(final InternalEObject pOwner, final EReference pFeature,
+                final Set<? extends EObject> pToRemove)
+        {
+            final BasicEList<Object> list = getList(pOwner, pFeature);
+            final Object[] data = list.data();
+            final int size = list.size();
+
+            int[] positions = new int[Math.min(size, pToRemove.size())];
+            Object[] removed = new Object[positions.length];
+            int removedCount = 0;
+            int keptCount = 0;
+            for (int i = 0; i < size; i++)
+            {
+                final Object element = data[i];
+                if (removedCount < positions.length && pToRemove.contains(element))
+                {
+                    positions[removedCount] = i;
+                    removed[removedCount++] = element;
+                }
+                else
+                {
+                    data[keptCount++] = element;
+                }
+            }
+            if (removedCount == 0)
+            {
+                return null;
+            }
+
+            positions = Arrays.copyOf(positions, removedCount);
+            removed = Arrays.copyOf(removed, removedCount);
+            Arrays.fill(data, keptCount, size, null);
+            list.setData(keptCount, data);
+
+            final ListRemoval removal = new ListRemoval(pOwner, pFeature, positions, removed);
+            removal.updateContainers(false);
+            removal.notifyRemoved();
+            return removal;
+        }
+
+        /**
+         * Puts all removed elements back at their original positions.
+         */
+        void undo()
+        {
+            final BasicEList<Object> list = getList(mOwner, mFeature);
+            final Object[] data = list.data();
+            final int size = list.size() + mRemoved.length;
+
+            final Object[] merged = new Object[size];
+            int removedIndex = 0;
+            int keptIndex = 0;
+            for (int i = 0; i < size; i++)
+            {
+                if (removedIndex < mPositions.length && mPositions[removedIndex] == i)
+                {
+                    merged[i] = mRemoved[removedIndex++];
+                }
+                else
+                {
+                    merged[i] = data[keptIndex++];
+                }
+            }
+            list.setData(size, merged);
+
+            updateContainers(true);
+            notifyAdded();
+        }
+
+        private void updateContainers(final boolean pAdd)
+        {
+            if (!mFeature.isContainment())
+            {
+                return;
+            }
+            final int featureId = InternalEObject.EOPPOSITE_FEATURE_BASE - mOwner.eClass().getFeatureID(mFeature);
+            for (final Object element : mRemoved)
+            {
+                final InternalEObject child = (InternalEObject) element;
+                final NotificationChain notifications = pAdd ? child.eInverseAdd(mOwner, featureId, null, null)
+                        : child.eInverseRemove(mOwner, featureId, null, null);
+                if (notifications != null)
+                {
+                    notifications.dispatch();
+                }
+            }
+        }
+
+        private void notifyRemoved()
+        {
+            if (!mOwner.eNotificationRequired())
+            {
+                return;
+            }
+            if (mRemoved.length == 1)
+            {
+                mOwner.eNotify(new ENotificationImpl(mOwner, Notification.REMOVE, mFeature, mRemoved[0], null,
+                        mPositions[0]));
+            }
+            else
+            {
+                mOwner.eNotify(new ENotificationImpl(mOwner, Notification.REMOVE_MANY, mFeature,
+                        Arrays.asList(mRemoved), mPositions.clone(), mPositions[0]));
+            }
+        }
+
+        /**
+         * Notifies the re-added elements, one notification per contiguous run
+         * of positions.
+         */
+        private void notifyAdded()
+        {
+            if (!mOwner.eNotificationRequired())
+            {
+                return;
+            }
+            int start = 0;
+            for (int i = 1; i <= mPositions.length; i++)
+            {
+                if (i == mPositions.length || mPositions[i] != mPositions[i - 1] + 1)
+                {
+                    if (i - start == 1)
+                    {
+                        mOwner.eNotify(new ENotificationImpl(mOwner, Notification.ADD, mFeature, null,
+                                mRemoved[start], mPositions[start]));
+                    }
+                    else
+                    {
+                        mOwner.eNotify(new ENotificationImpl(mOwner, Notification.ADD_MANY, mFeature, null,
+                                Arrays.asList(Arrays.copyOfRange(mRemoved, start, i)), mPositions[start]));
+                    }
+                    start = i;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static BasicEList<Object> getList(final InternalEObject pOwner, final EReference pFeature)
+        {
+            if (pFeature.getEOpposite() != null)
+            {
+                throw new IllegalArgumentException("Bidirectional references are not supported: " + pFeature);
+            }
+            return (BasicEList<Object>) pOwner.eGet(pFeature);
+        }
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright (C) 2005 - 2014 by TESIS DYNAware GmbH
+ */
+package io.github.eckig.grapheditor.core.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+import io.github.eckig.grapheditor.AdjacencyLookup;
+import io.github.eckig.grapheditor.core.GraphEditorController;
+import io.github.eckig.grapheditor.model.GConnection;
+import io.github.eckig.grapheditor.model.GConnector;
+import io.github.eckig.grapheditor.model.GNode;
+
+
+/**
+ * Default {@link AdjacencyLookup} implementation
+ *
+ * <p>
+ * Holds the outgoing and incoming connections per node and is maintained by
+ * the {@link GraphEditorController} from the same notifications that update
+ * the skins. The source and target node of every connection are remembered
+ * when it is added, so a connection can still be removed after its connectors
+ * have been detached.
+ * </p>
+ *
+ * @since 16.10.2026
+ */
+public class DefaultAdjacencyLookup implements AdjacencyLookup
+{
+
+    private final Map<GNode, Adjacency> mAdjacencies = new HashMap<>();
+
+    /**
+     * The nodes every known connection is currently registered for
+     */
+    private final Map<GConnection, Ends> mEnds = new HashMap<>();
+
+    @Override
+    public List<GConnection> getOutgoingConnections(final GNode pNode)
+    {
+        final Adjacency adjacency = mAdjacencies.get(pNode);
+        return adjacency == null ? Collections.emptyList() : Collections.unmodifiableList(adjacency.mOutgoing);
+    }
+
+    @Override
+    public List<GConnection> getIncomingConnections(final GNode pNode)
+    {
+        final Adjacency adjacency = mAdjacencies.get(pNode);
+        return adjacency == null ? Collections.emptyList() : Collections.unmodifiableList(adjacency.mIncoming);
+    }
+
+    @Override
+    public List<GConnection> getConnections(final GNode pNode)
+    {
+        final Adjacency adjacency = mAdjacencies.get(pNode);
+        if (adjacency == null)
+        {
+            return Collections.emptyList();
+        }
+        final List<GConnection> connections = new ArrayList<>(adjacency.mOutgoing.size() + adjacency.mIncoming.size());
+        connections.addAll(adjacency.mOutgoing);
+        for (final GConnection connection : adjacency.mIncoming)
+        {
+            // connections from the node to itself are already part of the outgoing connections:
+            if (mEnds.get(connection).mSource != pNode)
+            {
+                connections.add(connection);
+            }
+        }
+        return connections;
+    }
+
+    @Override
+    public int getOutDegree(final GNode pNode)
+    {
+        final Adjacency adjacency = mAdjacencies.get(pNode);
+        return adjacency == null ? 0 : adjacency.mOutgoing.size();
+    }
+
+    @Override
+    public int getInDegree(final GNode pNode)
+    {
+        final Adjacency adjacency = mAdjacencies.get(pNode);
+        return adjacency == null ? 0 : adjacency.mIncoming.size();
+    }
+
+    @Override
+    public Set<GNode> getNeighbours(final GNode pNode)
+    {
+        final Set<GNode> neighbours = new LinkedHashSet<>();
+        addNeighbours(pNode, neighbours);
+        return neighbours;
+    }
+
+    @Override
+    public Set<GNode> getConnectedComponent(final GNode pNode)
+    {
+        final Set<GNode> component = new LinkedHashSet<>();
+        if (pNode == null)
+        {
+            return component;
+        }
+        final Queue<GNode> queue = new ArrayDeque<>();
+        component.add(pNode);
+        queue.add(pNode);
+        final Set<GNode> neighbours = new LinkedHashSet<>();
+        while (!queue.isEmpty())
+        {
+            neighbours.clear();
+            addNeighbours(queue.poll(), neighbours);
+            for (final GNode neighbour : neighbours)
+            {
+                if (component.add(neighbour))
+                {
+                    queue.add(neighbour);
+                }
+            }
+        }
+        return component;
+    }
+
+    /**
+     * Adds the given connection for its current source and target node.
+     *
+     * @param pConnection
+     *            the added {@link GConnection}
+     */
+    public void addConnection(final GConnection pConnection)
+    {
+        if (pConnection == null || mEnds.containsKey(pConnection))
+        {
+            return;
+        }
+        final Ends ends = new Ends(getParent(pConnection.getSource()), getParent(pConnection.getTarget()));
+        mEnds.put(pConnection, ends);
+        if (ends.mSource != null)
+        {
+            mAdjacencies.computeIfAbsent(ends.mSource, k -> new Adjacency()).mOutgoing.add(pConnection);
+        }
+        if (ends.mTarget != null)
+        {
+            mAdjacencies.computeIfAbsent(ends.mTarget, k -> new Adjacency()).mIncoming.add(pConnection);
+        }
+    }
+
+    /**
+     * Removes the given connection from the nodes it was added for.
+     *
+     * @param pConnection
+     *            the removed {@link GConnection}
+     */
+    public void removeConnection(final GConnection pConnection)
+    {
+        final Ends ends = mEnds.remove(pConnection);
+        if (ends == null)
+        {
+            return;
+        }
+        if (ends.mSource != null)
+        {
+            final Adjacency adjacency = mAdjacencies.get(ends.mSource);
+            adjacency.mOutgoing.remove(pConnection);
+            removeIfEmpty(ends.mSource, adjacency);
+        }
+        if (ends.mTarget != null)
+        {
+            final Adjacency adjacency = mAdjacencies.get(ends.mTarget);
+            adjacency.mIncoming.remove(pConnection);
+            removeIfEmpty(ends.mTarget, adjacency);
+        }
+    }
+
+    /**
+     * Moves the given connection to its current source and target node, e.g.
+     * after one of its connectors was changed. Connections that were not
+     * added before are ignored.
+     *
+     * @param pConnection
+     *            the changed {@link GConnection}
+     */
+    public void connectionChanged(final GConnection pConnection)
+    {
+        final Ends ends = mEnds.get(pConnection);
+        if (ends != null && (ends.mSource != getParent(pConnection.getSource())
+                || ends.mTarget != getParent(pConnection.getTarget())))
+        {
+            removeConnection(pConnection);
+            addConnection(pConnection);
+        }
+    }
+
+    /**
+     * Moves all connections of the given connector to their current source and
+     * target node, e.g. after the connector was added to or removed from a
+     * node.
+     *
+     * @param pConnector
+     *            the changed {@link GConnector}
+     */
+    public void connectorChanged(final GConnector pConnector)
+    {
+        for (final GConnection connection : pConnector.getConnections())
+        {
+            connectionChanged(connection);
+        }
+    }
+
+    /**
+     * Removes all connections.
+     */
+    public void clear()
+    {
+        mAdjacencies.clear();
+        mEnds.clear();
+    }
+
+    private void addNeighbours(final GNode pNode, final Set<GNode> pNeighbours)
+    {
+        final Adjacency adjacency = mAdjacencies.get(pNode);
+        if (adjacency == null)
+        {
+            return;
+        }
+        for (final GConnection connection : adjacency.mOutgoing)
+        {
+            final GNode target = mEnds.get(connection).mTarget;
+            if (target != null)
+            {
+                pNeighbours.add(target);
+            }
+        }
+        for (final GConnection connection : adjacency.mIncoming)
+        {
+            final GNode source = mEnds.get(connection).mSource;
+            if (source != null)
+            {
+                pNeighbours.add(source);
+            }
+        }
+    }
+
+    private void removeIfEmpty(final GNode pNode, final Adjacency pAdjacency)
+    {
+        if (pAdjacency.mOutgoing.isEmpty() && pAdjacency.mIncoming.isEmpty())
+        {
+            mAdjacencies.remove(pNode);
+        }
+    }
+
+    private static GNode getParent(final GConnector pConnector)
+    {
+        return pConnector == null ? null : pConnector.getParent();
+    }
+
+    /**
+     * The connections of a single node
+     */
+    private static final class Adjacency
+    {
+
+        private final List<GConnection> mOutgoing = new ArrayList<>(2);
+        private final List<GConnection> mIncoming = new ArrayList<>(2);
+    }
+
+    /**
+     * The source and target node a connection is registered for
+     */
+    private static final class Ends
+    {
+
+        private final GNode mSource;
+        private final GNode mTarget;
+
+        private Ends(final GNode pSource, final GNode pTarget)
+        {
+            mSource = pSource;
+            mTarget = pTarget;
+        }
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright (C) 2005 - 2014 by TESIS DYNAware GmbH
+ */
+package io.github.eckig.grapheditor.core.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EObject;
+
+import io.github.eckig.grapheditor.GSkin;
+import io.github.eckig.grapheditor.IdLookup;
+import io.github.eckig.grapheditor.SkinLookup;
+import io.github.eckig.grapheditor.core.GraphEditorController;
+import io.github.eckig.grapheditor.model.GConnection;
+import io.github.eckig.grapheditor.model.GConnector;
+import io.github.eckig.grapheditor.model.GJoint;
+import io.github.eckig.grapheditor.model.GNode;
+
+
+/**
+ * Default {@link IdLookup} implementation
+ *
+ * <p>
+ * Holds a map from id to element that is maintained by the
+ * {@link GraphEditorController} from the same notifications that update the
+ * skins. Adding a node or connection also adds its connectors or joints.
+ * Elements without an id are not indexed. The indexed id of every element is
+ * remembered, so an element is always removed from the right entry even if
+ * intermediate id changes were never reported.
+ * </p>
+ *
+ * @since 16.10.2026
+ */
+public class DefaultIdLookup implements IdLookup
+{
+
+    private final SkinLookup mSkinLookup;
+
+    private final Map<String, EObject> mElements = new HashMap<>();
+
+    /**
+     * Further elements per id, in case several elements share the same id
+     */
+    private final Map<String, List<EObject>> mDuplicates = new HashMap<>();
+
+    /**
+     * The next number to try per prefix of {@link #createUniqueId(String)}
+     */
+    private final Map<String, Long> mNextIds = new HashMap<>();
+
+    /**
+     * The id every indexed element was added with
+     */
+    private final Map<EObject, String> mIds = new HashMap<>();
+
+    /**
+     * Creates a new {@link DefaultIdLookup} instance.
+     *
+     * @param pSkinLookup
+     *            the {@link SkinLookup} used to look up skins
+     */
+    public DefaultIdLookup(final SkinLookup pSkinLookup)
+    {
+        mSkinLookup = pSkinLookup;
+    }
+
+    @Override
+    public EObject lookup(final String pId)
+    {
+        return pId == null ? null : mElements.get(pId);
+    }
+
+    @Override
+    public <T extends EObject> T lookup(final String pId, final Class<T> pType)
+    {
+        final EObject element = lookup(pId);
+        return pType.isInstance(element) ? pType.cast(element) : null;
+    }
+
+    @Override
+    public GSkin<?> lookupSkin(final String pId)
+    {
+        final EObject element = lookup(pId);
+        if (element instanceof GNode node)
+        {
+            return mSkinLookup.lookupNode(node);
+        }
+        else if (element instanceof GConnector connector)
+        {
+            return mSkinLookup.lookupConnector(connector);
+        }
+        else if (element instanceof GConnection connection)
+        {
+            return mSkinLookup.lookupConnection(connection);
+        }
+        else if (element instanceof GJoint joint)
+        {
+            return mSkinLookup.lookupJoint(joint);
+        }
+        return null;
+    }
+
+    @Override
+    public String createUniqueId(final String pPrefix)
+    {
+        final String prefix = pPrefix == null ? "" : pPrefix;
+        long next = mNextIds.getOrDefault(prefix, 1L);
+        String id;
+        do
+        {
+            id = prefix + next++;
+        }
+        while (mElements.containsKey(id));
+        mNextIds.put(prefix, next);
+        return id;
+    }
+
+    /**
+     * Adds the given node and its connectors.
+     *
+     * @param pNode
+     *            the added {@link GNode}
+     */
+    public void addNode(final GNode pNode)
+    {
+        add(pNode.getId(), pNode);
+        for (final GConnector connector : pNode.getConnectors())
+        {
+            add(connector.getId(), connector);
+        }
+    }
+
+    /**
+     * Removes the given node and its connectors.
+     *
+     * @param pNode
+     *            the removed {@link GNode}
+     */
+    public void removeNode(final GNode pNode)
+    {
+        remove(pNode);
+        for (final GConnector connector : pNode.getConnectors())
+        {
+            remove(connector);
+        }
+    }
+
+    /**
+     * Adds the given connector.
+     *
+     * @param pConnector
+     *            the added {@link GConnector}
+     */
+    public void addConnector(final GConnector pConnector)
+    {
+        add(pConnector.getId(), pConnector);
+    }
+
+    /**
+     * Removes the given connector.
+     *
+     * @param pConnector
+     *            the removed {@link GConnector}
+     */
+    public void removeConnector(final GConnector pConnector)
+    {
+        remove(pConnector);
+    }
+
+    /**
+     * Adds the given connection and its joints.
+     *
+     * @param pConnection
+     *            the added {@link GConnection}
+     */
+    public void addConnection(final GConnection pConnection)
+    {
+        add(pConnection.getId(), pConnection);
+        for (final GJoint joint : pConnection.getJoints())
+        {
+            add(joint.getId(), joint);
+        }
+    }
+
+    /**
+     * Removes the given connection and its joints.
+     *
+     * @param pConnection
+     *            the removed {@link GConnection}
+     */
+    public void removeConnection(final GConnection pConnection)
+    {
+        remove(pConnection);
+        for (final GJoint joint : pConnection.getJoints())
+        {
+            remove(joint);
+        }
+    }
+
+    /**
+     * Adds the given joint.
+     *
+     * @param pJoint
+     *            the added {@link GJoint}
+     */
+    public void addJoint(final GJoint pJoint)
+    {
+        add(pJoint.getId(), pJoint);
+    }
+
+    /**
+     * Removes the given joint.
+     *
+     * @param pJoint
+     *            the removed {@link GJoint}
+     */
+    public void removeJoint(final GJoint pJoint)
+    {
+        remove(pJoint);
+    }
+
+    /**
+     * Moves the given element from the id it was added with to its new id.
+     *
+     * @param pElement
+     *            the changed element
+     * @param pNewId
+     *            the current id (may be {@code null})
+     */
+    public void idChanged(final EObject pElement, final String pNewId)
+    {
+        add(pNewId, pElement);
+    }
+
+    /**
+     * Removes all elements.
+     */
+    public void clear()
+    {
+        mElements.clear();
+        mDuplicates.clear();
+        mIds.clear();
+    }
+
+    private void add(final String pId, final EObject pElement)
+    {
+        // an element is only indexed once:
+        remove(pElement);
+        if (pId == null)
+        {
+            return;
+        }
+        mIds.put(pElement, pId);
+        final EObject existing = mElements.putIfAbsent(pId, pElement);
+        if (existing != null && existing != pElement)
+        {
+            final List<EObject> duplicates = mDuplicates.computeIfAbsent(pId, k -> new ArrayList<>(1));
+            if (!duplicates.contains(pElement))
+            {
+                duplicates.add(pElement);
+            }
+        }
+    }
+
+    private void remove(final EObject pElement)
+    {
+        final String id = mIds.remove(pElement);
+        if (id == null)
+        {
+            return;
+        }
+        final List<EObject> duplicates = mDuplicates.get(id);
+        if (mElements.get(id) == pElement)
+        {
+            if (duplicates == null)
+            {
+                mElements.remove(id);
+            }
+            else
+            {
+                // the next element with the same id takes over:
+                mElements.put(id, duplicates.remove(0));
+                if (duplicates.isEmpty())
+                {
+                    mDuplicates.remove(id);
+                }
+            }
+        }
+        else if (duplicates != null && duplicates.remove(pElement) && duplicates.isEmpty())
+        {
+            mDuplicates.remove(id);
+        }
+    }
+}
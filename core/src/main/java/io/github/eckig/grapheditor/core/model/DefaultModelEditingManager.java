@@ -21,7 +21,6 @@ import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
-import org.eclipse.emf.edit.command.RemoveCommand;
 import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
 import org.eclipse.emf.edit.domain.EditingDomain;
 import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
@@ -33,7 +32,6 @@ import io.github.eckig.grapheditor.model.GConnection;
 import io.github.eckig.grapheditor.model.GConnector;
 import io.github.eckig.grapheditor.model.GModel;
 import io.github.eckig.grapheditor.model.GNode;
-import io.github.eckig.grapheditor.model.GraphPackage;
 
 
 /**
@@ -113,74 +111,59 @@ public class DefaultModelEditingManager implements ModelEditingManager
             return;
         }
 
-        final CompoundCommand command = new CompoundCommand();
         final RemoveContext editContext = new RemoveContext();
-        final List<EObject> delete = new ArrayList<>(pToRemove.size());
+        final List<GNode> nodes = new ArrayList<>();
+        final List<GConnection> connections = new ArrayList<>();
 
         // pre-fill the RemoveContext with all elements to be removed:
         for (final EObject obj : pToRemove)
         {
             if (obj instanceof GNode n && editContext.canRemove(obj))
             {
-                delete.add(obj);
+                nodes.add(n);
                 for (final GConnector connector : n.getConnectors())
                 {
                     for (final GConnection connection : connector.getConnections())
                     {
                         if (connection != null && editContext.canRemove(connection))
                         {
-                            delete.add(connection);
+                            connections.add(connection);
                         }
                     }
                 }
             }
-            else if (obj instanceof GConnection && editContext.canRemove(obj))
+            else if (obj instanceof GConnection c && editContext.canRemove(obj))
             {
-                delete.add(obj);
+                connections.add(c);
             }
         }
 
-        // delete the elements and call business logic add-ins:
-        for (final EObject obj : delete)
+        // delete all elements at once, followed by the business logic add-ins:
+        final CompoundCommand command = new CompoundCommand();
+        command.append(new BulkRemoveCommand(model, nodes, connections));
+        for (final GNode node : nodes)
         {
-            if (obj instanceof GNode)
+            final Command onRemoved = mOnNodeRemoved == null ? null : mOnNodeRemoved.apply(editContext, node);
+            if (onRemoved != null)
             {
-                command.append(RemoveCommand.create(editingDomain, model, GraphPackage.Literals.GMODEL__NODES, obj));
-
-                final Command onRemoved = mOnNodeRemoved == null ? null : mOnNodeRemoved.apply(editContext, (GNode) obj);
-                if (onRemoved != null)
-                {
-                    command.append(onRemoved);
-                }
+                command.append(onRemoved);
             }
-            else if (obj instanceof GConnection)
+        }
+        for (final GConnection connection : connections)
+        {
+            final Command onRemoved = mOnConnectionRemoved == null ? null : mOnConnectionRemoved.apply(editContext, connection);
+            if (onRemoved != null)
             {
-                remove(editContext, command, (GConnection) obj);
+                command.append(onRemoved);
             }
         }
 
-        if (!command.isEmpty() && command.canExecute())
+        if (command.canExecute())
         {
             editingDomain.getCommandStack().execute(command);
         }
     }
 
-    private void remove(final RemoveContext pRemoveContext, final CompoundCommand pCommand, final GConnection pToDelete)
-    {
-        final GConnector source = pToDelete.getSource();
-        final GConnector target = pToDelete.getTarget();
-
-        pCommand.append(RemoveCommand.create(editingDomain, model, GraphPackage.Literals.GMODEL__CONNECTIONS, pToDelete));
-        pCommand.append(RemoveCommand.create(editingDomain, source, GraphPackage.Literals.GCONNECTOR__CONNECTIONS, pToDelete));
-        pCommand.append(RemoveCommand.create(editingDomain, target, GraphPackage.Literals.GCONNECTOR__CONNECTIONS, pToDelete));
-
-        final Command onRemoved = mOnConnectionRemoved == null ? null : mOnConnectionRemoved.apply(pRemoveContext, pToDelete);
-        if (onRemoved != null)
-        {
-            pCommand.append(onRemoved);
-        }
-    }
-
     /**
      * Initializes the editing domain and resource for the new model.
      *
@@ -0,0 +1,265 @@
+/*
+ * Copyright (C) 2005 - 2014 by TESIS DYNAware GmbH
+ */
+package io.github.eckig.grapheditor.core.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.emf.common.command.Command;
+import org.eclipse.emf.common.command.CompoundCommand;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.edit.command.AddCommand;
+import org.eclipse.emf.edit.domain.EditingDomain;
+
+import io.github.eckig.grapheditor.model.GConnection;
+import io.github.eckig.grapheditor.model.GConnector;
+import io.github.eckig.grapheditor.model.GJoint;
+import io.github.eckig.grapheditor.model.GModel;
+import io.github.eckig.grapheditor.model.GNode;
+import io.github.eckig.grapheditor.model.GraphPackage;
+
+
+/**
+ * A detached copy of some nodes and the connections between them, e.g. the
+ * contents of a clipboard.
+ *
+ * <p>
+ * The rules for what is copied are as follows:
+ * <ol>
+ * <li>All selected nodes and their connectors are copied.</li>
+ * <li>If the source and target nodes of a connection are <b>both</b> copied,
+ * the connection and its joints are also copied.</li>
+ * </ol>
+ * All elements are copied in a single {@link EcoreUtil.Copier} pass, which
+ * also remaps the references between connectors and connections. Pasting adds
+ * all nodes and all connections with one {@link AddCommand} each.
+ * </p>
+ *
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * <code>GraphFragment clipboard = GraphFragment.copy(selectionManager.getSelectedItems());
+ * ...
+ * GraphFragment pasted = clipboard.copy();
+ * pasted.translate(20, 20);
+ * editingDomain.getCommandStack().execute(pasted.createAddCommand(editingDomain, model));</code>
+ * </pre>
+ *
+ * @since 16.10.2026
+ */
+public final class GraphFragment
+{
+
+    private static final URI CLIPBOARD_URI = URI.createURI("clipboard:/fragment.graphbin");
+
+    private final List<GNode> mNodes;
+    private final List<GConnection> mConnections;
+
+    private GraphFragment(final List<GNode> pNodes, final List<GConnection> pConnections)
+    {
+        mNodes = pNodes;
+        mConnections = pConnections;
+    }
+
+    /**
+     * Copies the given nodes and all connections between them.
+     *
+     * @param pSelection
+     *            the elements to copy, all elements that are not a
+     *            {@link GNode} are ignored
+     * @return a new {@link GraphFragment} containing the copies
+     */
+    public static GraphFragment copy(final Collection<? extends EObject> pSelection)
+    {
+        final Set<GNode> nodes = Collections.newSetFromMap(new IdentityHashMap<>());
+        final List<GNode> orderedNodes = new ArrayList<>();
+        for (final EObject element : pSelection)
+        {
+            if (element instanceof GNode node && nodes.add(node))
+            {
+                orderedNodes.add(node);
+            }
+        }
+
+        // every connection is found from its source and target connector, the set removes the duplicates:
+        final Set<GConnection> connections = new LinkedHashSet<>();
+        for (final GNode node : orderedNodes)
+        {
+            for (final GConnector connector : node.getConnectors())
+            {
+                for (final GConnection connection : connector.getConnections())
+                {
+                    if (isInside(nodes, connection.getSource()) && isInside(nodes, connection.getTarget()))
+                    {
+                        connections.add(connection);
+                    }
+                }
+            }
+        }
+        return copy(orderedNodes, connections);
+    }
+
+    /**
+     * Creates another copy of this fragment, e.g. to paste the same fragment
+     * more than once.
+     *
+     * @return a new {@link GraphFragment} containing the copies
+     */
+    public GraphFragment copy()
+    {
+        return copy(mNodes, mConnections);
+    }
+
+    private static GraphFragment copy(final Collection<GNode> pNodes, final Collection<GConnection> pConnections)
+    {
+        // references to connections outside of the fragment are dropped instead of pointing at the originals:
+        final EcoreUtil.Copier copier = new EcoreUtil.Copier(true, false);
+        final List<GNode> nodes = new ArrayList<>(copier.copyAll(pNodes));
+        final List<GConnection> connections = new ArrayList<>(copier.copyAll(pConnections));
+        copier.copyReferences();
+        return new GraphFragment(nodes, connections);
+    }
+
+    private static boolean isInside(final Set<GNode> pNodes, final GConnector pConnector)
+    {
+        return pConnector != null && pNodes.contains(pConnector.getParent());
+    }
+
+    /**
+     * @return the copied nodes
+     */
+    public List<GNode> getNodes()
+    {
+        return Collections.unmodifiableList(mNodes);
+    }
+
+    /**
+     * @return the copied connections between the copied nodes
+     */
+    public List<GConnection> getConnections()
+    {
+        return Collections.unmodifiableList(mConnections);
+    }
+
+    /**
+     * @return {@code true} if this fragment contains no nodes
+     */
+    public boolean isEmpty()
+    {
+        return mNodes.isEmpty();
+    }
+
+    /**
+     * Moves all nodes and joints of this fragment.
+     *
+     * @param pDeltaX
+     *            the horizontal distance
+     * @param pDeltaY
+     *            the vertical distance
+     */
+    public void translate(final double pDeltaX, final double pDeltaY)
+    {
+        for (final GNode node : mNodes)
+        {
+            node.setX(node.getX() + pDeltaX);
+            node.setY(node.getY() + pDeltaY);
+        }
+        for (final GConnection connection : mConnections)
+        {
+            for (final GJoint joint : connection.getJoints())
+            {
+                joint.setX(joint.getX() + pDeltaX);
+                joint.setY(joint.getY() + pDeltaY);
+            }
+        }
+    }
+
+    /**
+     * Creates a command that adds the elements of this fragment to the given
+     * model, with one {@link AddCommand} for all nodes and one for all
+     * connections.
+     *
+     * <p>
+     * The elements themselves are added, so every fragment can only be added
+     * once. Use {@link #copy()} to paste the same fragment again.
+     * </p>
+     *
+     * @param pEditingDomain
+     *            the {@link EditingDomain} of the model
+     * @param pModel
+     *            the {@link GModel} to add the elements to
+     * @return the {@link Command} adding the elements
+     */
+    public Command createAddCommand(final EditingDomain pEditingDomain, final GModel pModel)
+    {
+        final CompoundCommand command = new CompoundCommand();
+        if (!mNodes.isEmpty())
+        {
+            command.append(AddCommand.create(pEditingDomain, pModel, GraphPackage.Literals.GMODEL__NODES, mNodes));
+        }
+        if (!mConnections.isEmpty())
+        {
+            command.append(AddCommand.create(pEditingDomain, pModel, GraphPackage.Literals.GMODEL__CONNECTIONS,
+                    mConnections));
+        }
+        return command;
+    }
+
+    /**
+     * Writes this fragment in the compact format of the
+     * {@link BinaryGraphResource}, e.g. to put it on the system clipboard.
+     *
+     * @return the serialized fragment
+     * @throws IOException
+     *             if the fragment could not be written
+     * @see #fromBytes(byte[])
+     */
+    public byte[] toBytes() throws IOException
+    {
+        // write the lists directly, the elements may already be part of a model:
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BinaryGraphResource.write(mNodes, mConnections, output);
+        return output.toByteArray();
+    }
+
+    /**
+     * Reads a fragment written by {@link #toBytes()}.
+     *
+     * @param pBytes
+     *            the serialized fragment
+     * @return a new {@link GraphFragment}
+     * @throws IOException
+     *             if the bytes are not a serialized fragment
+     */
+    public static GraphFragment fromBytes(final byte[] pBytes) throws IOException
+    {
+        final Resource resource = new BinaryGraphResource(CLIPBOARD_URI);
+        resource.load(new ByteArrayInputStream(pBytes), null);
+        if (resource.getContents().isEmpty())
+        {
+            return new GraphFragment(new ArrayList<>(), new ArrayList<>());
+        }
+
+        final GModel model = (GModel) resource.getContents().get(0);
+        final GraphFragment fragment = new GraphFragment(new ArrayList<>(model.getNodes()),
+                new ArrayList<>(model.getConnections()));
+        // detach the elements from the temporary model:
+        model.getConnections().clear();
+        model.getNodes().clear();
+        return fragment;
+    }
+}
@@ -3,7 +3,11 @@
  */
 package io.github.eckig.grapheditor.core.selections;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.emf.ecore.EObject;
 
@@ -83,6 +87,19 @@ public class DefaultSelectionManager implements SelectionManager
         selectionCreator.removeNode(node);
     }
 
+    /**
+     * Updates the selection index after the position or size of the given
+     * node has changed.
+     *
+     * @param node
+     *            the changed {@link GNode}
+     * @since 16.10.2026
+     */
+    public void updateNode(final GNode node)
+    {
+        selectionCreator.updateNode(node);
+    }
+
     public void addConnector(final GConnector connector)
     {
         selectionCreator.addConnector(connector);
@@ -113,6 +130,18 @@ public class DefaultSelectionManager implements SelectionManager
         selectionCreator.removeJoint(joint);
     }
 
+    /**
+     * Updates the selection index after the given joint has been moved.
+     *
+     * @param joint
+     *            the changed {@link GJoint}
+     * @since 16.10.2026
+     */
+    public void updateJoint(final GJoint joint)
+    {
+        selectionCreator.updateJoint(joint);
+    }
+
     @Override
     public ObservableSet<EObject> getSelectedItems()
     {
@@ -125,6 +154,27 @@ public class DefaultSelectionManager implements SelectionManager
         getSelectedItems().add(object);
     }
 
+    @Override
+    public void select(final Collection<? extends EObject> objects)
+    {
+        selectionTracker.applyChanges(List.of(), objects);
+    }
+
+    @Override
+    public void replaceSelection(final Collection<? extends EObject> objects)
+    {
+        final Set<EObject> keep = new HashSet<>(objects);
+        final List<EObject> deselect = new ArrayList<>();
+        for (final EObject selected : getSelectedItems())
+        {
+            if (!keep.contains(selected))
+            {
+                deselect.add(selected);
+            }
+        }
+        selectionTracker.applyChanges(deselect, objects);
+    }
+
     @Override
     public void clearSelection(final EObject object)
     {
@@ -162,11 +212,7 @@ public class DefaultSelectionManager implements SelectionManager
         {
             // copy to prevent ConcurrentModificationException
             // (removal triggers update notification which in turn could modify the selection)
-            final EObject[] selectedItems = getSelectedItems().toArray(new EObject[0]);
-            for (final EObject remove : selectedItems)
-            {
-                getSelectedItems().remove(remove);
-            }
+            selectionTracker.applyChanges(new ArrayList<>(getSelectedItems()), List.of());
         }
     }
 
@@ -175,16 +221,13 @@ public class DefaultSelectionManager implements SelectionManager
     {
         if (model != null)
         {
-            getSelectedItems().addAll(model.getNodes());
+            final List<EObject> all = new ArrayList<>(model.getNodes());
             for (final GConnection connection : model.getConnections())
             {
-                getSelectedItems().add(connection);
-
-                for (final GJoint joint : connection.getJoints())
-                {
-                    getSelectedItems().add(joint);
-                }
+                all.add(connection);
+                all.addAll(connection.getJoints());
             }
+            select(all);
         }
     }
 }
@@ -47,6 +47,12 @@ import javafx.scene.layout.Region;
  * more nodes, connections, and joints can be selected by dragging a box around
  * them.
  * </p>
+ *
+ * <p>
+ * The elements inside the selection box are looked up in a
+ * {@link SelectionIndex}, and only elements that enter or leave the box are
+ * selected or deselected while dragging.
+ * </p>
  */
 public class SelectionCreator
 {
@@ -67,6 +73,14 @@ public class SelectionCreator
 
     private final Set<EObject> selectedElementsBackup = new HashSet<>();
 
+    private final SelectionIndex selectionIndex = new SelectionIndex();
+
+    /**
+     * The nodes and joints inside the selection box on the last drag event
+     */
+    private Set<EObject> elementsInSelectionBox = new HashSet<>();
+    private boolean lastShortcutDown;
+
     private Rectangle2D selection;
 
     private Point2D selectionBoxStart;
@@ -106,6 +120,7 @@ public class SelectionCreator
     public void initialize(final GModel model)
     {
         this.model = model;
+        selectionIndex.clear();
         addClickSelectionMechanism();
     }
 
@@ -163,6 +178,8 @@ public class SelectionCreator
 
     public void addNode(final GNode node)
     {
+        selectionIndex.update(node);
+
         final GNodeSkin skin = skinLookup.lookupNode(node);
         if (skin != null)
         {
@@ -184,6 +201,9 @@ public class SelectionCreator
 
     public void removeNode(final GNode node)
     {
+        selectionIndex.remove(node);
+        elementsInSelectionBox.remove(node);
+
         final GNodeSkin skin = skinLookup.lookupNode(node);
         if (skin != null)
         {
@@ -275,6 +295,8 @@ public class SelectionCreator
 
     public void addJoint(final GJoint joint)
     {
+        selectionIndex.update(joint);
+
         final GJointSkin jointSkin = skinLookup.lookupJoint(joint);
         if (jointSkin != null)
         {
@@ -293,6 +315,9 @@ public class SelectionCreator
 
     public void removeJoint(final GJoint joint)
     {
+        selectionIndex.remove(joint);
+        elementsInSelectionBox.remove(joint);
+
         final GJointSkin jointSkin = skinLookup.lookupJoint(joint);
         if (jointSkin != null)
         {
@@ -308,6 +333,37 @@ public class SelectionCreator
         }
     }
 
+    /**
+     * Updates the indexed bounds of the given node after its position or size
+     * has changed.
+     *
+     * @param node
+     *            the changed {@link GNode}
+     * @since 16.10.2026
+     */
+    public void updateNode(final GNode node)
+    {
+        if (node.eContainer() != null)
+        {
+            selectionIndex.update(node);
+        }
+    }
+
+    /**
+     * Updates the indexed position of the given joint after it has been moved.
+     *
+     * @param joint
+     *            the changed {@link GJoint}
+     * @since 16.10.2026
+     */
+    public void updateJoint(final GJoint joint)
+    {
+        if (joint.eContainer() != null)
+        {
+            selectionIndex.update(joint);
+        }
+    }
+
     /**
      * Adds a click selection mechanism for nodes.
      */
@@ -428,6 +484,8 @@ public class SelectionCreator
             backupSelections();
         }
 
+        elementsInSelectionBox = new HashSet<>();
+        lastShortcutDown = pEvent.isShortcutDown();
         selectionBoxStart = new Point2D(Math.max(0, pEvent.getX()), Math.max(0, pEvent.getY()));
     }
 
@@ -469,69 +527,71 @@ public class SelectionCreator
         view.hideSelectionBox();
     }
 
-    private boolean isNodeSelected(final GNode node, final boolean isShortcutDown)
+    private boolean isNodeInSelectionBox(final GNode node)
     {
-        return selection.contains(node.getX(), node.getY(), node.getWidth(), node.getHeight())
-                || isShortcutDown && selectedElementsBackup.contains(node);
+        return selection.contains(node.getX(), node.getY(), node.getWidth(), node.getHeight());
     }
 
-    private boolean isJointSelected(final GJoint joint, final boolean isShortcutDown)
+    private boolean isJointInSelectionBox(final GJoint joint)
     {
-        return selection.contains(joint.getX(), joint.getY()) || isShortcutDown && selectedElementsBackup.contains(joint);
-    }
-
-    private boolean isConnectionSelected(final GConnection connection, final boolean isShortcutDown)
-    {
-        return isShortcutDown && selectedElementsBackup.contains(connection);
+        return selection.contains(joint.getX(), joint.getY());
     }
 
     /**
      * Updates the selection according to what nodes & joints are inside /
      * outside the selection box.
+     *
+     * <p>
+     * Only the elements that entered or left the selection box since the last
+     * update are selected / deselected.
+     * </p>
      */
     private void updateSelection(final boolean isShortcutDown)
     {
-        for (int i = 0; i < model.getNodes().size(); i++)
+        final Set<EObject> inside = new HashSet<>();
+        for (final EObject candidate : selectionIndex.query(selection))
         {
-            final GNode node = model.getNodes().get(i);
-
-            if (isNodeSelected(node, isShortcutDown))
-            {
-                selectionManager.select(node);
-            }
-            else
+            if (candidate instanceof GNode node ? isNodeInSelectionBox(node)
+                    : isJointInSelectionBox((GJoint) candidate))
             {
-                selectionManager.clearSelection(node);
+                inside.add(candidate);
             }
         }
 
-        for (int i = 0; i < model.getConnections().size(); i++)
+        for (final EObject previous : elementsInSelectionBox)
         {
-            final GConnection connection = model.getConnections().get(i);
-
-            if (isConnectionSelected(connection, isShortcutDown))
+            if (!inside.contains(previous) && !(isShortcutDown && selectedElementsBackup.contains(previous)))
             {
-                selectionManager.select(connection);
-            }
-            else
-            {
-                selectionManager.clearSelection(connection);
+                selectionManager.clearSelection(previous);
             }
+        }
 
-            for (int j = 0; j < connection.getJoints().size(); j++)
+        if (isShortcutDown != lastShortcutDown)
+        {
+            // the backed up selection is only kept while the shortcut key is down:
+            lastShortcutDown = isShortcutDown;
+            for (final EObject backup : selectedElementsBackup)
             {
-                final GJoint joint = connection.getJoints().get(j);
-
-                if (isJointSelected(joint, isShortcutDown))
+                if (isShortcutDown)
                 {
-                    selectionManager.select(joint);
+                    selectionManager.select(backup);
                 }
-                else
+                else if (!inside.contains(backup))
                 {
-                    selectionManager.clearSelection(joint);
+                    selectionManager.clearSelection(backup);
                 }
             }
         }
+
+        for (final EObject element : inside)
+        {
+            if (!elementsInSelectionBox.contains(element))
+            {
+                selectionManager.select(element);
+            }
+        }
+
+        elementsInSelectionBox = inside;
     }
 
     /**
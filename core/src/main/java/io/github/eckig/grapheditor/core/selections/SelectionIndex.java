@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2005 - 2014 by TESIS DYNAware GmbH
+ */
+package io.github.eckig.grapheditor.core.selections;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongConsumer;
+
+import org.eclipse.emf.ecore.EObject;
+
+import io.github.eckig.grapheditor.model.GJoint;
+import io.github.eckig.grapheditor.model.GNode;
+import javafx.geometry.Rectangle2D;
+
+
+/**
+ * Spatial index over the bounds of all nodes and the positions of all joints,
+ * used by the {@link SelectionCreator} to find the elements inside the
+ * selection box.
+ *
+ * <p>
+ * Every element is stored in each cell of a uniform grid it overlaps. A query
+ * only visits the cells covered by the queried rectangle instead of all
+ * elements of the model.
+ * </p>
+ *
+ * <p>
+ * The index has to be kept up to date by calling {@link #update(GNode)} /
+ * {@link #update(GJoint)} whenever the position or size of an element changes.
+ * </p>
+ *
+ * @since 16.10.2026
+ */
+final class SelectionIndex
+{
+
+    private static final double CELL_SIZE = 256;
+
+    private final Map<Long, List<EObject>> cells = new HashMap<>();
+
+    /**
+     * The indexed bounds (minX, minY, maxX, maxY) of every element
+     */
+    private final Map<EObject, double[]> bounds = new HashMap<>();
+
+    /**
+     * Adds the given node or updates its bounds if it is already indexed.
+     *
+     * @param node
+     *            the {@link GNode} to index
+     */
+    void update(final GNode node)
+    {
+        update(node, node.getX(), node.getY(), node.getX() + node.getWidth(), node.getY() + node.getHeight());
+    }
+
+    /**
+     * Adds the given joint or updates its position if it is already indexed.
+     *
+     * @param joint
+     *            the {@link GJoint} to index
+     */
+    void update(final GJoint joint)
+    {
+        update(joint, joint.getX(), joint.getY(), joint.getX(), joint.getY());
+    }
+
+    /**
+     * Removes the given element from the index.
+     *
+     * @param element
+     *            the node or joint to remove
+     */
+    void remove(final EObject element)
+    {
+        final double[] old = bounds.remove(element);
+        if (old != null)
+        {
+            forEachCell(old, cell ->
+            {
+                final List<EObject> elements = cells.get(cell);
+                if (elements != null)
+                {
+                    elements.remove(element);
+                    if (elements.isEmpty())
+                    {
+                        cells.remove(cell);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Removes all elements from the index.
+     */
+    void clear()
+    {
+        cells.clear();
+        bounds.clear();
+    }
+
+    /**
+     * Finds all elements whose indexed bounds intersect the given rectangle.
+     *
+     * @param area
+     *            the area to search
+     * @return all candidate elements, the caller has to check the exact
+     *         containment criteria itself
+     */
+    Set<EObject> query(final Rectangle2D area)
+    {
+        final Set<EObject> result = new LinkedHashSet<>();
+        forEachCell(new double[] { area.getMinX(), area.getMinY(), area.getMaxX(), area.getMaxY() }, cell ->
+        {
+            final List<EObject> elements = cells.get(cell);
+            if (elements != null)
+            {
+                result.addAll(elements);
+            }
+        });
+        return result;
+    }
+
+    private void update(final EObject element, final double minX, final double minY, final double maxX,
+            final double maxY)
+    {
+        final double[] old = bounds.get(element);
+        if (old != null && old[0] == minX && old[1] == minY && old[2] == maxX && old[3] == maxY)
+        {
+            return;
+        }
+
+        remove(element);
+        final double[] area = { minX, minY, maxX, maxY };
+        bounds.put(element, area);
+        forEachCell(area, cell -> cells.computeIfAbsent(cell, k -> new ArrayList<>(4)).add(element));
+    }
+
+    private static void forEachCell(final double[] area, final LongConsumer action)
+    {
+        final int firstColumn = cellIndex(area[0]);
+        final int lastColumn = cellIndex(area[2]);
+        final int firstRow = cellIndex(area[1]);
+        final int lastRow = cellIndex(area[3]);
+        for (int column = firstColumn; column <= lastColumn; column++)
+        {
+            for (int row = firstRow; row <= lastRow; row++)
+            {
+                action.accept((long) column << 32 | row & 0xffffffffL);
+            }
+        }
+    }
+
+    private static int cellIndex(final double position)
+    {
+        return (int) Math.floor(position / CELL_SIZE);
+    }
+}
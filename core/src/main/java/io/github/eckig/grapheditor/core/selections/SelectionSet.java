@@ -0,0 +1,283 @@
+package io.github.eckig.grapheditor.core.selections;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.eclipse.emf.ecore.EObject;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.ObservableSet;
+import javafx.collections.SetChangeListener;
+
+/**
+ * The {@link ObservableSet} of selected elements.
+ *
+ * <p>
+ * A modification that adds or removes many elements at once is applied
+ * completely before anybody is notified. Then the owner of the set is told
+ * about the whole difference, every {@link InvalidationListener} is notified
+ * once and every {@link SetChangeListener} receives the usual change per added
+ * or removed element.
+ * </p>
+ */
+final class SelectionSet extends AbstractSet<EObject> implements ObservableSet<EObject>
+{
+
+    private final Set<EObject> mElements = new HashSet<>();
+    private final List<InvalidationListener> mInvalidationListeners = new ArrayList<>();
+    private final List<SetChangeListener<? super EObject>> mChangeListeners = new ArrayList<>();
+    private final BiConsumer<Set<EObject>, Set<EObject>> mOnChanged;
+
+    /**
+     * Creates a new {@link SelectionSet}.
+     *
+     * @param pOnChanged
+     *            called once per modification with the added and the removed
+     *            elements, before any listener is notified
+     */
+    SelectionSet(final BiConsumer<Set<EObject>, Set<EObject>> pOnChanged)
+    {
+        mOnChanged = pOnChanged;
+    }
+
+    /**
+     * Removes and adds the given elements and notifies the listeners about the
+     * resulting difference. An element contained in both collections ends up
+     * selected.
+     *
+     * @param pToRemove
+     *            the elements to remove
+     * @param pToAdd
+     *            the elements to add
+     */
+    void apply(final Collection<? extends EObject> pToRemove, final Collection<? extends EObject> pToAdd)
+    {
+        final Set<EObject> removed = new LinkedHashSet<>();
+        final Set<EObject> added = new LinkedHashSet<>();
+        for (final EObject element : pToRemove)
+        {
+            if (mElements.remove(element))
+            {
+                removed.add(element);
+            }
+        }
+        for (final EObject element : pToAdd)
+        {
+            if (mElements.add(element) && !removed.remove(element))
+            {
+                added.add(element);
+            }
+        }
+        fireChange(added, removed);
+    }
+
+    @Override
+    public boolean add(final EObject pElement)
+    {
+        if (mElements.add(pElement))
+        {
+            fireChange(Set.of(pElement), Set.of());
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean remove(final Object pElement)
+    {
+        if (mElements.remove(pElement))
+        {
+            fireChange(Set.of(), Set.of((EObject) pElement));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean addAll(final Collection<? extends EObject> pElements)
+    {
+        final int size = mElements.size();
+        apply(List.of(), pElements);
+        return size != mElements.size();
+    }
+
+    @Override
+    public boolean removeAll(final Collection<?> pElements)
+    {
+        final List<EObject> toRemove = new ArrayList<>();
+        for (final Object element : pElements)
+        {
+            if (element instanceof EObject e)
+            {
+                toRemove.add(e);
+            }
+        }
+        final int size = mElements.size();
+        apply(toRemove, List.of());
+        return size != mElements.size();
+    }
+
+    @Override
+    public void clear()
+    {
+        apply(new ArrayList<>(mElements), List.of());
+    }
+
+    @Override
+    public boolean contains(final Object pElement)
+    {
+        return mElements.contains(pElement);
+    }
+
+    @Override
+    public int size()
+    {
+        return mElements.size();
+    }
+
+    @Override
+    public Iterator<EObject> iterator()
+    {
+        final Iterator<EObject> iterator = mElements.iterator();
+        return new Iterator<>()
+        {
+
+            private EObject imCurrent;
+
+            @Override
+            public boolean hasNext()
+            {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public EObject next()
+            {
+                imCurrent = iterator.next();
+                return imCurrent;
+            }
+
+            @Override
+            public void remove()
+            {
+                iterator.remove();
+                fireChange(Set.of(), Set.of(imCurrent));
+            }
+        };
+    }
+
+    @Override
+    public void addListener(final SetChangeListener<? super EObject> pListener)
+    {
+        mChangeListeners.add(pListener);
+    }
+
+    @Override
+    public void removeListener(final SetChangeListener<? super EObject> pListener)
+    {
+        mChangeListeners.remove(pListener);
+    }
+
+    @Override
+    public void addListener(final InvalidationListener pListener)
+    {
+        mInvalidationListeners.add(pListener);
+    }
+
+    @Override
+    public void removeListener(final InvalidationListener pListener)
+    {
+        mInvalidationListeners.remove(pListener);
+    }
+
+    private void fireChange(final Set<EObject> pAdded, final Set<EObject> pRemoved)
+    {
+        if (pAdded.isEmpty() && pRemoved.isEmpty())
+        {
+            return;
+        }
+
+        mOnChanged.accept(pAdded, pRemoved);
+
+        // copy, listeners may add or remove listeners:
+        for (final InvalidationListener listener : List.copyOf(mInvalidationListeners))
+        {
+            listener.invalidated(this);
+        }
+        if (!mChangeListeners.isEmpty())
+        {
+            final List<SetChangeListener<? super EObject>> listeners = List.copyOf(mChangeListeners);
+            for (final EObject element : pRemoved)
+            {
+                fireElementChange(listeners, new ElementChange(this, element, false));
+            }
+            for (final EObject element : pAdded)
+            {
+                fireElementChange(listeners, new ElementChange(this, element, true));
+            }
+        }
+    }
+
+    private static void fireElementChange(final List<SetChangeListener<? super EObject>> pListeners,
+            final ElementChange pChange)
+    {
+        for (final SetChangeListener<? super EObject> listener : pListeners)
+        {
+            listener.onChanged(pChange);
+        }
+    }
+
+    /**
+     * The addition or removal of a single element.
+     */
+    private static final class ElementChange extends SetChangeListener.Change<EObject>
+    {
+
+        private final EObject imElement;
+        private final boolean imAdded;
+
+        ElementChange(final ObservableSet<EObject> pSet, final EObject pElement, final boolean pAdded)
+        {
+            super(pSet);
+            imElement = pElement;
+            imAdded = pAdded;
+        }
+
+        @Override
+        public boolean wasAdded()
+        {
+            return imAdded;
+        }
+
+        @Override
+        public boolean wasRemoved()
+        {
+            return !imAdded;
+        }
+
+        @Override
+        public EObject getElementAdded()
+        {
+            return imAdded ? imElement : null;
+        }
+
+        @Override
+        public EObject getElementRemoved()
+        {
+            return imAdded ? null : imElement;
+        }
+
+        @Override
+        public String toString()
+        {
+            return (imAdded ? "added " : "removed ") + imElement;
+        }
+    }
+}
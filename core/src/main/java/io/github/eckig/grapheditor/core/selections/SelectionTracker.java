@@ -1,7 +1,8 @@
 package io.github.eckig.grapheditor.core.selections;
 
-import java.util.HashSet;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.emf.ecore.EObject;
 
@@ -11,9 +12,7 @@ import io.github.eckig.grapheditor.model.GConnection;
 import io.github.eckig.grapheditor.model.GConnector;
 import io.github.eckig.grapheditor.model.GJoint;
 import io.github.eckig.grapheditor.model.GNode;
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableSet;
-import javafx.collections.SetChangeListener;
 
 /**
  * Provides observable lists of selected nodes and joints for convenience.
@@ -21,7 +20,7 @@ import javafx.collections.SetChangeListener;
 public class SelectionTracker
 {
 
-    private final ObservableSet<EObject> selectedElements = FXCollections.observableSet(new HashSet<>());
+    private final SelectionSet selectedElements = new SelectionSet(this::selectedElementsChanged);
     private final SkinLookup skinLookup;
 
     /**
@@ -33,19 +32,12 @@ public class SelectionTracker
     public SelectionTracker(final SkinLookup skinLookup)
     {
         this.skinLookup = skinLookup;
-        selectedElements.addListener(this::selectedElementsChanged);
     }
 
-    private void selectedElementsChanged(final SetChangeListener.Change<? extends EObject> change)
+    private void selectedElementsChanged(final Set<EObject> added, final Set<EObject> removed)
     {
-        if (change.wasRemoved())
-        {
-            update(change.getElementRemoved());
-        }
-        if (change.wasAdded())
-        {
-            update(change.getElementAdded());
-        }
+        removed.forEach(this::update);
+        added.forEach(this::update);
     }
 
     private void update(final EObject obj)
@@ -74,6 +66,24 @@ public class SelectionTracker
         }
     }
 
+    /**
+     * De-selects and selects the given elements in one step. The skin of every
+     * element whose selection state changed is updated once, after the
+     * selection has been changed completely. Invalidation listeners of the
+     * {@link #getSelectedItems() selected items} are notified once, change
+     * listeners once per changed element.
+     *
+     * @param toDeselect
+     *            the elements to de-select
+     * @param toSelect
+     *            the elements to select
+     * @since 16.10.2026
+     */
+    public void applyChanges(final Collection<? extends EObject> toDeselect, final Collection<? extends EObject> toSelect)
+    {
+        selectedElements.apply(toDeselect, toSelect);
+    }
+
     /**
      * Initializes the selection tracker for the given model.
      */
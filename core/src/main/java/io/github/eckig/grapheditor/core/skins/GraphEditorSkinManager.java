@@ -6,6 +6,7 @@ import java.util.Map;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import io.github.eckig.grapheditor.DetailLevel;
 import io.github.eckig.grapheditor.GConnectionSkin;
 import io.github.eckig.grapheditor.GConnectorSkin;
 import io.github.eckig.grapheditor.GJointSkin;
@@ -26,17 +27,38 @@ import io.github.eckig.grapheditor.model.GConnection;
 import io.github.eckig.grapheditor.model.GConnector;
 import io.github.eckig.grapheditor.model.GJoint;
 import io.github.eckig.grapheditor.model.GNode;
+import io.github.eckig.grapheditor.utils.GraphEditorProperties;
 import javafx.util.Callback;
 
 
 /**
  * Default {@link SkinManager} implementation
  *
+ * <p>
+ * When the custom property {@link #SKIN_POOLING_KEY} is set to {@code true},
+ * removed skins that are {@link GSkin#isReusable() reusable} are kept in a pool
+ * per element type and rebound to the next element of the same type instead of
+ * creating a new skin through the skin factory.
+ * </p>
+ *
+ * <p>
+ * All skins are kept at the {@link GraphEditorView#getDetailLevel() detail
+ * level} of the view.
+ * </p>
+ *
  * @since 09.02.2016
  */
 public class GraphEditorSkinManager implements SkinManager
 {
 
+    /**
+     * Custom property key to enable pooling of removed skins
+     *
+     * @see GraphEditorProperties#getCustomProperties()
+     * @since 16.10.2026
+     */
+    public static final String SKIN_POOLING_KEY = "graph-editor-skin-pooling";
+
     private final GraphEditor mGraphEditor;
     private final GraphEditorView mView;
 
@@ -52,6 +74,13 @@ public class GraphEditorSkinManager implements SkinManager
     private final Map<GJoint, GJointSkin> mJointSkins = new HashMap<>();
     private final Map<GConnector, GTailSkin> mTailSkins = new HashMap<>();
 
+    private final SkinPool<GNode, GNodeSkin> mNodeSkinPool = new SkinPool<>(GNode::getType);
+    private final SkinPool<GConnector, GConnectorSkin> mConnectorSkinPool = new SkinPool<>(GConnector::getType);
+    private final SkinPool<GConnection, GConnectionSkin> mConnectionSkinPool = new SkinPool<>(GConnection::getType);
+    private final SkinPool<GJoint, GJointSkin> mJointSkinPool = new SkinPool<>(GJoint::getType);
+    private long mCreatedSkinCount;
+    private long mReusedSkinCount;
+
     private ConnectionLayouter mConnectionLayouter;
     private final Consumer<GSkin<?>> mOnPositionMoved = this::positionMoved;
 
@@ -68,6 +97,8 @@ public class GraphEditorSkinManager implements SkinManager
     {
         mView = pView;
         mGraphEditor = pGraphEditor;
+
+        mView.detailLevelProperty().addListener((pObservable, pOldValue, pNewValue) -> detailLevelChanged(pNewValue));
     }
 
     @Override
@@ -80,24 +111,28 @@ public class GraphEditorSkinManager implements SkinManager
     public void setNodeSkinFactory(final Callback<GNode, GNodeSkin> pSkinFactory)
     {
         mNodeSkinFactory = pSkinFactory;
+        mNodeSkinPool.clear();
     }
 
     @Override
     public void setConnectorSkinFactory(final Callback<GConnector, GConnectorSkin> pConnectorSkinFactory)
     {
         mConnectorSkinFactory = pConnectorSkinFactory;
+        mConnectorSkinPool.clear();
     }
 
     @Override
     public void setConnectionSkinFactory(final Callback<GConnection, GConnectionSkin> pConnectionSkinFactory)
     {
         mConnectionSkinFactory = pConnectionSkinFactory;
+        mConnectionSkinPool.clear();
     }
 
     @Override
     public void setJointSkinFactory(final Callback<GJoint, GJointSkin> pJointSkinFactory)
     {
         mJointSkinFactory = pJointSkinFactory;
+        mJointSkinPool.clear();
     }
 
     @Override
@@ -169,6 +204,10 @@ public class GraphEditorSkinManager implements SkinManager
             {
                 mView.remove(removedSkin);
                 removedSkin.dispose();
+                if (isSkinPoolingEnabled())
+                {
+                    mNodeSkinPool.offer(removedSkin);
+                }
             }
 
             for (int i = 0; i < pNodeToRemove.getConnectors().size(); i++)
@@ -187,6 +226,10 @@ public class GraphEditorSkinManager implements SkinManager
             if (removedSkin != null)
             {
                 removedSkin.dispose();
+                if (isSkinPoolingEnabled())
+                {
+                    mConnectorSkinPool.offer(removedSkin);
+                }
             }
             final GTailSkin removedTailSkin = mTailSkins.remove(pConnectorToRemove);
             if (removedTailSkin != null)
@@ -206,6 +249,10 @@ public class GraphEditorSkinManager implements SkinManager
             {
                 mView.remove(removedSkin);
                 removedSkin.dispose();
+                if (isSkinPoolingEnabled())
+                {
+                    mConnectionSkinPool.offer(removedSkin);
+                }
             }
         }
     }
@@ -220,6 +267,10 @@ public class GraphEditorSkinManager implements SkinManager
             {
                 mView.remove(removedSkin);
                 removedSkin.dispose();
+                if (isSkinPoolingEnabled())
+                {
+                    mJointSkinPool.offer(removedSkin);
+                }
             }
         }
     }
@@ -305,12 +356,23 @@ public class GraphEditorSkinManager implements SkinManager
 
     private GConnectorSkin createConnectorSkin(final GConnector pConnector)
     {
-        GConnectorSkin skin = mConnectorSkinFactory == null ? null : mConnectorSkinFactory.call(pConnector);
-        if (skin == null)
+        GConnectorSkin skin = mConnectorSkinPool.take(pConnector);
+        if (skin != null)
         {
-            skin = new DefaultConnectorSkin(pConnector);
+            mReusedSkinCount++;
+        }
+        else
+        {
+            skin = mConnectorSkinFactory == null ? null : mConnectorSkinFactory.call(pConnector);
+            if (skin == null)
+            {
+                skin = new DefaultConnectorSkin(pConnector);
+            }
+            mConnectorSkinPool.created(skin);
+            mCreatedSkinCount++;
         }
         skin.setGraphEditor(mGraphEditor);
+        skin.setDetailLevel(mView.getDetailLevel());
         return skin;
     }
 
@@ -327,12 +389,23 @@ public class GraphEditorSkinManager implements SkinManager
 
     private GConnectionSkin createConnectionSkin(final GConnection pConnection)
     {
-        GConnectionSkin skin = mConnectionSkinFactory == null ? null : mConnectionSkinFactory.call(pConnection);
-        if (skin == null)
+        GConnectionSkin skin = mConnectionSkinPool.take(pConnection);
+        if (skin != null)
         {
-            skin = new DefaultConnectionSkin(pConnection);
+            mReusedSkinCount++;
+        }
+        else
+        {
+            skin = mConnectionSkinFactory == null ? null : mConnectionSkinFactory.call(pConnection);
+            if (skin == null)
+            {
+                skin = new DefaultConnectionSkin(pConnection);
+            }
+            mConnectionSkinPool.created(skin);
+            mCreatedSkinCount++;
         }
         skin.setGraphEditor(mGraphEditor);
+        skin.setDetailLevel(mView.getDetailLevel());
         if (!(skin instanceof VirtualSkin))
         {
             mView.add(skin);
@@ -342,12 +415,23 @@ public class GraphEditorSkinManager implements SkinManager
 
     private GJointSkin createJointSkin(final GJoint pJoint)
     {
-        GJointSkin skin = mJointSkinFactory == null ? null : mJointSkinFactory.call(pJoint);
-        if (skin == null)
+        GJointSkin skin = mJointSkinPool.take(pJoint);
+        if (skin != null)
         {
-            skin = new DefaultJointSkin(pJoint);
+            mReusedSkinCount++;
+        }
+        else
+        {
+            skin = mJointSkinFactory == null ? null : mJointSkinFactory.call(pJoint);
+            if (skin == null)
+            {
+                skin = new DefaultJointSkin(pJoint);
+            }
+            mJointSkinPool.created(skin);
+            mCreatedSkinCount++;
         }
         skin.setGraphEditor(mGraphEditor);
+        skin.setDetailLevel(mView.getDetailLevel());
         skin.getRoot().setEditorProperties(mGraphEditor.getProperties());
         skin.impl_setOnPositionMoved(mOnPositionMoved);
         skin.initialize();
@@ -360,12 +444,23 @@ public class GraphEditorSkinManager implements SkinManager
 
     private GNodeSkin createNodeSkin(final GNode pNode)
     {
-        GNodeSkin skin = mNodeSkinFactory == null ? null : mNodeSkinFactory.call(pNode);
-        if (skin == null)
+        GNodeSkin skin = mNodeSkinPool.take(pNode);
+        if (skin != null)
         {
-            skin = new DefaultNodeSkin(pNode);
+            mReusedSkinCount++;
+        }
+        else
+        {
+            skin = mNodeSkinFactory == null ? null : mNodeSkinFactory.call(pNode);
+            if (skin == null)
+            {
+                skin = new DefaultNodeSkin(pNode);
+            }
+            mNodeSkinPool.created(skin);
+            mCreatedSkinCount++;
         }
         skin.setGraphEditor(mGraphEditor);
+        skin.setDetailLevel(mView.getDetailLevel());
         skin.getRoot().setEditorProperties(mGraphEditor.getProperties());
         skin.impl_setOnPositionMoved(mOnPositionMoved);
         skin.initialize();
@@ -376,12 +471,66 @@ public class GraphEditorSkinManager implements SkinManager
         return skin;
     }
 
-    private void positionMoved(final GSkin<?> pMovedSkin)
+    /**
+     * @return the number of skins created through the skin factories (or the
+     *         default skins) so far, excluding tail skins
+     * @since 16.10.2026
+     */
+    public long getCreatedSkinCount()
+    {
+        return mCreatedSkinCount;
+    }
+
+    /**
+     * @return the number of skins taken from the skin pool instead of being
+     *         created so far
+     * @see #SKIN_POOLING_KEY
+     * @since 16.10.2026
+     */
+    public long getReusedSkinCount()
     {
+        return mReusedSkinCount;
+    }
+
+    private void detailLevelChanged(final DetailLevel pDetailLevel)
+    {
+        mNodeSkins.values().forEach(skin -> skin.setDetailLevel(pDetailLevel));
+        mConnectorSkins.values().forEach(skin -> skin.setDetailLevel(pDetailLevel));
+        mConnectionSkins.values().forEach(skin -> skin.setDetailLevel(pDetailLevel));
+        mJointSkins.values().forEach(skin -> skin.setDetailLevel(pDetailLevel));
+
         final ConnectionLayouter layouter = mConnectionLayouter;
-        if (layouter != null && (pMovedSkin instanceof GNodeSkin || pMovedSkin instanceof GJointSkin))
+        if (layouter != null)
         {
+            // intersection gaps depend on the detail level:
+            layouter.markAllDirty();
             layouter.draw();
         }
     }
+
+    private boolean isSkinPoolingEnabled()
+    {
+        final GraphEditorProperties properties = mGraphEditor.getProperties();
+        return properties != null
+                && Boolean.toString(true).equals(properties.getCustomProperties().get(SKIN_POOLING_KEY));
+    }
+
+    private void positionMoved(final GSkin<?> pMovedSkin)
+    {
+        final ConnectionLayouter layouter = mConnectionLayouter;
+        if (layouter != null)
+        {
+            if (pMovedSkin instanceof GNodeSkin nodeSkin)
+            {
+                layouter.markDirty(nodeSkin.getItem());
+                layouter.draw();
+            }
+            else if (pMovedSkin instanceof GJointSkin jointSkin)
+            {
+                layouter.markDirty(jointSkin.getItem().getConnection());
+                layouter.draw();
+            }
+        }
+        mView.requestVisibleSkinsUpdate();
+    }
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2005 - 2014 by TESIS DYNAware GmbH
+ */
+package io.github.eckig.grapheditor.core.skins;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+import io.github.eckig.grapheditor.GSkin;
+import org.eclipse.emf.ecore.EObject;
+
+
+/**
+ * A pool of disposed {@link GSkin#isReusable() reusable} skins, keyed by the
+ * type string of the model element they were created for.
+ *
+ * <p>
+ * Skins are only handed out again for elements of the same type, as the skin
+ * factories usually decide on the skin class based on the type. A skin is
+ * pooled under the type its item had when the skin was created or taken from
+ * the pool, because the type of the item may already have changed when the
+ * skin is disposed.
+ * </p>
+ *
+ * @param <T>
+ *            the model element type
+ * @param <S>
+ *            the skin type
+ * @since 16.10.2026
+ */
+final class SkinPool<T extends EObject, S extends GSkin<T>>
+{
+
+    /**
+     * Maximum number of pooled skins per type, so that a huge delete does not
+     * keep an unbounded amount of JavaFX nodes alive
+     */
+    private static final int MAX_SKINS_PER_TYPE = 4096;
+
+    private final Map<String, Deque<S>> mSkins = new HashMap<>();
+    private final Function<T, String> mTypeFunction;
+
+    /**
+     * The type every live skin was created or taken for, weak so that skins
+     * that are never offered are not kept alive
+     */
+    private final Map<S, String> mBoundTypes = new WeakHashMap<>();
+
+    /**
+     * Creates a new, empty {@link SkinPool}.
+     *
+     * @param pTypeFunction
+     *            function returning the type string of a model element
+     */
+    SkinPool(final Function<T, String> pTypeFunction)
+    {
+        mTypeFunction = pTypeFunction;
+    }
+
+    /**
+     * Takes a pooled skin for the type of the given item and rebinds it to the
+     * item.
+     *
+     * @param pItem
+     *            the item to create a skin for
+     * @return a pooled skin bound to the given item or {@code null} if no skin
+     *         is available for its type
+     */
+    S take(final T pItem)
+    {
+        final Deque<S> skins = mSkins.get(typeOf(pItem));
+        final S skin = skins == null ? null : skins.poll();
+        if (skin != null)
+        {
+            skin.rebind(pItem);
+            created(skin);
+        }
+        return skin;
+    }
+
+    /**
+     * Remembers the current type of the item of the given new skin.
+     *
+     * @param pSkin
+     *            a skin that was just created for its item
+     */
+    void created(final S pSkin)
+    {
+        mBoundTypes.put(pSkin, typeOf(pSkin.getItem()));
+    }
+
+    /**
+     * Resets the given disposed skin and keeps it for later reuse if it is
+     * {@link GSkin#isReusable() reusable}. Skins that were not
+     * {@link #created(GSkin) registered} are not pooled, as their type is
+     * unknown.
+     *
+     * @param pSkin
+     *            the disposed skin
+     * @return {@code true} if the skin has been pooled
+     */
+    boolean offer(final S pSkin)
+    {
+        final String type = pSkin == null ? null : mBoundTypes.remove(pSkin);
+        if (type == null || !pSkin.isReusable())
+        {
+            return false;
+        }
+
+        final Deque<S> skins = mSkins.computeIfAbsent(type, k -> new ArrayDeque<>());
+        if (skins.size() >= MAX_SKINS_PER_TYPE)
+        {
+            return false;
+        }
+        pSkin.reset();
+        skins.push(pSkin);
+        return true;
+    }
+
+    /**
+     * Discards all pooled skins.
+     */
+    void clear()
+    {
+        mSkins.clear();
+    }
+
+    private String typeOf(final T pItem)
+    {
+        final String type = pItem == null ? null : mTypeFunction.apply(pItem);
+        return type == null ? "" : type;
+    }
+}
@@ -204,4 +204,25 @@ public class DefaultConnectorSkin extends GConnectorSkin {
     protected void selectionChanged(boolean isSelected) {
         // Not implemented
     }
+
+    @Override
+    public boolean isReusable() {
+        return true;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        applyStyle(GConnectorStyle.DEFAULT);
+    }
+
+    @Override
+    protected void itemChanged(final GConnector previousItem) {
+
+        performChecks();
+
+        polygon.getStyleClass().setAll(STYLE_CLASS_BASE, getItem().getType());
+        polygon.getPoints().clear();
+        drawTriangleConnector(getItem().getType(), polygon);
+    }
 }
@@ -54,6 +54,12 @@ public class DefaultJointSkin extends GJointSkin
         }
     }
 
+    @Override
+    public boolean isReusable()
+    {
+        return true;
+    }
+
     @Override
     public double getWidth()
     {
@@ -13,6 +13,7 @@ import io.github.eckig.grapheditor.utils.ResizableBox;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.github.eckig.grapheditor.DetailLevel;
 import io.github.eckig.grapheditor.GConnectorSkin;
 import io.github.eckig.grapheditor.GNodeSkin;
 import io.github.eckig.grapheditor.model.GConnector;
@@ -45,6 +46,7 @@ public class DefaultNodeSkin extends GNodeSkin {
     private static final String STYLE_CLASS_SELECTION_HALO = "default-node-selection-halo";
 
     private static final PseudoClass PSEUDO_CLASS_SELECTED = PseudoClass.getPseudoClass("selected");
+    private static final PseudoClass PSEUDO_CLASS_SIMPLIFIED = PseudoClass.getPseudoClass("simplified");
 
     private static final double HALO_OFFSET = 5;
     private static final double HALO_CORNER_SIZE = 10;
@@ -258,7 +260,7 @@ public class DefaultNodeSkin extends GNodeSkin {
     @Override
     protected void selectionChanged(boolean isSelected) {
         if (isSelected) {
-            selectionHalo.setVisible(true);
+            selectionHalo.setVisible(getDetailLevel() != DetailLevel.MINIMAL);
             layoutSelectionHalo();
             background.pseudoClassStateChanged(PSEUDO_CLASS_SELECTED, true);
             getRoot().toFront();
@@ -268,6 +270,33 @@ public class DefaultNodeSkin extends GNodeSkin {
         }
     }
 
+    @Override
+    protected void detailLevelChanged(final DetailLevel detailLevel) {
+
+        // at minimal detail the background alone is drawn as a plain rectangle without effects:
+        final boolean simplified = detailLevel == DetailLevel.MINIMAL;
+        border.setVisible(!simplified);
+        background.pseudoClassStateChanged(PSEUDO_CLASS_SIMPLIFIED, simplified);
+        selectionHalo.setVisible(!simplified && isSelected());
+        layoutSelectionHalo();
+    }
+
+    @Override
+    public boolean isReusable() {
+        return true;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        setConnectorSkins(null);
+    }
+
+    @Override
+    protected void itemChanged(final GNode previousItem) {
+        performChecks();
+    }
+
     /**
      * Removes all connectors from the list of children.
      */
@@ -0,0 +1,285 @@
+/*
+ * Copyright (C) 2005 - 2014 by TESIS DYNAware GmbH
+ */
+package io.github.eckig.grapheditor.core.skins.defaults.connection;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import io.github.eckig.grapheditor.GConnectionSkin;
+import io.github.eckig.grapheditor.utils.GeometryUtils;
+import javafx.geometry.Point2D;
+
+
+/**
+ * The points of all connections of one draw pass.
+ *
+ * <p>
+ * The points are held as flat coordinates ({@code x0, y0, x1, y1, ...}, see
+ * {@link GConnectionSkin#updateCoordinates()}), which the default skins,
+ * layouters and the {@link IntersectionFinder} read via
+ * {@link #getCoordinates(GConnectionSkin)}. For everyone else this behaves
+ * like a plain map of {@link Point2D} arrays; these are created on demand and
+ * cached until the coordinates of the connection change.
+ * </p>
+ *
+ * <p>
+ * Additionally holds a spatial index over all connection segments that is
+ * built the first time the {@link IntersectionFinder} queries it. Adding or
+ * removing points afterwards discards the index again.
+ * </p>
+ *
+ * <p>
+ * Optionally sums up the time the {@link IntersectionFinder} spends on these
+ * points, see {@link #setMeasureIntersections(boolean)}.
+ * </p>
+ */
+public class ConnectionPoints extends AbstractMap<GConnectionSkin, Point2D[]>
+{
+
+    private final Map<GConnectionSkin, double[]> mCoordinates;
+    private final Map<GConnectionSkin, Point2D[]> mPoints = new HashMap<>();
+    private final Set<Map.Entry<GConnectionSkin, Point2D[]>> mEntrySet = new EntrySet();
+
+    private SegmentIndex mSegmentIndex;
+
+    private boolean mMeasureIntersections;
+    private long mIntersectionNanos;
+
+    /**
+     * Creates a new, empty {@link ConnectionPoints} instance.
+     */
+    public ConnectionPoints()
+    {
+        mCoordinates = new HashMap<>();
+    }
+
+    /**
+     * Creates a new, empty {@link ConnectionPoints} instance.
+     *
+     * @param pInitialCapacity
+     *            the expected number of connections
+     */
+    public ConnectionPoints(final int pInitialCapacity)
+    {
+        mCoordinates = new HashMap<>(pInitialCapacity);
+    }
+
+    /**
+     * Sets the coordinates of a connection without creating any points.
+     *
+     * @param pSkin
+     *            the {@link GConnectionSkin}
+     * @param pCoordinates
+     *            the coordinates ({@code x0, y0, x1, y1, ...}), typically the
+     *            buffer returned by {@link GConnectionSkin#updateCoordinates()}
+     * @since 16.10.2026
+     */
+    public void putCoordinates(final GConnectionSkin pSkin, final double[] pCoordinates)
+    {
+        mSegmentIndex = null;
+        mPoints.remove(pSkin);
+        mCoordinates.put(pSkin, pCoordinates);
+    }
+
+    /**
+     * @param pSkin
+     *            the {@link GConnectionSkin}
+     * @return the coordinates ({@code x0, y0, x1, y1, ...}) of the given
+     *         connection or {@code null}
+     * @since 16.10.2026
+     */
+    public double[] getCoordinates(final GConnectionSkin pSkin)
+    {
+        return mCoordinates.get(pSkin);
+    }
+
+    /**
+     * Gets the coordinates of a connection from any map of points, without
+     * creating points if it is a {@link ConnectionPoints} instance.
+     *
+     * @param pAllPoints
+     *            the points of all connections (may be {@code null})
+     * @param pSkin
+     *            the {@link GConnectionSkin}
+     * @return the coordinates ({@code x0, y0, x1, y1, ...}) of the given
+     *         connection or {@code null}
+     * @since 16.10.2026
+     */
+    public static double[] getCoordinates(final Map<GConnectionSkin, Point2D[]> pAllPoints,
+            final GConnectionSkin pSkin)
+    {
+        if (pAllPoints instanceof ConnectionPoints connectionPoints)
+        {
+            return connectionPoints.getCoordinates(pSkin);
+        }
+        return pAllPoints == null ? null : GeometryUtils.toCoordinates(pAllPoints.get(pSkin), null);
+    }
+
+    @Override
+    public Point2D[] get(final Object pKey)
+    {
+        Point2D[] points = mPoints.get(pKey);
+        if (points == null && pKey instanceof GConnectionSkin skin)
+        {
+            final double[] coordinates = mCoordinates.get(skin);
+            if (coordinates != null)
+            {
+                points = GeometryUtils.toPoints(coordinates);
+                mPoints.put(skin, points);
+            }
+        }
+        return points;
+    }
+
+    @Override
+    public boolean containsKey(final Object pKey)
+    {
+        return mCoordinates.containsKey(pKey);
+    }
+
+    @Override
+    public int size()
+    {
+        return mCoordinates.size();
+    }
+
+    @Override
+    public Set<GConnectionSkin> keySet()
+    {
+        return Collections.unmodifiableSet(mCoordinates.keySet());
+    }
+
+    @Override
+    public Point2D[] put(final GConnectionSkin pKey, final Point2D[] pValue)
+    {
+        final Point2D[] previous = get(pKey);
+        mSegmentIndex = null;
+        mCoordinates.put(pKey, GeometryUtils.toCoordinates(pValue, null));
+        mPoints.put(pKey, pValue);
+        return previous;
+    }
+
+    @Override
+    public Point2D[] remove(final Object pKey)
+    {
+        final Point2D[] previous = get(pKey);
+        mSegmentIndex = null;
+        mCoordinates.remove(pKey);
+        mPoints.remove(pKey);
+        return previous;
+    }
+
+    @Override
+    public void clear()
+    {
+        mSegmentIndex = null;
+        mCoordinates.clear();
+        mPoints.clear();
+    }
+
+    @Override
+    public Set<Map.Entry<GConnectionSkin, Point2D[]>> entrySet()
+    {
+        return mEntrySet;
+    }
+
+    /**
+     * Enables or disables measuring the time spent by the
+     * {@link IntersectionFinder} on these points, and resets the measured
+     * time.
+     *
+     * @param pMeasure
+     *            {@code true} to measure the time
+     * @since 16.10.2026
+     */
+    public void setMeasureIntersections(final boolean pMeasure)
+    {
+        mMeasureIntersections = pMeasure;
+        mIntersectionNanos = 0;
+    }
+
+    /**
+     * @return the time in nanoseconds spent by the {@link IntersectionFinder}
+     *         on these points since the last call of
+     *         {@link #setMeasureIntersections(boolean)}
+     * @since 16.10.2026
+     */
+    public long getIntersectionNanos()
+    {
+        return mIntersectionNanos;
+    }
+
+    boolean isMeasureIntersections()
+    {
+        return mMeasureIntersections;
+    }
+
+    void addIntersectionNanos(final long pNanos)
+    {
+        mIntersectionNanos += pNanos;
+    }
+
+    /**
+     * @return the {@link SegmentIndex} over the current coordinates, created
+     *         on demand
+     */
+    SegmentIndex getSegmentIndex()
+    {
+        if (mSegmentIndex == null)
+        {
+            mSegmentIndex = new SegmentIndex(mCoordinates);
+        }
+        return mSegmentIndex;
+    }
+
+    /**
+     * Entries of all connections, creating their points on demand.
+     */
+    private final class EntrySet extends AbstractSet<Map.Entry<GConnectionSkin, Point2D[]>>
+    {
+
+        @Override
+        public Iterator<Map.Entry<GConnectionSkin, Point2D[]>> iterator()
+        {
+            final Iterator<GConnectionSkin> keys = mCoordinates.keySet().iterator();
+            return new Iterator<>()
+            {
+
+                private GConnectionSkin mLast;
+
+                @Override
+                public boolean hasNext()
+                {
+                    return keys.hasNext();
+                }
+
+                @Override
+                public Map.Entry<GConnectionSkin, Point2D[]> next()
+                {
+                    mLast = keys.next();
+                    return new SimpleImmutableEntry<>(mLast, get(mLast));
+                }
+
+                @Override
+                public void remove()
+                {
+                    keys.remove();
+                    mPoints.remove(mLast);
+                    mSegmentIndex = null;
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return mCoordinates.size();
+        }
+    }
+}
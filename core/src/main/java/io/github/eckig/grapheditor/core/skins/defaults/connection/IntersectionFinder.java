@@ -4,11 +4,11 @@
 package io.github.eckig.grapheditor.core.skins.defaults.connection;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
 
 import io.github.eckig.grapheditor.GConnectionSkin;
 import io.github.eckig.grapheditor.core.connections.RectangularConnections;
-import io.github.eckig.grapheditor.model.GConnection;
 import io.github.eckig.grapheditor.utils.GeometryUtils;
 import javafx.geometry.Point2D;
 
@@ -16,6 +16,12 @@ import javafx.geometry.Point2D;
 /**
  * Responsible for finding the intersection points between a connection and
  * other connections.
+ *
+ * <p>
+ * Intersections are looked up in a {@link SegmentIndex}. When the given points
+ * are a {@link ConnectionPoints} instance the index is shared by all
+ * connections of the same draw pass, otherwise it is built for every call.
+ * </p>
  */
 public class IntersectionFinder
 {
@@ -34,26 +40,50 @@ public class IntersectionFinder
     public static double[][] find(final GConnectionSkin pSkin, final Map<GConnectionSkin, Point2D[]> allPoints,
             final boolean behind)
     {
-        final Point2D[] points = allPoints.get(pSkin);
-        if (points == null)
+        if (allPoints instanceof ConnectionPoints connectionPoints && connectionPoints.isMeasureIntersections())
+        {
+            final long start = System.nanoTime();
+            try
+            {
+                return findIntersections(pSkin, allPoints, behind);
+            }
+            finally
+            {
+                connectionPoints.addIntersectionNanos(System.nanoTime() - start);
+            }
+        }
+        return findIntersections(pSkin, allPoints, behind);
+    }
+
+    private static double[][] findIntersections(final GConnectionSkin pSkin,
+            final Map<GConnectionSkin, Point2D[]> allPoints, final boolean behind)
+    {
+        final double[] coordinates = ConnectionPoints.getCoordinates(allPoints, pSkin);
+        if (coordinates == null)
         {
             return null;
         }
+        final int pointCount = coordinates.length / 2;
         double[][] intersections = null;
 
-        for (int i = 0; i < points.length - 1; i++)
+        // built once per draw pass if the points are provided by the layouter:
+        final SegmentIndex index = allPoints instanceof ConnectionPoints connectionPoints
+                ? connectionPoints.getSegmentIndex() : new SegmentIndex(toCoordinates(allPoints));
+
+        for (int i = 0; i < pointCount - 1; i++)
         {
             final boolean isHorizontal = RectangularConnections.isSegmentHorizontal(pSkin.getItem(), i);
-            final double[] segmentIntersections = findSegmentIntersections(pSkin, allPoints, behind, i, isHorizontal);
+            final double[] segmentIntersections = index.findSegmentIntersections(pSkin, coordinates, i, isHorizontal,
+                    behind);
 
             final boolean isDecreasing;
             if (isHorizontal)
             {
-                isDecreasing = points[i + 1].getX() < points[i].getX();
+                isDecreasing = coordinates[2 * i + 2] < coordinates[2 * i];
             }
             else
             {
-                isDecreasing = points[i + 1].getY() < points[i].getY();
+                isDecreasing = coordinates[2 * i + 3] < coordinates[2 * i + 1];
             }
 
             if (segmentIntersections != null && segmentIntersections.length > 0)
@@ -66,7 +96,7 @@ public class IntersectionFinder
 
                 if(intersections == null)
                 {
-                    intersections = new double[points.length][];
+                    intersections = new double[pointCount][];
                 }
                 intersections[i] = segmentIntersections;
             }
@@ -74,149 +104,23 @@ public class IntersectionFinder
         return intersections;
     }
 
-    private static void reverse(final double[] array)
+    private static Map<GConnectionSkin, double[]> toCoordinates(final Map<GConnectionSkin, Point2D[]> pAllPoints)
     {
-        for (int i = 0; i < array.length / 2; i++)
+        final Map<GConnectionSkin, double[]> coordinates = new HashMap<>(pAllPoints.size());
+        for (final Map.Entry<GConnectionSkin, Point2D[]> entry : pAllPoints.entrySet())
         {
-            double temp = array[i];
-            array[i] = array[array.length - i - 1];
-            array[array.length - i - 1] = temp;
+            coordinates.put(entry.getKey(), GeometryUtils.toCoordinates(entry.getValue(), null));
         }
+        return coordinates;
     }
 
-    /**
-     * Finds the intersection points of other connections with a particular
-     * connection segment.
-     *
-     * @param behind
-     *            {@code true} to find intersections with the connections that
-     *            are behind
-     * @param index
-     *            the index of the connection segment
-     * @param isHorizontal
-     *            {@code true} if the connection segment is horizontal
-     * @return a list of positions along the segment where intersections occur
-     */
-    private static double[] findSegmentIntersections(final GConnectionSkin connection, final Map<GConnectionSkin, Point2D[]> allPoints,
-            final boolean behind, final int index, final boolean isHorizontal)
-    {
-        double[] segmentIntersections = null;
-        int resultLen = 0;
-        final Point2D[] points = allPoints.get(connection);
-
-        if (points == null)
-        {
-            return null;
-        }
-
-        for (final Map.Entry<GConnectionSkin, Point2D[]> entry : allPoints.entrySet())
-        {
-            if (!filterConnection(connection, behind, entry.getKey()))
-            {
-                continue;
-            }
-
-            final Point2D[] otherPoints = entry.getValue();
-            if (otherPoints == null)
-            {
-                continue;
-            }
-
-            for (int j = 0; j < otherPoints.length - 1; j++)
-            {
-                if (connection.equals(entry.getKey()) && index > j ^ behind)
-                {
-                    continue;
-                }
-
-                if (isHorizontal)
-                {
-                    final Point2D a = points[index];
-                    final Point2D b = points[index + 1];
-                    final Point2D c = otherPoints[j];
-                    final Point2D d = otherPoints[j + 1];
-
-                    if (GeometryUtils.checkIntersection(a, b, c, d))
-                    {
-                        if (segmentIntersections == null)
-                        {
-                            segmentIntersections = new double[5];
-                        }
-                        if (resultLen >= segmentIntersections.length)
-                        {
-                            segmentIntersections = Arrays.copyOf(segmentIntersections, segmentIntersections.length + 5);
-                        }
-                        segmentIntersections[resultLen++] = c.getX();
-                    }
-                }
-                else
-                {
-                    final Point2D a = otherPoints[j];
-                    final Point2D b = otherPoints[j + 1];
-                    final Point2D c = points[index];
-                    final Point2D d = points[index + 1];
-
-                    if (GeometryUtils.checkIntersection(a, b, c, d))
-                    {
-                        if (segmentIntersections == null)
-                        {
-                            segmentIntersections = new double[5];
-                        }
-                        if (resultLen >= segmentIntersections.length)
-                        {
-                            segmentIntersections = Arrays.copyOf(segmentIntersections, segmentIntersections.length + 5);
-                        }
-                        segmentIntersections[resultLen++] = a.getY();
-                    }
-                }
-            }
-        }
-        return segmentIntersections;
-    }
-
-    /**
-     * Filters out some connections, because we want to either ignore
-     * connections in front or behind. We only want one of the connections at an
-     * intersection to draw a detour graphic.
-     *
-     * @param behind
-     *            {@code true} to leave in connections behind this one and
-     *            filter out those in front
-     * @return a stream of connections with some filtered out
-     */
-    private static boolean filterConnection(final GConnectionSkin connection, final boolean behind, final GConnectionSkin otherConnection)
-    {
-        if (connection.equals(otherConnection))
-        {
-            return true;
-        }
-        else if (behind)
-        {
-            return checkIfBehind(connection, otherConnection);
-        }
-        else
-        {
-            return !checkIfBehind(connection, otherConnection);
-        }
-    }
-
-    /**
-     * Checks if the given connection is behind this one.
-     *
-     * @param other
-     *            another {@link GConnection} instance
-     * @return {@code true} if the given connection is behind this one
-     */
-    private static boolean checkIfBehind(final GConnectionSkin skin, final GConnectionSkin otherSkin)
+    private static void reverse(final double[] array)
     {
-        if (skin == null || skin.getParentIndex() == -1)
-        {
-            return false;
-        }
-        else
+        for (int i = 0; i < array.length / 2; i++)
         {
-            final int otherIndex = otherSkin == null ? -1 : otherSkin.getParentIndex();
-            return otherIndex < skin.getParentIndex();
+            double temp = array[i];
+            array[i] = array[array.length - i - 1];
+            array[array.length - i - 1] = temp;
         }
     }
 }
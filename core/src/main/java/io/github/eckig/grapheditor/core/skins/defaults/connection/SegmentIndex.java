@@ -0,0 +1,427 @@
+/*
+ * Copyright (C) 2005 - 2014 by TESIS DYNAware GmbH
+ */
+package io.github.eckig.grapheditor.core.skins.defaults.connection;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.github.eckig.grapheditor.GConnectionSkin;
+import io.github.eckig.grapheditor.model.GConnection;
+import io.github.eckig.grapheditor.model.GModel;
+
+
+/**
+ * Spatial index over the segments of all connections, used by the
+ * {@link IntersectionFinder}.
+ *
+ * <p>
+ * Every segment is stored in a uniform grid. Segments that can cross a
+ * horizontal segment (i.e. have a vertical extent) are stored in one grid,
+ * segments that can cross a vertical segment (i.e. have a horizontal extent) in
+ * another. A query only visits the grid cells along the queried segment instead
+ * of all segments of all connections.
+ * </p>
+ *
+ * <p>
+ * The index is a snapshot of the given coordinates. It should be built once per
+ * draw pass, after all connection skins have been updated.
+ * </p>
+ *
+ * <p>
+ * Which of two crossing connections is in front is decided by their order in
+ * the model, where later connections lie behind earlier ones. This also holds
+ * for connection skins that are currently not part of the scene graph. Only if
+ * the connections do not all belong to the same model, their index in the
+ * scene graph is used instead.
+ * </p>
+ */
+final class SegmentIndex
+{
+
+    private static final int MAX_CELLS_PER_AXIS = 256;
+
+    private final Map<GConnectionSkin, Integer> mSkinIds;
+
+    /**
+     * The depth of each connection, higher values are further in front
+     */
+    private final int[] mDepths;
+    private final boolean mModelOrder;
+
+    /**
+     * Segments with a vertical extent, keyed by their start x position.
+     */
+    private final Grid mVerticalSpans;
+
+    /**
+     * Segments with a horizontal extent, keyed by their start y position.
+     */
+    private final Grid mHorizontalSpans;
+
+    /**
+     * Creates a new {@link SegmentIndex} over the given coordinates.
+     *
+     * @param pAllCoordinates
+     *            the coordinates ({@code x0, y0, x1, y1, ...}) of all
+     *            connections in the model
+     */
+    SegmentIndex(final Map<GConnectionSkin, double[]> pAllCoordinates)
+    {
+        mSkinIds = new IdentityHashMap<>(pAllCoordinates.size());
+        mDepths = new int[pAllCoordinates.size()];
+
+        int segmentCount = 0;
+        for (final Map.Entry<GConnectionSkin, double[]> entry : pAllCoordinates.entrySet())
+        {
+            mSkinIds.put(entry.getKey(), mSkinIds.size());
+            if (entry.getValue() != null)
+            {
+                segmentCount += Math.max(0, entry.getValue().length / 2 - 1);
+            }
+        }
+
+        final GModel model = findCommonModel(pAllCoordinates.keySet());
+        mModelOrder = model != null;
+        if (mModelOrder)
+        {
+            final List<GConnection> connections = model.getConnections();
+            final Map<GConnection, Integer> modelIndices = new IdentityHashMap<>(connections.size());
+            for (int i = 0; i < connections.size(); i++)
+            {
+                modelIndices.put(connections.get(i), i);
+            }
+            for (final Map.Entry<GConnectionSkin, Integer> entry : mSkinIds.entrySet())
+            {
+                mDepths[entry.getValue()] = -modelIndices.get(entry.getKey().getItem());
+            }
+        }
+        else
+        {
+            for (final Map.Entry<GConnectionSkin, Integer> entry : mSkinIds.entrySet())
+            {
+                final GConnectionSkin skin = entry.getKey();
+                mDepths[entry.getValue()] = skin == null ? -1 : skin.getParentIndex();
+            }
+        }
+
+        mVerticalSpans = new Grid(segmentCount);
+        mHorizontalSpans = new Grid(segmentCount);
+
+        for (final Map.Entry<GConnectionSkin, double[]> entry : pAllCoordinates.entrySet())
+        {
+            final double[] coordinates = entry.getValue();
+            if (coordinates == null)
+            {
+                continue;
+            }
+
+            final int id = mSkinIds.get(entry.getKey());
+            for (int j = 0; j < coordinates.length / 2 - 1; j++)
+            {
+                final double startX = coordinates[2 * j];
+                final double startY = coordinates[2 * j + 1];
+                final double endX = coordinates[2 * j + 2];
+                final double endY = coordinates[2 * j + 3];
+                if (Double.isNaN(startX) || Double.isNaN(startY) || Double.isNaN(endX) || Double.isNaN(endY))
+                {
+                    continue;
+                }
+
+                // segments without extent in one direction can never be crossed in that direction:
+                if (startY != endY)
+                {
+                    mVerticalSpans.add(startX, startY, endY, id, j);
+                }
+                if (startX != endX)
+                {
+                    mHorizontalSpans.add(startY, startX, endX, id, j);
+                }
+            }
+        }
+
+        mVerticalSpans.build();
+        mHorizontalSpans.build();
+    }
+
+    /**
+     * Finds the intersection points of other connections with a particular
+     * connection segment.
+     *
+     * @param pSkin
+     *            the {@link GConnectionSkin} owning the segment
+     * @param pCoordinates
+     *            the coordinates ({@code x0, y0, x1, y1, ...}) of the given
+     *            connection skin
+     * @param pIndex
+     *            the index of the connection segment
+     * @param pHorizontal
+     *            {@code true} if the connection segment is horizontal
+     * @param pBehind
+     *            {@code true} to find intersections with the connections that
+     *            are behind
+     * @return the (unsorted) positions along the segment where intersections
+     *         occur, or {@code null} if there are none
+     */
+    double[] findSegmentIntersections(final GConnectionSkin pSkin, final double[] pCoordinates, final int pIndex,
+            final boolean pHorizontal, final boolean pBehind)
+    {
+        final Integer id = mSkinIds.get(pSkin);
+        if (id == null)
+        {
+            return null;
+        }
+
+        final double startX = pCoordinates[2 * pIndex];
+        final double startY = pCoordinates[2 * pIndex + 1];
+        final double endX = pCoordinates[2 * pIndex + 2];
+        final double endY = pCoordinates[2 * pIndex + 3];
+        if (pHorizontal)
+        {
+            return mVerticalSpans.query(startY, startX, endX, id, pIndex, pBehind);
+        }
+        else
+        {
+            return mHorizontalSpans.query(startX, startY, endY, id, pIndex, pBehind);
+        }
+    }
+
+    /**
+     * Filters out some connections, because we want to either ignore
+     * connections in front or behind. We only want one of the connections at an
+     * intersection to draw a detour graphic.
+     *
+     * @see IntersectionFinder
+     */
+    private boolean accept(final int pSkinId, final int pSegment, final int pOtherSkinId, final int pOtherSegment,
+            final boolean pBehind)
+    {
+        if (pSkinId == pOtherSkinId)
+        {
+            return !(pSegment > pOtherSegment ^ pBehind);
+        }
+
+        final int depth = mDepths[pSkinId];
+        final boolean otherIsBehind = (mModelOrder || depth != -1) && mDepths[pOtherSkinId] < depth;
+        return pBehind == otherIsBehind;
+    }
+
+    /**
+     * @return the {@link GModel} containing the connections of all given
+     *         skins, or {@code null} if there is no such model
+     */
+    private static GModel findCommonModel(final Iterable<GConnectionSkin> pSkins)
+    {
+        GModel model = null;
+        for (final GConnectionSkin skin : pSkins)
+        {
+            final GConnection connection = skin == null ? null : skin.getItem();
+            if (connection == null || !(connection.eContainer() instanceof GModel container)
+                    || model != null && model != container)
+            {
+                return null;
+            }
+            model = container;
+        }
+        return model;
+    }
+
+    /**
+     * A uniform grid of axis-aligned spans.
+     *
+     * <p>
+     * Each span lies at a fixed position (the key) on the first axis and
+     * extends between two positions on the second axis. It is registered in
+     * one column and in every row it covers. A query along a line on the
+     * second axis therefore visits every candidate span exactly once.
+     * </p>
+     */
+    private final class Grid
+    {
+
+        private final double[] mKeys;
+        private final double[] mLows;
+        private final double[] mHighs;
+        private final int[] mOwners;
+        private final int[] mSegments;
+        private int mSize;
+
+        private double mMinKey;
+        private double mMinSpan;
+        private double mKeyCellSize = 1;
+        private double mSpanCellSize = 1;
+        private int mColumns = 1;
+        private int mRows = 1;
+
+        private int[] mCellStart;
+        private int[] mCellEntries;
+
+        private Grid(final int pCapacity)
+        {
+            mKeys = new double[pCapacity];
+            mLows = new double[pCapacity];
+            mHighs = new double[pCapacity];
+            mOwners = new int[pCapacity];
+            mSegments = new int[pCapacity];
+        }
+
+        private void add(final double pKey, final double pSpanStart, final double pSpanEnd, final int pOwner,
+                final int pSegment)
+        {
+            mKeys[mSize] = pKey;
+            mLows[mSize] = Math.min(pSpanStart, pSpanEnd);
+            mHighs[mSize] = Math.max(pSpanStart, pSpanEnd);
+            mOwners[mSize] = pOwner;
+            mSegments[mSize] = pSegment;
+            mSize++;
+        }
+
+        private void build()
+        {
+            if (mSize == 0)
+            {
+                mCellStart = new int[2];
+                mCellEntries = new int[0];
+                return;
+            }
+
+            double minKey = Double.POSITIVE_INFINITY;
+            double maxKey = Double.NEGATIVE_INFINITY;
+            double minSpan = Double.POSITIVE_INFINITY;
+            double maxSpan = Double.NEGATIVE_INFINITY;
+            double totalSpanLength = 0;
+            for (int i = 0; i < mSize; i++)
+            {
+                minKey = Math.min(minKey, mKeys[i]);
+                maxKey = Math.max(maxKey, mKeys[i]);
+                minSpan = Math.min(minSpan, mLows[i]);
+                maxSpan = Math.max(maxSpan, mHighs[i]);
+                totalSpanLength += mHighs[i] - mLows[i];
+            }
+
+            mMinKey = minKey;
+            mMinSpan = minSpan;
+
+            // one column per sqrt(n) spans, rows roughly as high as the average span:
+            final double keyExtent = maxKey - minKey;
+            final double spanExtent = maxSpan - minSpan;
+            if (keyExtent > 0)
+            {
+                mColumns = clampCellCount(Math.sqrt(mSize));
+                mKeyCellSize = keyExtent / mColumns;
+            }
+            if (spanExtent > 0)
+            {
+                final double averageSpanLength = Math.max(1, totalSpanLength / mSize);
+                mRows = clampCellCount(spanExtent / averageSpanLength);
+                mSpanCellSize = spanExtent / mRows;
+            }
+
+            // count, prefix-sum and fill (compressed row storage):
+            mCellStart = new int[mColumns * mRows + 1];
+            for (int i = 0; i < mSize; i++)
+            {
+                final int column = column(mKeys[i]);
+                final int lastRow = row(mHighs[i]);
+                for (int row = row(mLows[i]); row <= lastRow; row++)
+                {
+                    mCellStart[cell(column, row) + 1]++;
+                }
+            }
+            for (int c = 0; c < mColumns * mRows; c++)
+            {
+                mCellStart[c + 1] += mCellStart[c];
+            }
+
+            mCellEntries = new int[mCellStart[mColumns * mRows]];
+            final int[] fill = Arrays.copyOf(mCellStart, mColumns * mRows);
+            for (int i = 0; i < mSize; i++)
+            {
+                final int column = column(mKeys[i]);
+                final int lastRow = row(mHighs[i]);
+                for (int row = row(mLows[i]); row <= lastRow; row++)
+                {
+                    mCellEntries[fill[cell(column, row)]++] = i;
+                }
+            }
+        }
+
+        /**
+         * Finds all spans whose key lies strictly between the given key bounds
+         * and whose extent strictly contains the given position.
+         *
+         * @return the keys of all matching spans, or {@code null} if there are
+         *         none
+         */
+        private double[] query(final double pPosition, final double pKeyStart, final double pKeyEnd,
+                final int pOwner, final int pSegment, final boolean pBehind)
+        {
+            if (mSize == 0)
+            {
+                return null;
+            }
+
+            final double keyLow = Math.min(pKeyStart, pKeyEnd);
+            final double keyHigh = Math.max(pKeyStart, pKeyEnd);
+            final int row = row(pPosition);
+            final int lastColumn = column(keyHigh);
+
+            double[] result = null;
+            int resultLen = 0;
+            for (int column = column(keyLow); column <= lastColumn; column++)
+            {
+                final int cell = cell(column, row);
+                for (int e = mCellStart[cell]; e < mCellStart[cell + 1]; e++)
+                {
+                    final int i = mCellEntries[e];
+                    final double key = mKeys[i];
+                    if (key > keyLow && key < keyHigh && pPosition > mLows[i] && pPosition < mHighs[i]
+                            && accept(pOwner, pSegment, mOwners[i], mSegments[i], pBehind))
+                    {
+                        if (result == null)
+                        {
+                            result = new double[5];
+                        }
+                        else if (resultLen >= result.length)
+                        {
+                            result = Arrays.copyOf(result, result.length + 5);
+                        }
+                        result[resultLen++] = key;
+                    }
+                }
+            }
+            return result == null || resultLen == result.length ? result : Arrays.copyOf(result, resultLen);
+        }
+
+        private int column(final double pKey)
+        {
+            return clampIndex((pKey - mMinKey) / mKeyCellSize, mColumns);
+        }
+
+        private int row(final double pSpanPosition)
+        {
+            return clampIndex((pSpanPosition - mMinSpan) / mSpanCellSize, mRows);
+        }
+
+        private int cell(final int pColumn, final int pRow)
+        {
+            return pRow * mColumns + pColumn;
+        }
+    }
+
+    private static int clampCellCount(final double pCount)
+    {
+        return (int) Math.max(1, Math.min(MAX_CELLS_PER_AXIS, Math.ceil(pCount)));
+    }
+
+    private static int clampIndex(final double pValue, final int pCount)
+    {
+        if (!(pValue > 0))
+        {
+            return 0;
+        }
+        return (int) Math.min(pCount - 1, pValue);
+    }
+}
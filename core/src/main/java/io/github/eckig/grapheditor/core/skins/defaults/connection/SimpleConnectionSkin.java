@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import io.github.eckig.grapheditor.DetailLevel;
 import io.github.eckig.grapheditor.GConnectionSkin;
 import io.github.eckig.grapheditor.GJointSkin;
 import io.github.eckig.grapheditor.core.connections.RectangularConnections;
@@ -21,6 +22,7 @@ import javafx.scene.Group;
 import javafx.scene.Node;
 import javafx.scene.shape.MoveTo;
 import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
 
 /**
  * A simple rectangular connection skin.
@@ -53,6 +55,10 @@ public class SimpleConnectionSkin extends GConnectionSkin {
 
     protected final List<ConnectionSegment> connectionSegments = new ArrayList<>();
 
+    // The start of the path and all path elements of the last draw, reused by the next one.
+    private final MoveTo moveTo = new MoveTo();
+    private final List<PathElement> pathElements = new ArrayList<>();
+
     private static final String STYLE_CLASS = "default-connection";
     private static final String STYLE_CLASS_BACKGROUND = "default-connection-background";
 
@@ -97,11 +103,9 @@ public class SimpleConnectionSkin extends GConnectionSkin {
     }
 
     @Override
-    public Point2D[] update()
+    protected void constrainCoordinates(final double[] coordinates)
     {
-        final Point2D[] points = super.update();
-        checkFirstAndLastJoints(points);
-        return points;
+        checkFirstAndLastJoints(coordinates);
     }
 
     @Override
@@ -110,12 +114,15 @@ public class SimpleConnectionSkin extends GConnectionSkin {
         super.draw(allPoints);
 
         // If we are showing detours, get all intersections with connections *behind* this one. Otherwise in front.
-        final double[][] intersections = IntersectionFinder.find(this, allPoints, checkShowDetours());
+        // Below full detail the gaps would only be a few pixels wide, so they are not drawn at all.
+        final double[][] intersections = getDetailLevel() == DetailLevel.FULL
+                ? IntersectionFinder.find(this, allPoints, checkShowDetours())
+                : null;
 
-        final Point2D[] points = allPoints == null ? null : allPoints.get(this);
-        if (points != null)
+        final double[] coordinates = ConnectionPoints.getCoordinates(allPoints, this);
+        if (coordinates != null)
         {
-            drawAllSegments(points, intersections);
+            drawAllSegments(coordinates, intersections);
         }
         else
         {
@@ -174,89 +181,142 @@ public class SimpleConnectionSkin extends GConnectionSkin {
     /**
      * Checks the position of the first and last joints and makes sure they are aligned with their adjacent connectors.
      *
-     * @param points all points that the connection should pass through (both connector and joint positions)
+     * @param coordinates all points that the connection should pass through (both connector and joint positions) as
+     *            flat coordinates
      */
-    private void checkFirstAndLastJoints(final Point2D[] points)
+    private void checkFirstAndLastJoints(final double[] coordinates)
     {
-        alignJoint(points, RectangularConnections.isSegmentHorizontal(getItem(), 0), true);
-        alignJoint(points, RectangularConnections.isSegmentHorizontal(getItem(), points.length - 2), false);
+        if (jointSkins == null || jointSkins.isEmpty())
+        {
+            return;
+        }
+        final int pointCount = coordinates.length / 2;
+        alignJoint(coordinates, RectangularConnections.isSegmentHorizontal(getItem(), 0), true);
+        alignJoint(coordinates, RectangularConnections.isSegmentHorizontal(getItem(), pointCount - 2), false);
     }
 
     /**
      * Aligns the first or last joint to have the same vertical or horizontal position as the start or end point.
      *
-     * @param points the list of points in this connection
+     * @param coordinates the flat coordinates of all points in this connection
      * @param vertical {@code true} to align in the vertical (y) direction, {@code false} for horizontal (x)
      * @param start {@code true} to align the first joint to the start, {@code false} for the last joint to the end
      */
-    private void alignJoint(final Point2D[] points, final boolean vertical, final boolean start)
+    private void alignJoint(final double[] coordinates, final boolean vertical, final boolean start)
     {
-        final int targetPositionIndex = start ? 0 : points.length - 1;
-        final int jointPositionIndex = start ? 1 : points.length - 2;
+        final int pointCount = coordinates.length / 2;
+        final int targetPositionIndex = start ? 0 : pointCount - 1;
+        final int jointPositionIndex = start ? 1 : pointCount - 2;
         final GJointSkin jointSkin = jointSkins.get(start ? 0 : jointSkins.size() - 1);
 
         if (vertical)
         {
-            final double newJointY = points[targetPositionIndex].getY();
+            final double newJointY = coordinates[2 * targetPositionIndex + 1];
             final double newJointLayoutY = GeometryUtils.moveOnPixel(newJointY - jointSkin.getHeight() / 2);
             jointSkin.getRoot().setLayoutY(newJointLayoutY);
 
-            final double currentX = points[jointPositionIndex].getX();
-            points[jointPositionIndex] = new Point2D(currentX, newJointY);
+            coordinates[2 * jointPositionIndex + 1] = newJointY;
         }
         else
         {
-            final double newJointX = points[targetPositionIndex].getX();
+            final double newJointX = coordinates[2 * targetPositionIndex];
             final double newJointLayoutX = GeometryUtils.moveOnPixel(newJointX - jointSkin.getWidth() / 2);
             jointSkin.getRoot().setLayoutX(newJointLayoutX);
 
-            final double currentY = points[jointPositionIndex].getY();
-            points[jointPositionIndex] = new Point2D(newJointX, currentY);
+            coordinates[2 * jointPositionIndex] = newJointX;
         }
     }
 
     /**
      * Draws all segments of the connection.
      *
-     * @param points all points that the connection should pass through (both connector and joint positions)
+     * <p>
+     * The segments and their path elements are reused from the previous draw, so the paths only change where the
+     * connection actually moved. Segments are only created or removed when the number of points changes.
+     * </p>
+     *
+     * @param coordinates all points that the connection should pass through (both connector and joint positions) as
+     *            flat coordinates
      * @param intersections all intersection-points of this connection with other connections
      */
-    private void drawAllSegments(final Point2D[] points, final double[][] intersections)
+    private void drawAllSegments(final double[] coordinates, final double[][] intersections)
     {
-        final double startX = points[0].getX();
-        final double startY = points[0].getY();
+        moveTo.setX(GeometryUtils.moveOffPixel(coordinates[0]));
+        moveTo.setY(GeometryUtils.moveOffPixel(coordinates[1]));
 
-        final MoveTo moveTo = new MoveTo(GeometryUtils.moveOffPixel(startX), GeometryUtils.moveOffPixel(startY));
+        final boolean showDetours = checkShowDetours();
+        if (!connectionSegments.isEmpty() && connectionSegments.get(0) instanceof DetouredConnectionSegment != showDetours)
+        {
+            connectionSegments.clear();
+        }
+
+        final int segmentCount = coordinates.length / 2 - 1;
+        if (connectionSegments.size() > segmentCount)
+        {
+            connectionSegments.subList(segmentCount, connectionSegments.size()).clear();
+        }
 
-        connectionSegments.clear();
-        path.getElements().clear();
-        path.getElements().add(moveTo);
+        pathElements.clear();
+        pathElements.add(moveTo);
 
-        for (int i = 0; i < points.length - 1; i++)
+        for (int i = 0; i < segmentCount; i++)
         {
-            final Point2D start = points[i];
-            final Point2D end = points[i + 1];
+            final double x0 = coordinates[2 * i];
+            final double y0 = coordinates[2 * i + 1];
+            final double x1 = coordinates[2 * i + 2];
+            final double y1 = coordinates[2 * i + 3];
 
             final double[] segmentIntersections = intersections != null ? intersections[i] : null;
             final ConnectionSegment segment;
 
-            if (checkShowDetours())
+            if (i < connectionSegments.size())
             {
-                segment = new DetouredConnectionSegment(start, end, segmentIntersections);
+                segment = connectionSegments.get(i);
+                segment.setCoordinates(x0, y0, x1, y1, segmentIntersections);
             }
             else
             {
-                segment = new GappedConnectionSegment(start, end, segmentIntersections);
+                if (showDetours)
+                {
+                    segment = new DetouredConnectionSegment(x0, y0, x1, y1, segmentIntersections);
+                }
+                else
+                {
+                    segment = new GappedConnectionSegment(x0, y0, x1, y1, segmentIntersections);
+                }
+                connectionSegments.add(segment);
             }
 
             segment.draw();
-
-            connectionSegments.add(segment);
-            path.getElements().addAll(segment.getPathElements());
+            pathElements.addAll(segment.getPathElements());
         }
 
-        backgroundPath.getElements().clear();
-        backgroundPath.getElements().addAll(path.getElements());
+        setElements(path, pathElements);
+        setElements(backgroundPath, pathElements);
+    }
+
+    /**
+     * Sets the elements of a path, without touching the path if it already consists of exactly these elements.
+     *
+     * @param target the {@link Path} to update
+     * @param elements the new elements of the path
+     */
+    private static void setElements(final Path target, final List<PathElement> elements)
+    {
+        final List<PathElement> current = target.getElements();
+        if (current.size() == elements.size())
+        {
+            boolean same = true;
+            for (int i = 0; i < elements.size() && same; i++)
+            {
+                same = current.get(i) == elements.get(i);
+            }
+            if (same)
+            {
+                return;
+            }
+        }
+        target.getElements().setAll(elements);
     }
 
     /**
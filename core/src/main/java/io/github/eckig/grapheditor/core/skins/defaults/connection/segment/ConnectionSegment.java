@@ -6,6 +6,7 @@ package io.github.eckig.grapheditor.core.skins.defaults.connection.segment;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Supplier;
 
 import io.github.eckig.grapheditor.utils.GeometryUtils;
 import javafx.geometry.Point2D;
@@ -21,22 +22,38 @@ import javafx.scene.shape.VLineTo;
  * A segment is a horizontal or vertical line either (a) between two joints, or
  * (b) between a connector and a joint.
  * </p>
+ *
+ * <p>
+ * A segment can be moved with
+ * {@link #setCoordinates(double, double, double, double, double[])} and drawn
+ * again. Its {@link #getPathElements() path elements} are rebuilt in order,
+ * reusing the element drawn at the same position during the previous draw if
+ * it has the same type. So new elements are only created when the shape of
+ * the segment changes. Subclasses may still append elements with
+ * {@code getPathElements().add(...)} while drawing, those elements keep
+ * their position between the reused ones.
+ * </p>
  */
 public abstract class ConnectionSegment
 {
 
     // True for horizontal segment, false for vertical segment.
-    protected final boolean horizontal;
+    protected boolean horizontal;
 
     // +1 if position coordinate is increasing, -1 if it is decreasing.
-    protected final int sign;
+    protected int sign;
 
     private static final int EDGE_OFFSET = 5;
 
     private final List<PathElement> pathElements = new ArrayList<>();
-    private final Point2D start;
-    private final Point2D end;
-    private final double[] intersections;
+
+    // The path elements of the previous draw, while drawing.
+    private final List<PathElement> previousElements = new ArrayList<>();
+    private double startX;
+    private double startY;
+    private double endX;
+    private double endY;
+    private double[] intersections;
 
     /**
      * Creates a new connection segment for the given start and end points.
@@ -50,21 +67,74 @@ public abstract class ConnectionSegment
      */
     public ConnectionSegment(final Point2D start, final Point2D end, final double[] intersections)
     {
-        this.start = start;
-        this.end = end;
+        this(start.getX(), start.getY(), end.getX(), end.getY(), intersections);
+    }
+
+    /**
+     * Creates a new connection segment for the given start and end
+     * coordinates.
+     *
+     * @param pStartX
+     *            the x coordinate where the segment starts
+     * @param pStartY
+     *            the y coordinate where the segment starts
+     * @param pEndX
+     *            the x coordinate where the segment ends
+     * @param pEndY
+     *            the y coordinate where the segment ends
+     * @param pIntersections
+     *            the intersection-points of this segment with other connections
+     * @since 16.10.2026
+     */
+    public ConnectionSegment(final double pStartX, final double pStartY, final double pEndX, final double pEndY,
+            final double[] pIntersections)
+    {
+        // not the overridable setCoordinates, subclasses are not initialized yet:
+        applyCoordinates(pStartX, pStartY, pEndX, pEndY, pIntersections);
+    }
+
+    /**
+     * Moves this segment to the given start and end coordinates. Takes effect
+     * with the next {@link #draw()}.
+     *
+     * @param pStartX
+     *            the x coordinate where the segment starts
+     * @param pStartY
+     *            the y coordinate where the segment starts
+     * @param pEndX
+     *            the x coordinate where the segment ends
+     * @param pEndY
+     *            the y coordinate where the segment ends
+     * @param pIntersections
+     *            the intersection-points of this segment with other connections
+     * @since 16.10.2026
+     */
+    public void setCoordinates(final double pStartX, final double pStartY, final double pEndX, final double pEndY,
+            final double[] pIntersections)
+    {
+        applyCoordinates(pStartX, pStartY, pEndX, pEndY, pIntersections);
+    }
+
+    private void applyCoordinates(final double pStartX, final double pStartY, final double pEndX, final double pEndY,
+            final double[] pIntersections)
+    {
+        startX = pStartX;
+        startY = pStartY;
+        endX = pEndX;
+        endY = pEndY;
 
-        horizontal = start.getY() == end.getY();
+        horizontal = pStartY == pEndY;
 
         if (horizontal)
         {
-            sign = start.getX() < end.getX() ? 1 : -1;
+            sign = pStartX < pEndX ? 1 : -1;
         }
         else
         {
-            sign = start.getY() < end.getY() ? 1 : -1;
+            sign = pStartY < pEndY ? 1 : -1;
         }
 
-        this.intersections = filterIntersections(intersections);
+        intersections = filterIntersections(pIntersections);
     }
 
     /**
@@ -78,6 +148,8 @@ public abstract class ConnectionSegment
      */
     public void draw()
     {
+        previousElements.addAll(pathElements);
+        pathElements.clear();
         if (intersections != null && intersections.length > 0)
         {
             drawToFirstIntersection(intersections[0]);
@@ -88,6 +160,7 @@ public abstract class ConnectionSegment
         {
             drawStraight();
         }
+        previousElements.clear();
     }
 
     /**
@@ -108,7 +181,7 @@ public abstract class ConnectionSegment
      */
     public Point2D getStart()
     {
-        return start;
+        return new Point2D(startX, startY);
     }
 
     /**
@@ -118,7 +191,43 @@ public abstract class ConnectionSegment
      */
     public Point2D getEnd()
     {
-        return end;
+        return new Point2D(endX, endY);
+    }
+
+    /**
+     * @return the x coordinate where this segment starts
+     * @since 16.10.2026
+     */
+    public double getStartX()
+    {
+        return startX;
+    }
+
+    /**
+     * @return the y coordinate where this segment starts
+     * @since 16.10.2026
+     */
+    public double getStartY()
+    {
+        return startY;
+    }
+
+    /**
+     * @return the x coordinate where this segment ends
+     * @since 16.10.2026
+     */
+    public double getEndX()
+    {
+        return endX;
+    }
+
+    /**
+     * @return the y coordinate where this segment ends
+     * @since 16.10.2026
+     */
+    public double getEndY()
+    {
+        return endY;
     }
 
     /**
@@ -162,7 +271,7 @@ public abstract class ConnectionSegment
      */
     protected void addHLineTo(final double x)
     {
-        pathElements.add(new HLineTo(GeometryUtils.moveOffPixel(x)));
+        addPathElement(HLineTo.class, HLineTo::new).setX(GeometryUtils.moveOffPixel(x));
     }
 
     /**
@@ -173,7 +282,28 @@ public abstract class ConnectionSegment
      */
     protected void addVLineTo(final double y)
     {
-        pathElements.add(new VLineTo(GeometryUtils.moveOffPixel(y)));
+        addPathElement(VLineTo.class, VLineTo::new).setY(GeometryUtils.moveOffPixel(y));
+    }
+
+    /**
+     * Appends the next path element of this segment during {@link #draw()}.
+     * The element drawn at the same position during the previous draw is
+     * reused if it has the given type.
+     *
+     * @param pType
+     *            the type of the path element
+     * @param pFactory
+     *            creates a new path element if none can be reused
+     * @return the path element to update with the new position
+     * @since 16.10.2026
+     */
+    protected <T extends PathElement> T addPathElement(final Class<T> pType, final Supplier<T> pFactory)
+    {
+        final int index = pathElements.size();
+        final PathElement previous = index < previousElements.size() ? previousElements.get(index) : null;
+        final T element = pType.isInstance(previous) ? pType.cast(previous) : pFactory.get();
+        pathElements.add(element);
+        return element;
     }
 
     /**
@@ -219,8 +349,8 @@ public abstract class ConnectionSegment
     private boolean isTooCloseToTheEdge(final double intersection)
     {
 
-        final double startCoordinate = horizontal ? start.getX() : start.getY();
-        final double endCoordinate = horizontal ? end.getX() : end.getY();
+        final double startCoordinate = horizontal ? startX : startY;
+        final double endCoordinate = horizontal ? endX : endY;
 
         final boolean tooCloseToStart = sign * (intersection - startCoordinate) < EDGE_OFFSET;
         final boolean tooCloseToEnd = sign * (endCoordinate - intersection) < EDGE_OFFSET;
@@ -249,11 +379,11 @@ public abstract class ConnectionSegment
     {
         if (horizontal)
         {
-            addHLineTo(end.getX());
+            addHLineTo(endX);
         }
         else
         {
-            addVLineTo(end.getY());
+            addVLineTo(endY);
         }
     }
 }
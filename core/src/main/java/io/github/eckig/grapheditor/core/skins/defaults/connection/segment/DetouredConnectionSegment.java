@@ -32,22 +32,38 @@ public class DetouredConnectionSegment extends ConnectionSegment {
         super(start, end, intersections);
     }
 
+    /**
+     * Creates a new {@link DetouredConnectionSegment} instance.
+     *
+     * @param startX the x coordinate where the segment starts
+     * @param startY the y coordinate where the segment starts
+     * @param endX the x coordinate where the segment ends
+     * @param endY the y coordinate where the segment ends
+     * @param intersections the intersection-points of this segment with other connections
+     * @since 16.10.2026
+     */
+    public DetouredConnectionSegment(final double startX, final double startY, final double endX, final double endY,
+            final double[] intersections)
+    {
+        super(startX, startY, endX, endY, intersections);
+    }
+
     @Override
     protected void drawToFirstIntersection(final double intersection) {
 
         if (horizontal) {
 
-            if (sign * (intersection - getStart().getX()) > DETOUR_RADIUS) {
+            if (sign * (intersection - getStartX()) > DETOUR_RADIUS) {
                 addHLineTo(intersection - sign * DETOUR_RADIUS);
             }
-            addArcTo(intersection, getStart().getY() - DETOUR_RADIUS);
+            addArcTo(intersection, getStartY() - DETOUR_RADIUS);
 
         } else {
 
-            if (sign * (intersection - getStart().getY()) > DETOUR_RADIUS) {
+            if (sign * (intersection - getStartY()) > DETOUR_RADIUS) {
                 addVLineTo(intersection - sign * DETOUR_RADIUS);
             }
-            addArcTo(getStart().getX() + DETOUR_RADIUS, intersection);
+            addArcTo(getStartX() + DETOUR_RADIUS, intersection);
         }
     }
 
@@ -59,9 +75,9 @@ public class DetouredConnectionSegment extends ConnectionSegment {
             if (sign * (intersection - lastIntersection) <= DETOUR_TOLERANCE) {
                 addHLineTo(intersection);
             } else {
-                addArcTo(lastIntersection + sign * DETOUR_RADIUS, getStart().getY());
+                addArcTo(lastIntersection + sign * DETOUR_RADIUS, getStartY());
                 addHLineTo(intersection - sign * DETOUR_RADIUS);
-                addArcTo(intersection, getStart().getY() - DETOUR_RADIUS);
+                addArcTo(intersection, getStartY() - DETOUR_RADIUS);
             }
 
         } else {
@@ -69,9 +85,9 @@ public class DetouredConnectionSegment extends ConnectionSegment {
             if (sign * (intersection - lastIntersection) <= DETOUR_TOLERANCE) {
                 addVLineTo(intersection);
             } else {
-                addArcTo(getStart().getX(), lastIntersection + sign * DETOUR_RADIUS);
+                addArcTo(getStartX(), lastIntersection + sign * DETOUR_RADIUS);
                 addVLineTo(intersection - sign * DETOUR_RADIUS);
-                addArcTo(getStart().getX() + DETOUR_RADIUS, intersection);
+                addArcTo(getStartX() + DETOUR_RADIUS, intersection);
             }
         }
     }
@@ -80,11 +96,11 @@ public class DetouredConnectionSegment extends ConnectionSegment {
     protected void drawFromLastIntersection(final double intersection) {
 
         if (horizontal) {
-            addArcTo(intersection + sign * DETOUR_RADIUS, getStart().getY());
-            addHLineTo(getEnd().getX());
+            addArcTo(intersection + sign * DETOUR_RADIUS, getStartY());
+            addHLineTo(getEndX());
         } else {
-            addArcTo(getStart().getX(), intersection + sign * DETOUR_RADIUS);
-            addVLineTo(getEnd().getY());
+            addArcTo(getStartX(), intersection + sign * DETOUR_RADIUS);
+            addVLineTo(getEndY());
         }
     }
 
@@ -96,14 +112,12 @@ public class DetouredConnectionSegment extends ConnectionSegment {
      */
     private void addArcTo(final double x, final double y) {
 
-        final ArcTo arcTo = new ArcTo();
+        final ArcTo arcTo = addPathElement(ArcTo.class, ArcTo::new);
 
         arcTo.setRadiusX(DETOUR_RADIUS);
         arcTo.setRadiusY(DETOUR_RADIUS);
         arcTo.setSweepFlag(sign > 0);
         arcTo.setX(GeometryUtils.moveOffPixel(x));
         arcTo.setY(GeometryUtils.moveOffPixel(y));
-
-        getPathElements().add(arcTo);
     }
 }
@@ -26,6 +26,22 @@ public class GappedConnectionSegment extends ConnectionSegment {
         super(start, end, intersections);
     }
 
+    /**
+     * Creates a new {@link GappedConnectionSegment} instance.
+     *
+     * @param startX the x coordinate where the segment starts
+     * @param startY the y coordinate where the segment starts
+     * @param endX the x coordinate where the segment ends
+     * @param endY the y coordinate where the segment ends
+     * @param intersections the intersection-points of this segment with other connections
+     * @since 16.10.2026
+     */
+    public GappedConnectionSegment(final double startX, final double startY, final double endX, final double endY,
+            final double[] intersections)
+    {
+        super(startX, startY, endX, endY, intersections);
+    }
+
     @Override
     protected void drawToFirstIntersection(final double intersection) {
 
@@ -60,9 +76,9 @@ public class GappedConnectionSegment extends ConnectionSegment {
     protected void drawFromLastIntersection(final double intersection) {
 
         if (horizontal) {
-            addHLineTo(getEnd().getX());
+            addHLineTo(getEndX());
         } else {
-            addVLineTo(getEnd().getY());
+            addVLineTo(getEndY());
         }
     }
 
@@ -72,7 +88,9 @@ public class GappedConnectionSegment extends ConnectionSegment {
      * @param x the x coordinate to move to
      */
     private void addHGapTo(final double x) {
-        getPathElements().add(new MoveTo(GeometryUtils.moveOffPixel(x), GeometryUtils.moveOffPixel(getStart().getY())));
+        final MoveTo moveTo = addPathElement(MoveTo.class, MoveTo::new);
+        moveTo.setX(GeometryUtils.moveOffPixel(x));
+        moveTo.setY(GeometryUtils.moveOffPixel(getStartY()));
     }
 
     /**
@@ -81,6 +99,8 @@ public class GappedConnectionSegment extends ConnectionSegment {
      * @param y the y coordinate to move to
      */
     private void addVGapTo(final double y) {
-        getPathElements().add(new MoveTo(GeometryUtils.moveOffPixel(getStart().getX()), GeometryUtils.moveOffPixel(y)));
+        final MoveTo moveTo = addPathElement(MoveTo.class, MoveTo::new);
+        moveTo.setX(GeometryUtils.moveOffPixel(getStartX()));
+        moveTo.setY(GeometryUtils.moveOffPixel(y));
     }
 }
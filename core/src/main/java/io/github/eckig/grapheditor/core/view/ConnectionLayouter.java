@@ -3,10 +3,9 @@
  */
 package io.github.eckig.grapheditor.core.view;
 
-import java.util.Collection;
-
 import io.github.eckig.grapheditor.model.GConnection;
 import io.github.eckig.grapheditor.model.GModel;
+import io.github.eckig.grapheditor.model.GNode;
 
 
 /**
@@ -27,4 +26,73 @@ public interface ConnectionLayouter
      * Draws all connections according to the latest layout values.
      */
     void draw();
+
+    /**
+     * Marks the given connection as changed, e.g. because one of its joints
+     * has been moved.
+     *
+     * <p>
+     * A layouter that only redraws changed connections will redraw it during
+     * the next {@link #draw()}.
+     * </p>
+     *
+     * @param pConnection
+     *            the changed {@link GConnection}
+     * @since 16.10.2026
+     */
+    void markDirty(final GConnection pConnection);
+
+    /**
+     * Marks all connections attached to the given node as changed, e.g.
+     * because the node has been moved or resized.
+     *
+     * @param pNode
+     *            the changed {@link GNode}
+     * @since 16.10.2026
+     */
+    void markDirty(final GNode pNode);
+
+    /**
+     * Marks all connections as changed, e.g. because connections have been
+     * added or removed.
+     *
+     * @since 16.10.2026
+     */
+    void markAllDirty();
+
+    /**
+     * Enables or disables collecting statistics during {@link #draw()}.
+     * Layouters that do not collect statistics may ignore this.
+     *
+     * @param pCollect
+     *            {@code true} to collect statistics
+     * @see #getDrawnConnectionCount()
+     * @see #getIntersectionNanos()
+     * @since 16.10.2026
+     */
+    default void setCollectStatistics(final boolean pCollect)
+    {
+        // no statistics by default
+    }
+
+    /**
+     * @return the number of connections drawn during the last {@link #draw()}
+     *         while collecting statistics, or {@code -1} if unknown
+     * @since 16.10.2026
+     */
+    default int getDrawnConnectionCount()
+    {
+        return -1;
+    }
+
+    /**
+     * @return the time in nanoseconds spent finding intersections between
+     *         connections during the last {@link #draw()} while collecting
+     *         statistics, or {@code 0} if unknown
+     * @since 16.10.2026
+     */
+    default long getIntersectionNanos()
+    {
+        return 0;
+    }
 }
@@ -3,15 +3,35 @@
  */
 package io.github.eckig.grapheditor.core.view;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.github.eckig.grapheditor.DetailLevel;
 import io.github.eckig.grapheditor.GConnectionSkin;
 import io.github.eckig.grapheditor.GJointSkin;
 import io.github.eckig.grapheditor.GNodeSkin;
+import io.github.eckig.grapheditor.GSkin;
 import io.github.eckig.grapheditor.GTailSkin;
 import io.github.eckig.grapheditor.VirtualSkin;
 import io.github.eckig.grapheditor.core.DefaultGraphEditor;
 import io.github.eckig.grapheditor.core.utils.SelectionBox;
+import io.github.eckig.grapheditor.core.view.impl.CanvasConnectionLayouter;
 import io.github.eckig.grapheditor.core.view.impl.GraphEditorGrid;
 import io.github.eckig.grapheditor.utils.GraphEditorProperties;
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.value.ChangeListener;
+import javafx.collections.MapChangeListener;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.Region;
 
@@ -36,6 +56,27 @@ import javafx.scene.layout.Region;
  * reposition them inside their layer. The layers always have the same
  * dimensions as the editor region itself.
  * </p>
+ *
+ * <p>
+ * When the custom property {@link #VIRTUALIZED_KEY} is set to {@code true},
+ * the view is <b>virtualized</b>: only skins whose bounds intersect the visible
+ * part of the view (plus {@link #VIRTUALIZATION_MARGIN}) are attached to their
+ * layer. Off-screen skins are detached and kept, so they take no part in CSS
+ * and layout passes but can be re-attached without being recreated. The skins
+ * themselves stay registered in the skin manager, so selection and commands
+ * work for off-screen elements as before. Re-attached skins return to the
+ * position in their layer they had before they were detached, so the stacking
+ * order does not depend on the scroll position.
+ * </p>
+ *
+ * <p>
+ * The view also determines the {@link DetailLevel} skins should be rendered
+ * with. When the zoom factor of the view drops below the value of the custom
+ * property {@link #DETAIL_LEVEL_REDUCED_ZOOM_KEY} the level is
+ * {@link DetailLevel#REDUCED}, below {@link #DETAIL_LEVEL_MINIMAL_ZOOM_KEY} it
+ * is {@link DetailLevel#MINIMAL}. Without these properties the level is always
+ * {@link DetailLevel#FULL}.
+ * </p>
  */
 public class GraphEditorView extends Region
 {
@@ -44,6 +85,41 @@ public class GraphEditorView extends Region
     private static final String STYLE_CLASS_NODE_LAYER = "graph-editor-node-layer";
     private static final String STYLE_CLASS_CONNECTION_LAYER = "graph-editor-connection-layer";
 
+    /**
+     * Custom property key to enable viewport virtualization of the skins
+     *
+     * @see GraphEditorProperties#getCustomProperties()
+     * @since 16.10.2026
+     */
+    public static final String VIRTUALIZED_KEY = "graph-editor-view-virtualized";
+
+    /**
+     * Margin around the visible area in which skins are kept attached while
+     * virtualized, so that small pans do not constantly attach and detach
+     * skins
+     *
+     * @since 16.10.2026
+     */
+    public static final double VIRTUALIZATION_MARGIN = 250;
+
+    /**
+     * Custom property key for the zoom factor below which skins are rendered
+     * with {@link DetailLevel#REDUCED}, e.g. {@code "0.75"}
+     *
+     * @see GraphEditorProperties#getCustomProperties()
+     * @since 16.10.2026
+     */
+    public static final String DETAIL_LEVEL_REDUCED_ZOOM_KEY = "graph-editor-view-detail-level-reduced-zoom";
+
+    /**
+     * Custom property key for the zoom factor below which skins are rendered
+     * with {@link DetailLevel#MINIMAL}, e.g. {@code "0.6"}
+     *
+     * @see GraphEditorProperties#getCustomProperties()
+     * @since 16.10.2026
+     */
+    public static final String DETAIL_LEVEL_MINIMAL_ZOOM_KEY = "graph-editor-view-detail-level-minimal-zoom";
+
     private final Pane mNodeLayer = new Pane();
 
     private final Pane mConnectionLayer = new Pane()
@@ -64,6 +140,32 @@ public class GraphEditorView extends Region
 
     private final GraphEditorProperties mEditorProperties;
 
+    private final Set<GNodeSkin> mNodeSkins = new LinkedHashSet<>();
+    private final Set<GConnectionSkin> mConnectionSkins = new LinkedHashSet<>();
+    private final Set<GJointSkin> mJointSkins = new LinkedHashSet<>();
+
+    /**
+     * The stacking order of all node roots and of all connection and joint
+     * roots, including the detached ones
+     */
+    private final List<Node> mNodeOrder = new ArrayList<>();
+    private final List<Node> mConnectionOrder = new ArrayList<>();
+    private boolean mHasDetachedSkins;
+    private boolean mVirtualized;
+    private Bounds mVisibleBounds;
+
+    private final ReadOnlyObjectWrapper<DetailLevel> mDetailLevel = new ReadOnlyObjectWrapper<>(this, "detailLevel",
+            DetailLevel.FULL);
+    private double mReducedDetailZoom;
+    private double mMinimalDetailZoom;
+    private boolean mDetailLevelTracked;
+
+    private final ChangeListener<Object> mZoomListener = (pObservable, pOldValue, pNewValue) -> updateDetailLevel();
+    private final ChangeListener<Object> mViewportListener = (pObservable, pOldValue, pNewValue) -> viewportChanged();
+    private final InvalidationListener mViewportInvalidationListener = pObservable -> viewportChanged();
+    private final ChangeListener<Parent> mParentListener = (pObservable, pOldValue, pNewValue) -> parentChanged(pOldValue,
+            pNewValue);
+
     /**
      * Creates a new {@link GraphEditorView} to which skin instances can be
      * added and removed.
@@ -83,7 +185,26 @@ public class GraphEditorView extends Region
         {
             mGrid.visibleProperty().bind(mEditorProperties.gridVisibleProperty());
             mGrid.gridSpacingProperty().bind(mEditorProperties.gridSpacingProperty());
+            mEditorProperties.getCustomProperties().addListener((MapChangeListener<String, String>) pChange ->
+            {
+                if (VIRTUALIZED_KEY.equals(pChange.getKey()))
+                {
+                    setVirtualized(Boolean.toString(true).equals(pChange.getMap().get(VIRTUALIZED_KEY)));
+                }
+                else if (DETAIL_LEVEL_REDUCED_ZOOM_KEY.equals(pChange.getKey())
+                        || DETAIL_LEVEL_MINIMAL_ZOOM_KEY.equals(pChange.getKey()))
+                {
+                    updateDetailLevelThresholds();
+                }
+            });
+            setVirtualized(Boolean.toString(true).equals(mEditorProperties.getCustomProperties().get(VIRTUALIZED_KEY)));
+            updateDetailLevelThresholds();
         }
+
+        // the grid and the virtualization follow the visible area:
+        localToParentTransformProperty().addListener(mViewportListener);
+        parentProperty().addListener(mParentListener);
+        parentChanged(null, getParent());
     }
 
     /**
@@ -94,7 +215,18 @@ public class GraphEditorView extends Region
      */
     public void setConnectionLayouter(final ConnectionLayouter pConnectionLayouter)
     {
+        if (mConnectionLayouter instanceof CanvasConnectionLayouter canvasLayouter)
+        {
+            getChildren().remove(canvasLayouter.getCanvasLayer());
+        }
+
         mConnectionLayouter = pConnectionLayouter;
+
+        if (pConnectionLayouter instanceof CanvasConnectionLayouter canvasLayouter)
+        {
+            // painted connections are behind the connection layer:
+            getChildren().add(getChildren().indexOf(mConnectionLayer), canvasLayouter.getCanvasLayer());
+        }
     }
 
     /**
@@ -104,6 +236,12 @@ public class GraphEditorView extends Region
     {
         mNodeLayer.getChildren().clear();
         mConnectionLayer.getChildren().clear();
+        mNodeSkins.clear();
+        mConnectionSkins.clear();
+        mJointSkins.clear();
+        mNodeOrder.clear();
+        mConnectionOrder.clear();
+        mHasDetachedSkins = false;
     }
 
     /**
@@ -114,9 +252,10 @@ public class GraphEditorView extends Region
      */
     public void add(final GNodeSkin pNodeSkin)
     {
-        if (pNodeSkin != null && !(pNodeSkin instanceof VirtualSkin))
+        if (pNodeSkin != null && !(pNodeSkin instanceof VirtualSkin) && mNodeSkins.add(pNodeSkin))
         {
-            mNodeLayer.getChildren().add(pNodeSkin.getRoot());
+            mNodeOrder.add(pNodeSkin.getRoot());
+            attachIfVisible(pNodeSkin);
         }
     }
 
@@ -128,9 +267,10 @@ public class GraphEditorView extends Region
      */
     public void add(final GConnectionSkin pConnectionSkin)
     {
-        if (pConnectionSkin != null && !(pConnectionSkin instanceof VirtualSkin))
+        if (pConnectionSkin != null && !(pConnectionSkin instanceof VirtualSkin) && mConnectionSkins.add(pConnectionSkin))
         {
-            mConnectionLayer.getChildren().add(0, pConnectionSkin.getRoot());
+            mConnectionOrder.add(0, pConnectionSkin.getRoot());
+            attachIfVisible(pConnectionSkin);
         }
     }
 
@@ -142,9 +282,10 @@ public class GraphEditorView extends Region
      */
     public void add(final GJointSkin pJointSkin)
     {
-        if (pJointSkin != null && !(pJointSkin instanceof VirtualSkin))
+        if (pJointSkin != null && !(pJointSkin instanceof VirtualSkin) && mJointSkins.add(pJointSkin))
         {
-            mConnectionLayer.getChildren().add(pJointSkin.getRoot());
+            mConnectionOrder.add(pJointSkin.getRoot());
+            attachIfVisible(pJointSkin);
         }
     }
 
@@ -172,9 +313,10 @@ public class GraphEditorView extends Region
      */
     public void remove(final GNodeSkin pNodeSkin)
     {
-        if (pNodeSkin != null && !(pNodeSkin instanceof VirtualSkin))
+        if (pNodeSkin != null && !(pNodeSkin instanceof VirtualSkin) && mNodeSkins.remove(pNodeSkin))
         {
-            mNodeLayer.getChildren().remove(pNodeSkin.getRoot());
+            mNodeOrder.remove(pNodeSkin.getRoot());
+            detach(pNodeSkin);
         }
     }
 
@@ -187,9 +329,10 @@ public class GraphEditorView extends Region
      */
     public void remove(final GConnectionSkin pConnectionSkin)
     {
-        if (pConnectionSkin != null && !(pConnectionSkin instanceof VirtualSkin))
+        if (pConnectionSkin != null && !(pConnectionSkin instanceof VirtualSkin) && mConnectionSkins.remove(pConnectionSkin))
         {
-            mConnectionLayer.getChildren().remove(pConnectionSkin.getRoot());
+            mConnectionOrder.remove(pConnectionSkin.getRoot());
+            detach(pConnectionSkin);
         }
     }
 
@@ -202,9 +345,10 @@ public class GraphEditorView extends Region
      */
     public void remove(final GJointSkin pJointSkin)
     {
-        if (pJointSkin != null && !(pJointSkin instanceof VirtualSkin))
+        if (pJointSkin != null && !(pJointSkin instanceof VirtualSkin) && mJointSkins.remove(pJointSkin))
         {
-            mConnectionLayer.getChildren().remove(pJointSkin.getRoot());
+            mConnectionOrder.remove(pJointSkin.getRoot());
+            detach(pJointSkin);
         }
     }
 
@@ -267,7 +411,383 @@ public class GraphEditorView extends Region
         mNodeLayer.resizeRelocate(0, 0, width, height);
         mConnectionLayer.resizeRelocate(0, 0, width, height);
         mGrid.resizeRelocate(0, 0, width, height);
+        if (mConnectionLayouter instanceof CanvasConnectionLayouter canvasLayouter)
+        {
+            canvasLayouter.getCanvasLayer().resizeRelocate(0, 0, width, height);
+        }
         drawConnections();
+        if (mVirtualized)
+        {
+            // skins might have been moved or connections redrawn:
+            mVisibleBounds = null;
+            updateVisibleSkins();
+        }
+    }
+
+    /**
+     * The level of detail skins should currently be rendered with, depending
+     * on the zoom factor of the view.
+     *
+     * @return the read-only detail level property
+     * @since 16.10.2026
+     */
+    public ReadOnlyObjectProperty<DetailLevel> detailLevelProperty()
+    {
+        return mDetailLevel.getReadOnlyProperty();
+    }
+
+    /**
+     * @return the {@link DetailLevel} skins should currently be rendered with
+     * @since 16.10.2026
+     */
+    public DetailLevel getDetailLevel()
+    {
+        return mDetailLevel.get();
+    }
+
+    /**
+     * Requests an update of the attached skins on the next layout pass if the
+     * view is virtualized. Should be called when skins might have moved
+     * without the view being laid out, for example a detached skin that was
+     * moved by a command.
+     *
+     * @since 16.10.2026
+     */
+    public void requestVisibleSkinsUpdate()
+    {
+        if (mVirtualized)
+        {
+            requestLayout();
+        }
+    }
+
+    /**
+     * Attaches the skins that are (now) visible and detaches those that are
+     * not. Does nothing unless the view is virtualized or skins are still
+     * detached from a previous virtualized state.
+     */
+    private void updateVisibleSkins()
+    {
+        final Bounds visible;
+        if (!mVirtualized)
+        {
+            if (!mHasDetachedSkins)
+            {
+                return;
+            }
+            mHasDetachedSkins = false;
+            visible = null;
+        }
+        else
+        {
+            visible = computeVisibleBounds();
+            if (visible != null && visible.equals(mVisibleBounds))
+            {
+                return;
+            }
+            mVisibleBounds = visible;
+        }
+
+        final Set<Node> nodesToAttach = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Set<Node> connectionsToAttach = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (final GNodeSkin skin : mNodeSkins)
+        {
+            updateAttached(skin, visible, nodesToAttach);
+        }
+        for (final GConnectionSkin skin : mConnectionSkins)
+        {
+            updateAttached(skin, visible, connectionsToAttach);
+        }
+        for (final GJointSkin skin : mJointSkins)
+        {
+            updateAttached(skin, visible, connectionsToAttach);
+        }
+        attachInOrder(mNodeLayer, mNodeOrder, nodesToAttach, mNodeLayer.getChildren().size());
+        attachInOrder(mConnectionLayer, mConnectionOrder, connectionsToAttach, 0);
+    }
+
+    /**
+     * Detaches the given skin if it is not visible, otherwise adds its root to
+     * the given set if it has to be attached.
+     */
+    private void updateAttached(final GSkin<?> pSkin, final Bounds pVisible, final Set<Node> pToAttach)
+    {
+        if (isVisible(pSkin, pVisible))
+        {
+            if (pSkin.getRoot().getParent() == null)
+            {
+                pToAttach.add(pSkin.getRoot());
+            }
+        }
+        else
+        {
+            detach(pSkin);
+            mHasDetachedSkins = true;
+        }
+    }
+
+    /**
+     * Attaches the given roots to the layer at their position in the stacking
+     * order, each one directly in front of the attached root that precedes it.
+     *
+     * @param pLayer
+     *            the layer to attach to
+     * @param pOrder
+     *            the stacking order of all roots of the layer
+     * @param pToAttach
+     *            the detached roots to attach
+     * @param pDefaultIndex
+     *            the index to attach at if no root of the layer is attached
+     */
+    private static void attachInOrder(final Pane pLayer, final List<Node> pOrder, final Set<Node> pToAttach,
+            final int pDefaultIndex)
+    {
+        if (pToAttach.isEmpty())
+        {
+            return;
+        }
+
+        final List<Node> children = pLayer.getChildren();
+        final Map<Node, Integer> childIndices = new IdentityHashMap<>(children.size());
+        for (int i = 0; i < children.size(); i++)
+        {
+            childIndices.put(children.get(i), i);
+        }
+        syncOrder(pLayer, pOrder, childIndices);
+
+        // roots that precede all attached ones go directly behind the first of them:
+        int insertAt = pDefaultIndex;
+        for (final Node root : pOrder)
+        {
+            if (root.getParent() == pLayer)
+            {
+                insertAt = childIndices.get(root);
+                break;
+            }
+        }
+
+        final List<Node> roots = new ArrayList<>(pToAttach.size());
+        final int[] indices = new int[pToAttach.size()];
+        for (final Node root : pOrder)
+        {
+            if (root.getParent() == pLayer)
+            {
+                insertAt = childIndices.get(root) + 1;
+            }
+            else if (pToAttach.contains(root))
+            {
+                indices[roots.size()] = insertAt;
+                roots.add(root);
+            }
+        }
+
+        // insert from the back, so the indices in front stay valid:
+        for (int i = roots.size() - 1; i >= 0; i--)
+        {
+            children.add(indices[i], roots.get(i));
+        }
+    }
+
+    /**
+     * Takes the relative order of the attached roots from the layer, e.g.
+     * after a skin was moved to the front, while the detached roots keep their
+     * positions in between.
+     */
+    private static void syncOrder(final Pane pLayer, final List<Node> pOrder, final Map<Node, Integer> pChildIndices)
+    {
+        final Set<Node> ordered = Collections.newSetFromMap(new IdentityHashMap<>(pOrder.size()));
+        ordered.addAll(pOrder);
+
+        final List<Node> children = pLayer.getChildren();
+        int next = 0;
+        for (int i = 0; i < pOrder.size(); i++)
+        {
+            if (pOrder.get(i).getParent() == pLayer)
+            {
+                while (!ordered.contains(children.get(next)))
+                {
+                    next++;
+                }
+                pOrder.set(i, children.get(next++));
+            }
+        }
+    }
+
+    private void attachIfVisible(final GSkin<?> pSkin)
+    {
+        if (!mVirtualized || isVisible(pSkin, computeVisibleBounds()))
+        {
+            attach(pSkin);
+        }
+        else
+        {
+            mHasDetachedSkins = true;
+        }
+    }
+
+    private void attach(final GSkin<?> pSkin)
+    {
+        final Node root = pSkin.getRoot();
+        if (root.getParent() != null)
+        {
+            return;
+        }
+
+        if (pSkin instanceof GNodeSkin)
+        {
+            mNodeLayer.getChildren().add(root);
+        }
+        else if (pSkin instanceof GConnectionSkin)
+        {
+            // connections are always behind joints and tails:
+            mConnectionLayer.getChildren().add(0, root);
+        }
+        else
+        {
+            mConnectionLayer.getChildren().add(root);
+        }
+    }
+
+    private void detach(final GSkin<?> pSkin)
+    {
+        final Node root = pSkin.getRoot();
+        if (root.getParent() == mNodeLayer)
+        {
+            mNodeLayer.getChildren().remove(root);
+        }
+        else if (root.getParent() == mConnectionLayer)
+        {
+            mConnectionLayer.getChildren().remove(root);
+        }
+    }
+
+    private static boolean isVisible(final GSkin<?> pSkin, final Bounds pVisible)
+    {
+        if (pVisible == null)
+        {
+            return true;
+        }
+        final Bounds bounds = pSkin.getRoot().getBoundsInParent();
+        // not yet drawn, decide on the next update:
+        return bounds.isEmpty() || bounds.intersects(pVisible);
+    }
+
+    private void viewportChanged()
+    {
+        mGrid.setViewport(computeViewport());
+        updateVisibleSkins();
+    }
+
+    /**
+     * @return the visible part of the view in local coordinates or
+     *         {@code null} if the view has no parent that limits the visible
+     *         area
+     */
+    private Bounds computeViewport()
+    {
+        final Parent parent = getParent();
+        return parent == null ? null : parentToLocal(parent.getLayoutBounds());
+    }
+
+    /**
+     * @return the visible part of the view in local coordinates, including
+     *         the {@link #VIRTUALIZATION_MARGIN}, or {@code null} if the view
+     *         has no parent that limits the visible area
+     */
+    private Bounds computeVisibleBounds()
+    {
+        final Bounds visible = computeViewport();
+        if (visible == null)
+        {
+            return null;
+        }
+        return new BoundingBox(visible.getMinX() - VIRTUALIZATION_MARGIN,
+                visible.getMinY() - VIRTUALIZATION_MARGIN, visible.getWidth() + 2 * VIRTUALIZATION_MARGIN,
+                visible.getHeight() + 2 * VIRTUALIZATION_MARGIN);
+    }
+
+    private void setVirtualized(final boolean pVirtualized)
+    {
+        if (mVirtualized == pVirtualized)
+        {
+            return;
+        }
+        mVirtualized = pVirtualized;
+        mVisibleBounds = null;
+        updateVisibleSkins();
+    }
+
+    private void updateDetailLevelThresholds()
+    {
+        mReducedDetailZoom = parseZoom(mEditorProperties.getCustomProperties().get(DETAIL_LEVEL_REDUCED_ZOOM_KEY));
+        mMinimalDetailZoom = parseZoom(mEditorProperties.getCustomProperties().get(DETAIL_LEVEL_MINIMAL_ZOOM_KEY));
+
+        final boolean track = mReducedDetailZoom > 0 || mMinimalDetailZoom > 0;
+        if (track != mDetailLevelTracked)
+        {
+            mDetailLevelTracked = track;
+            if (track)
+            {
+                localToParentTransformProperty().addListener(mZoomListener);
+            }
+            else
+            {
+                localToParentTransformProperty().removeListener(mZoomListener);
+            }
+        }
+        updateDetailLevel();
+    }
+
+    private void updateDetailLevel()
+    {
+        if (!mDetailLevelTracked)
+        {
+            mDetailLevel.set(DetailLevel.FULL);
+            return;
+        }
+
+        final double zoom = getLocalToParentTransform().getMxx();
+        if (zoom < mMinimalDetailZoom)
+        {
+            mDetailLevel.set(DetailLevel.MINIMAL);
+        }
+        else if (zoom < mReducedDetailZoom)
+        {
+            mDetailLevel.set(DetailLevel.REDUCED);
+        }
+        else
+        {
+            mDetailLevel.set(DetailLevel.FULL);
+        }
+    }
+
+    private static double parseZoom(final String pValue)
+    {
+        if (pValue == null)
+        {
+            return 0;
+        }
+        try
+        {
+            return Double.parseDouble(pValue);
+        }
+        catch (final NumberFormatException e)
+        {
+            return 0;
+        }
+    }
+
+    private void parentChanged(final Parent pOldParent, final Parent pNewParent)
+    {
+        if (pOldParent != null)
+        {
+            pOldParent.layoutBoundsProperty().removeListener(mViewportInvalidationListener);
+        }
+        if (pNewParent != null)
+        {
+            pNewParent.layoutBoundsProperty().addListener(mViewportInvalidationListener);
+        }
+        viewportChanged();
     }
 
     /**
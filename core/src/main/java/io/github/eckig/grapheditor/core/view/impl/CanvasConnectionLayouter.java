@@ -0,0 +1,460 @@
+package io.github.eckig.grapheditor.core.view.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import io.github.eckig.grapheditor.GConnectionSkin;
+import io.github.eckig.grapheditor.GJointSkin;
+import io.github.eckig.grapheditor.SkinLookup;
+import io.github.eckig.grapheditor.core.DefaultGraphEditor;
+import io.github.eckig.grapheditor.core.skins.defaults.connection.ConnectionPoints;
+import io.github.eckig.grapheditor.model.GJoint;
+import io.github.eckig.grapheditor.utils.GeometryUtils;
+import io.github.eckig.grapheditor.utils.GraphEditorProperties;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.event.EventHandler;
+import javafx.geometry.Point2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+
+/**
+ * A {@link DefaultConnectionLayouter} that paints connections into a few
+ * tiled {@link Canvas} instances instead of keeping a live path per
+ * connection in the scene graph.
+ *
+ * <p>
+ * Only connections that are hovered, selected or being edited (i.e. one of
+ * their joints is selected) are <b>promoted</b>: their skin is visible and
+ * drawn as usual. All other connection skins are hidden and their points are
+ * painted as plain polylines (without intersection effects) into the canvas
+ * tile(s) they cross. Hovering is detected geometrically, by checking the
+ * distance of the cursor to the painted segments of the tile below it.
+ * </p>
+ *
+ * <p>
+ * To use this layouter, add {@link #CANVAS_KEY} with the value "true" to the
+ * custom properties passed to the {@link DefaultGraphEditor} constructor.
+ * </p>
+ */
+public class CanvasConnectionLayouter extends DefaultConnectionLayouter
+{
+
+    /**
+     * Property key to paint connections into canvas tiles.
+     *
+     * <p>
+     * Only evaluated when the graph editor is created.
+     * </p>
+     */
+    public static final String CANVAS_KEY = "canvas-connection-layouter";
+
+    private static final String STYLE_CLASS = "graph-editor-connection-canvas-layer";
+
+    private static final double TILE_SIZE = 1024;
+    private static final double HIT_TOLERANCE = 4;
+
+    private final SkinLookup mSkinLookup;
+    private final Pane mLayer = new Pane();
+    private final Map<Long, Tile> mTiles = new HashMap<>();
+
+    /**
+     * Bounds (minX, minY, maxX, maxY) of the last drawn points of every
+     * connection
+     */
+    private final Map<GConnectionSkin, double[]> mBounds = new IdentityHashMap<>();
+    private final Set<GConnectionSkin> mObservedSkins = Collections.newSetFromMap(new WeakHashMap<>());
+    private Map<GConnectionSkin, Point2D[]> mAllPoints = Collections.emptyMap();
+
+    private GConnectionSkin mHovered;
+    private Paint mStroke = Color.DARKSLATEGREY;
+    private double mLineWidth = 1;
+
+    private final ChangeListener<Boolean> mSelectionListener = (pObservable, pOldValue, pNewValue) ->
+    {
+        if (pObservable instanceof ReadOnlyProperty<?> property && property.getBean() instanceof GConnectionSkin skin)
+        {
+            promotionChanged(skin);
+        }
+    };
+    private final EventHandler<MouseEvent> mHoverExitHandler = event -> setHovered(null);
+
+    /**
+     * Creates a new {@link CanvasConnectionLayouter} instance. Only one
+     * instance should exist per {@link DefaultGraphEditor} instance.
+     *
+     * @param pSkinLookup
+     *            the {@link SkinLookup} used to look up skins
+     * @param pProperties
+     *            the {@link GraphEditorProperties} (may be {@code null})
+     */
+    public CanvasConnectionLayouter(final SkinLookup pSkinLookup, final GraphEditorProperties pProperties)
+    {
+        super(pSkinLookup, pProperties);
+        mSkinLookup = pSkinLookup;
+
+        mLayer.getStyleClass().add(STYLE_CLASS);
+        mLayer.addEventHandler(MouseEvent.MOUSE_MOVED, event -> setHovered(hitTest(event.getX(), event.getY())));
+        mLayer.addEventHandler(MouseEvent.MOUSE_EXITED, event -> setHovered(null));
+    }
+
+    /**
+     * Gets the layer containing the canvas tiles. It is added behind the
+     * connection layer of the view and must always have the size of the view.
+     *
+     * @return the canvas layer
+     */
+    public Pane getCanvasLayer()
+    {
+        return mLayer;
+    }
+
+    /**
+     * Sets the paint used to stroke the painted connections.
+     *
+     * @param pStroke
+     *            the stroke {@link Paint}
+     */
+    public void setStroke(final Paint pStroke)
+    {
+        mStroke = pStroke;
+        markAllDirty();
+    }
+
+    /**
+     * Sets the line width used to stroke the painted connections.
+     *
+     * @param pLineWidth
+     *            the line width
+     */
+    public void setLineWidth(final double pLineWidth)
+    {
+        mLineWidth = pLineWidth;
+        markAllDirty();
+    }
+
+    @Override
+    protected void drawConnection(final GConnectionSkin pSkin, final Map<GConnectionSkin, Point2D[]> pAllPoints)
+    {
+        if (mObservedSkins.add(pSkin))
+        {
+            pSkin.selectedProperty().addListener(mSelectionListener);
+        }
+
+        final boolean promoted = isPromoted(pSkin);
+        if (pSkin.getRoot() != null)
+        {
+            pSkin.getRoot().setVisible(promoted);
+        }
+        if (promoted)
+        {
+            super.drawConnection(pSkin, pAllPoints);
+        }
+    }
+
+    @Override
+    protected void drawingFinished(final Map<GConnectionSkin, Point2D[]> pAllPoints,
+            final Collection<GConnectionSkin> pDrawn, final boolean pAll)
+    {
+        mAllPoints = pAllPoints;
+
+        final Set<Long> dirtyTiles = new HashSet<>();
+        if (pAll)
+        {
+            dirtyTiles.addAll(mTiles.keySet());
+            mBounds.clear();
+            for (final GConnectionSkin skin : pAllPoints.keySet())
+            {
+                final double[] bounds = computeBounds(ConnectionPoints.getCoordinates(pAllPoints, skin));
+                mBounds.put(skin, bounds);
+                addTiles(dirtyTiles, bounds);
+            }
+            if (mHovered != null && !pAllPoints.containsKey(mHovered))
+            {
+                setHovered(null);
+            }
+        }
+        else
+        {
+            for (final GConnectionSkin skin : pDrawn)
+            {
+                addTiles(dirtyTiles, mBounds.get(skin));
+                final double[] bounds = computeBounds(ConnectionPoints.getCoordinates(pAllPoints, skin));
+                mBounds.put(skin, bounds);
+                addTiles(dirtyTiles, bounds);
+            }
+        }
+
+        repaint(dirtyTiles);
+    }
+
+    private boolean isPromoted(final GConnectionSkin pSkin)
+    {
+        if (pSkin == mHovered || pSkin.isSelected())
+        {
+            return true;
+        }
+        for (final GJoint joint : pSkin.getItem().getJoints())
+        {
+            final GJointSkin jointSkin = mSkinLookup.lookupJoint(joint);
+            if (jointSkin != null && jointSkin.isSelected())
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void setHovered(final GConnectionSkin pSkin)
+    {
+        final GConnectionSkin previous = mHovered;
+        if (previous == pSkin)
+        {
+            return;
+        }
+
+        mHovered = pSkin;
+        if (previous != null)
+        {
+            previous.getRoot().removeEventHandler(MouseEvent.MOUSE_EXITED, mHoverExitHandler);
+            promotionChanged(previous);
+        }
+        if (pSkin != null)
+        {
+            pSkin.getRoot().addEventHandler(MouseEvent.MOUSE_EXITED, mHoverExitHandler);
+            promotionChanged(pSkin);
+        }
+    }
+
+    /**
+     * Redraws the given connection during the next layout pass of the view, so
+     * many selection changes at once lead to only one pass.
+     */
+    private void promotionChanged(final GConnectionSkin pSkin)
+    {
+        markDirty(pSkin.getItem());
+        mLayer.requestLayout();
+    }
+
+    /**
+     * @return the painted connection closest to the given position within the
+     *         {@link #HIT_TOLERANCE}, or {@code null}
+     */
+    private GConnectionSkin hitTest(final double pX, final double pY)
+    {
+        final Tile tile = mTiles.get(tileKey(tileIndex(pX), tileIndex(pY)));
+        if (tile == null)
+        {
+            return null;
+        }
+
+        GConnectionSkin closest = null;
+        double closestDistance = HIT_TOLERANCE * HIT_TOLERANCE;
+        for (final GConnectionSkin skin : tile.mContent)
+        {
+            final double[] coordinates = ConnectionPoints.getCoordinates(mAllPoints, skin);
+            if (coordinates == null)
+            {
+                continue;
+            }
+            for (int i = 0; i + 3 < coordinates.length; i += 2)
+            {
+                final double distance = squaredDistance(pX, pY, coordinates[i], coordinates[i + 1], coordinates[i + 2],
+                        coordinates[i + 3]);
+                if (distance <= closestDistance)
+                {
+                    closestDistance = distance;
+                    closest = skin;
+                }
+            }
+        }
+        return closest;
+    }
+
+    private void repaint(final Set<Long> pTileKeys)
+    {
+        if (pTileKeys.isEmpty())
+        {
+            return;
+        }
+
+        final Map<Long, List<GConnectionSkin>> content = new HashMap<>();
+        for (final Map.Entry<GConnectionSkin, double[]> entry : mBounds.entrySet())
+        {
+            final double[] bounds = entry.getValue();
+            if (bounds == null || isPromoted(entry.getKey()))
+            {
+                continue;
+            }
+            for (int x = tileIndex(bounds[0]); x <= tileIndex(bounds[2]); x++)
+            {
+                for (int y = tileIndex(bounds[1]); y <= tileIndex(bounds[3]); y++)
+                {
+                    final Long key = tileKey(x, y);
+                    if (pTileKeys.contains(key))
+                    {
+                        content.computeIfAbsent(key, k -> new ArrayList<>()).add(entry.getKey());
+                    }
+                }
+            }
+        }
+
+        for (final Long key : pTileKeys)
+        {
+            final List<GConnectionSkin> tileContent = content.get(key);
+            if (tileContent == null)
+            {
+                final Tile removed = mTiles.remove(key);
+                if (removed != null)
+                {
+                    mLayer.getChildren().remove(removed.mCanvas);
+                }
+                continue;
+            }
+
+            final Tile tile = mTiles.computeIfAbsent(key, this::createTile);
+            tile.mContent = tileContent;
+            paint(tile);
+        }
+    }
+
+    private Tile createTile(final Long pKey)
+    {
+        final Tile tile = new Tile((int) (pKey >> 32), (int) pKey.longValue());
+        tile.mCanvas.setManaged(false);
+        tile.mCanvas.setLayoutX(tile.mX * TILE_SIZE);
+        tile.mCanvas.setLayoutY(tile.mY * TILE_SIZE);
+        mLayer.getChildren().add(tile.mCanvas);
+        return tile;
+    }
+
+    private void paint(final Tile pTile)
+    {
+        final GraphicsContext gc = pTile.mCanvas.getGraphicsContext2D();
+        final double offsetX = pTile.mX * TILE_SIZE;
+        final double offsetY = pTile.mY * TILE_SIZE;
+
+        gc.clearRect(0, 0, TILE_SIZE, TILE_SIZE);
+        gc.setStroke(mStroke);
+        gc.setLineWidth(mLineWidth);
+        gc.beginPath();
+        for (final GConnectionSkin skin : pTile.mContent)
+        {
+            final double[] coordinates = ConnectionPoints.getCoordinates(mAllPoints, skin);
+            if (coordinates == null || coordinates.length < 4)
+            {
+                continue;
+            }
+            gc.moveTo(GeometryUtils.moveOffPixel(coordinates[0]) - offsetX,
+                    GeometryUtils.moveOffPixel(coordinates[1]) - offsetY);
+            for (int i = 2; i + 1 < coordinates.length; i += 2)
+            {
+                gc.lineTo(GeometryUtils.moveOffPixel(coordinates[i]) - offsetX,
+                        GeometryUtils.moveOffPixel(coordinates[i + 1]) - offsetY);
+            }
+        }
+        gc.stroke();
+    }
+
+    private static void addTiles(final Set<Long> pTarget, final double[] pBounds)
+    {
+        if (pBounds == null)
+        {
+            return;
+        }
+        for (int x = tileIndex(pBounds[0]); x <= tileIndex(pBounds[2]); x++)
+        {
+            for (int y = tileIndex(pBounds[1]); y <= tileIndex(pBounds[3]); y++)
+            {
+                pTarget.add(tileKey(x, y));
+            }
+        }
+    }
+
+    private static double[] computeBounds(final double[] pCoordinates)
+    {
+        if (pCoordinates == null || pCoordinates.length < 2)
+        {
+            return null;
+        }
+        final double[] bounds = { Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+                Double.NEGATIVE_INFINITY };
+        for (int i = 0; i + 1 < pCoordinates.length; i += 2)
+        {
+            if (!Double.isNaN(pCoordinates[i]) && !Double.isNaN(pCoordinates[i + 1]))
+            {
+                bounds[0] = Math.min(bounds[0], pCoordinates[i]);
+                bounds[1] = Math.min(bounds[1], pCoordinates[i + 1]);
+                bounds[2] = Math.max(bounds[2], pCoordinates[i]);
+                bounds[3] = Math.max(bounds[3], pCoordinates[i + 1]);
+            }
+        }
+        if (bounds[0] > bounds[2])
+        {
+            return null;
+        }
+        // include the stroke and the hit tolerance:
+        bounds[0] -= HIT_TOLERANCE;
+        bounds[1] -= HIT_TOLERANCE;
+        bounds[2] += HIT_TOLERANCE;
+        bounds[3] += HIT_TOLERANCE;
+        return bounds;
+    }
+
+    private static double squaredDistance(final double pX, final double pY, final double pStartX,
+            final double pStartY, final double pEndX, final double pEndY)
+    {
+        final double dx = pEndX - pStartX;
+        final double dy = pEndY - pStartY;
+        final double lengthSquared = dx * dx + dy * dy;
+        double t = 0;
+        if (lengthSquared > 0)
+        {
+            t = Math.max(0, Math.min(1, ((pX - pStartX) * dx + (pY - pStartY) * dy) / lengthSquared));
+        }
+        final double nearestX = pStartX + t * dx - pX;
+        final double nearestY = pStartY + t * dy - pY;
+        return nearestX * nearestX + nearestY * nearestY;
+    }
+
+    private static int tileIndex(final double pPosition)
+    {
+        return (int) Math.floor(pPosition / TILE_SIZE);
+    }
+
+    private static long tileKey(final int pX, final int pY)
+    {
+        return ((long) pX << 32) | (pY & 0xFFFFFFFFL);
+    }
+
+    /**
+     * A single canvas tile and the connections painted into it.
+     */
+    private static final class Tile
+    {
+
+        private final int mX;
+        private final int mY;
+        private final Canvas mCanvas = new Canvas(TILE_SIZE, TILE_SIZE);
+        private List<GConnectionSkin> mContent = Collections.emptyList();
+
+        private Tile(final int pX, final int pY)
+        {
+            mX = pX;
+            mY = pY;
+        }
+    }
+}
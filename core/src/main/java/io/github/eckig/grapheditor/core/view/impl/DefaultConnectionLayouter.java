@@ -1,32 +1,71 @@
 package io.github.eckig.grapheditor.core.view.impl;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import io.github.eckig.grapheditor.GConnectionSkin;
+import io.github.eckig.grapheditor.GraphEditor;
 import io.github.eckig.grapheditor.SkinLookup;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.github.eckig.grapheditor.core.DefaultGraphEditor;
+import io.github.eckig.grapheditor.core.skins.defaults.connection.ConnectionPoints;
 import io.github.eckig.grapheditor.core.view.ConnectionLayouter;
 import io.github.eckig.grapheditor.model.GConnection;
+import io.github.eckig.grapheditor.model.GConnector;
 import io.github.eckig.grapheditor.model.GModel;
+import io.github.eckig.grapheditor.model.GNode;
+import io.github.eckig.grapheditor.utils.GraphEditorProperties;
 import javafx.geometry.Point2D;
 
 
 /**
  * Default implementation of {@link ConnectionLayouter}
+ *
+ * <p>
+ * By default every {@link #draw()} updates and draws all connections of the
+ * model. When {@link #INCREMENTAL_DRAW_KEY} is set, only connections that have
+ * been {@link #markDirty(GConnection) marked as changed} are updated, and only
+ * the connections that overlap the changed area are drawn again (to update
+ * their intersection effects).
+ * </p>
  */
 public class DefaultConnectionLayouter implements ConnectionLayouter
 {
 
+    /**
+     * Property key to only redraw changed connections.
+     *
+     * <p>
+     * To activate this functionality, add this key to the graph editor's custom
+     * properties with the value "true". Skins that change the position of
+     * connectors or joints on their own, without the model or a drag gesture
+     * being involved, must then call {@link GraphEditor#reload()} to get all
+     * connections redrawn.
+     * </p>
+     */
+    public static final String INCREMENTAL_DRAW_KEY = "default-connection-layouter-incremental-draw";
+
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultConnectionLayouter.class);
 
     private final SkinLookup mSkinLookup;
+    private final GraphEditorProperties mProperties;
     private GModel mModel;
 
+    private final ConnectionPoints mConnectionPoints = new ConnectionPoints();
+    private final Set<GConnection> mDirtyConnections = new HashSet<>();
+    private boolean mAllDirty = true;
+
+    private boolean mCollectStatistics;
+    private int mDrawnConnectionCount = -1;
+
     /**
      * Creates a new {@link DefaultConnectionLayouter} instance. Only one
      * instance should exist per {@link DefaultGraphEditor} instance.
@@ -35,56 +74,267 @@ public class DefaultConnectionLayouter implements ConnectionLayouter
      *            the {@link SkinLookup} used to look up skins
      */
     public DefaultConnectionLayouter(final SkinLookup pSkinLookup)
+    {
+        this(pSkinLookup, null);
+    }
+
+    /**
+     * Creates a new {@link DefaultConnectionLayouter} instance. Only one
+     * instance should exist per {@link DefaultGraphEditor} instance.
+     *
+     * @param pSkinLookup
+     *            the {@link SkinLookup} used to look up skins
+     * @param pProperties
+     *            the {@link GraphEditorProperties} to read
+     *            {@link #INCREMENTAL_DRAW_KEY} from (may be {@code null})
+     * @since 16.10.2026
+     */
+    public DefaultConnectionLayouter(final SkinLookup pSkinLookup, final GraphEditorProperties pProperties)
     {
         mSkinLookup = pSkinLookup;
+        mProperties = pProperties;
     }
 
     @Override
     public void initialize(final GModel pModel)
     {
         mModel = pModel;
+        markAllDirty();
+    }
+
+    @Override
+    public void markDirty(final GConnection pConnection)
+    {
+        if (pConnection != null && !mAllDirty)
+        {
+            mDirtyConnections.add(pConnection);
+        }
+    }
+
+    @Override
+    public void markDirty(final GNode pNode)
+    {
+        if (pNode != null && !mAllDirty)
+        {
+            for (final GConnector connector : pNode.getConnectors())
+            {
+                mDirtyConnections.addAll(connector.getConnections());
+            }
+        }
+    }
+
+    @Override
+    public void markAllDirty()
+    {
+        mAllDirty = true;
+        mDirtyConnections.clear();
+    }
+
+    @Override
+    public void setCollectStatistics(final boolean pCollect)
+    {
+        mCollectStatistics = pCollect;
+    }
+
+    @Override
+    public int getDrawnConnectionCount()
+    {
+        return mDrawnConnectionCount;
+    }
+
+    @Override
+    public long getIntersectionNanos()
+    {
+        return mConnectionPoints.getIntersectionNanos();
     }
 
     @Override
     public void draw()
     {
+        mDrawnConnectionCount = mCollectStatistics ? 0 : -1;
+        mConnectionPoints.setMeasureIntersections(mCollectStatistics);
+
         if (mModel == null || mModel.getConnections().isEmpty())
         {
+            mConnectionPoints.clear();
+            markAllDirty();
+            drawingFinished(mConnectionPoints, Collections.emptyList(), true);
             return;
         }
 
         try
         {
-            if (!mModel.getConnections().isEmpty())
+            if (mAllDirty || !isIncremental())
             {
                 redrawAllConnections();
             }
+            else if (!mDirtyConnections.isEmpty())
+            {
+                redrawDirtyConnections();
+            }
         }
         catch (Exception e)
         {
+            // start from scratch during the next pass:
+            markAllDirty();
             LOGGER.debug("Could not redraw Connections: ", e); //$NON-NLS-1$
         }
+        finally
+        {
+            mDirtyConnections.clear();
+        }
+    }
+
+    private boolean isIncremental()
+    {
+        return mProperties != null
+                && Boolean.toString(true).equals(mProperties.getCustomProperties().get(INCREMENTAL_DRAW_KEY));
     }
 
     private void redrawAllConnections()
     {
-        final Map<GConnectionSkin, Point2D[]> connectionPoints = new HashMap<>();
+        // the intersection index of the connection points is built at most once per pass:
+        mConnectionPoints.clear();
         for (final GConnection connection : mModel.getConnections())
         {
             final GConnectionSkin connectionSkin = mSkinLookup.lookupConnection(connection);
             if (connectionSkin != null)
             {
-                final Point2D[] points = connectionSkin.update();
-                if (points != null)
+                final double[] coordinates = connectionSkin.updateCoordinates();
+                if (coordinates != null)
                 {
-                    connectionPoints.put(connectionSkin, points);
+                    mConnectionPoints.putCoordinates(connectionSkin, coordinates);
                 }
             }
         }
 
-        for (final GConnectionSkin skin : connectionPoints.keySet())
+        for (final GConnectionSkin skin : mConnectionPoints.keySet())
+        {
+            drawConnection(skin, mConnectionPoints);
+        }
+        mAllDirty = false;
+        if (mCollectStatistics)
+        {
+            mDrawnConnectionCount = mConnectionPoints.size();
+        }
+        drawingFinished(mConnectionPoints, mConnectionPoints.keySet(), true);
+    }
+
+    private void redrawDirtyConnections()
+    {
+        // bounding box (minX, minY, maxX, maxY) of the old and new points of all changed connections:
+        final double[] changedArea = { Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+                Double.NEGATIVE_INFINITY };
+        final List<GConnectionSkin> toDraw = new ArrayList<>(mDirtyConnections.size());
+
+        for (final GConnection connection : mDirtyConnections)
+        {
+            final GConnectionSkin connectionSkin = mSkinLookup.lookupConnection(connection);
+            if (connectionSkin == null)
+            {
+                continue;
+            }
+
+            // the skin reuses its coordinate buffer, so the old coordinates have to be read before the update:
+            include(changedArea, mConnectionPoints.getCoordinates(connectionSkin));
+            final double[] coordinates = connectionSkin.updateCoordinates();
+            include(changedArea, coordinates);
+            if (coordinates != null)
+            {
+                mConnectionPoints.putCoordinates(connectionSkin, coordinates);
+                toDraw.add(connectionSkin);
+            }
+            else
+            {
+                mConnectionPoints.remove(connectionSkin);
+            }
+        }
+
+        // unchanged connections crossing the changed area have to update their intersection effects:
+        for (final GConnectionSkin skin : mConnectionPoints.keySet())
+        {
+            if (!mDirtyConnections.contains(skin.getItem())
+                    && intersects(changedArea, mConnectionPoints.getCoordinates(skin)))
+            {
+                toDraw.add(skin);
+            }
+        }
+
+        for (final GConnectionSkin skin : toDraw)
+        {
+            drawConnection(skin, mConnectionPoints);
+        }
+        if (mCollectStatistics)
+        {
+            mDrawnConnectionCount = toDraw.size();
+        }
+        drawingFinished(mConnectionPoints, toDraw, false);
+    }
+
+    /**
+     * Draws a single connection. Called for every connection that has to be
+     * drawn during a {@link #draw()} pass, after the points of all connections
+     * have been updated.
+     *
+     * @param pSkin
+     *            the {@link GConnectionSkin} to draw
+     * @param pAllPoints
+     *            the points of all connections
+     * @since 16.10.2026
+     */
+    protected void drawConnection(final GConnectionSkin pSkin, final Map<GConnectionSkin, Point2D[]> pAllPoints)
+    {
+        pSkin.draw(pAllPoints);
+    }
+
+    /**
+     * Called at the end of every {@link #draw()} pass that drew connections.
+     *
+     * @param pAllPoints
+     *            the points of all connections
+     * @param pDrawn
+     *            the connections that have been drawn during this pass
+     * @param pAll
+     *            {@code true} if all connections have been drawn, i.e.
+     *            connections that are no longer part of the points have been
+     *            removed
+     * @since 16.10.2026
+     */
+    protected void drawingFinished(final Map<GConnectionSkin, Point2D[]> pAllPoints,
+            final Collection<GConnectionSkin> pDrawn, final boolean pAll)
+    {
+        // no-op by default
+    }
+
+    private static void include(final double[] pArea, final double[] pCoordinates)
+    {
+        if (pCoordinates == null)
+        {
+            return;
+        }
+        for (int i = 0; i + 1 < pCoordinates.length; i += 2)
+        {
+            final double x = pCoordinates[i];
+            final double y = pCoordinates[i + 1];
+            if (!Double.isNaN(x) && !Double.isNaN(y))
+            {
+                pArea[0] = Math.min(pArea[0], x);
+                pArea[1] = Math.min(pArea[1], y);
+                pArea[2] = Math.max(pArea[2], x);
+                pArea[3] = Math.max(pArea[3], y);
+            }
+        }
+    }
+
+    private static boolean intersects(final double[] pArea, final double[] pCoordinates)
+    {
+        if (pCoordinates == null)
         {
-            skin.draw(connectionPoints);
+            return false;
         }
+        final double[] bounds = { Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+                Double.NEGATIVE_INFINITY };
+        include(bounds, pCoordinates);
+        return bounds[0] <= pArea[2] && bounds[2] >= pArea[0] && bounds[1] <= pArea[3] && bounds[3] >= pArea[1];
     }
 }
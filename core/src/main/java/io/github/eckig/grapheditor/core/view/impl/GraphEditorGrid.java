@@ -13,16 +13,25 @@ import javafx.css.StyleConverter;
 import javafx.css.Styleable;
 import javafx.css.StyleableObjectProperty;
 import javafx.css.StyleableProperty;
+import javafx.geometry.Bounds;
 import javafx.scene.Node;
 import javafx.scene.layout.Region;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.LineTo;
 import javafx.scene.shape.MoveTo;
 import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
 
 
 /**
  * The alignment grid that appears in the background of the editor.
+ *
+ * <p>
+ * Only the grid lines inside the {@link #setViewport(Bounds) viewport} are
+ * drawn. The drawn area is rounded up to whole tiles, so the lines are only
+ * rebuilt when the viewport moves past a tile boundary, shrinks considerably
+ * (e.g. when zooming in) or the spacing or size changes.
+ * </p>
  */
 public class GraphEditorGrid extends Region
 {
@@ -36,10 +45,29 @@ public class GraphEditorGrid extends Region
 
     private static final Color DEFAULT_GRID_COLOR = Color.rgb(222, 248, 255);
 
+    /**
+     * Size of the tiles the drawn area is aligned to
+     */
+    private static final double TILE_SIZE = 512;
+
+    /**
+     * The drawn area is rebuilt if it is more than this factor larger than
+     * the area needed for the current viewport
+     */
+    private static final double MAX_OVERDRAW = 4;
+
     private double mLastWidth = -1;
     private double mLastHeight = -1;
     private final Path mGrid = new Path();
 
+    private Bounds mViewport;
+
+    /**
+     * The currently drawn area (minX, minY, maxX, maxY) or {@code null} if the
+     * grid has to be redrawn
+     */
+    private double[] mDrawnArea;
+
     private final StyleableObjectProperty<Color> mGridColor = new StyleableObjectProperty<Color>(DEFAULT_GRID_COLOR)
     {
 
@@ -86,6 +114,7 @@ public class GraphEditorGrid extends Region
         @Override
         protected void invalidated()
         {
+            mDrawnArea = null;
             draw(getWidth(), getHeight());
         }
 
@@ -115,12 +144,30 @@ public class GraphEditorGrid extends Region
         {
             mLastHeight = pHeight;
             mLastWidth = pWidth;
+            mDrawnArea = null;
             draw(pWidth, pHeight);
         }
     }
 
     /**
-     * Draws the grid for the given width and height.
+     * Sets the currently visible area of the grid. Only grid lines inside
+     * this area are drawn.
+     *
+     * @param pViewport
+     *            the visible area in local coordinates or {@code null} to
+     *            draw the grid for its whole size
+     * @since 16.10.2026
+     */
+    public void setViewport(final Bounds pViewport)
+    {
+        mViewport = pViewport;
+        draw(getWidth(), getHeight());
+    }
+
+    /**
+     * Draws the grid for the given width and height, limited to the tiles
+     * covering the current viewport. Does nothing if these tiles are already
+     * drawn.
      *
      * @param pWidth
      *            the width of the editor region
@@ -129,23 +176,65 @@ public class GraphEditorGrid extends Region
      */
     void draw(final double pWidth, final double pHeight)
     {
-        final double spacing = getGridSpacing();
-        final int hLineCount = (int) Math.floor((pHeight + 1) / spacing);
-        final int vLineCount = (int) Math.floor((pWidth + 1) / spacing);
+        final double[] area = computeArea(pWidth, pHeight);
+        if (mDrawnArea != null && contains(mDrawnArea, area)
+                && sizeOf(mDrawnArea) <= MAX_OVERDRAW * Math.max(sizeOf(area), TILE_SIZE * TILE_SIZE))
+        {
+            return;
+        }
+        mDrawnArea = area;
 
-        for (int i = 0; i < hLineCount; i++)
+        final double spacing = getGridSpacing();
+        final List<PathElement> elements = new ArrayList<>();
+        if (spacing > 0 && area[2] > area[0] && area[3] > area[1])
         {
-            final double y = (i + 1) * spacing + HALF_PIXEL_OFFSET;
-            mGrid.getElements().add(new MoveTo(0, y));
-            mGrid.getElements().add(new LineTo(pWidth, y));
+            // line i is drawn at i * spacing for 1 <= i <= (size + 1) / spacing
+            final int firstHLine = Math.max(1, (int) Math.ceil(area[1] / spacing));
+            final int lastHLine = (int) Math.floor((Math.min(pHeight, area[3]) + 1) / spacing);
+            final int firstVLine = Math.max(1, (int) Math.ceil(area[0] / spacing));
+            final int lastVLine = (int) Math.floor((Math.min(pWidth, area[2]) + 1) / spacing);
+
+            for (int i = firstHLine; i <= lastHLine; i++)
+            {
+                final double y = i * spacing + HALF_PIXEL_OFFSET;
+                elements.add(new MoveTo(area[0], y));
+                elements.add(new LineTo(area[2], y));
+            }
+
+            for (int i = firstVLine; i <= lastVLine; i++)
+            {
+                final double x = i * spacing + HALF_PIXEL_OFFSET;
+                elements.add(new MoveTo(x, area[1]));
+                elements.add(new LineTo(x, area[3]));
+            }
         }
+        mGrid.getElements().setAll(elements);
+    }
 
-        for (int i = 0; i < vLineCount; i++)
+    /**
+     * @return the area (minX, minY, maxX, maxY) to draw, i.e. the viewport
+     *         rounded to whole tiles and limited to the given size
+     */
+    private double[] computeArea(final double pWidth, final double pHeight)
+    {
+        if (mViewport == null)
         {
-            final double x = (i + 1) * spacing + HALF_PIXEL_OFFSET;
-            mGrid.getElements().add(new MoveTo(x, 0));
-            mGrid.getElements().add(new LineTo(x, pHeight));
+            return new double[] { 0, 0, pWidth, pHeight };
         }
+        return new double[] { Math.max(0, Math.floor(mViewport.getMinX() / TILE_SIZE) * TILE_SIZE),
+                Math.max(0, Math.floor(mViewport.getMinY() / TILE_SIZE) * TILE_SIZE),
+                Math.min(pWidth, Math.ceil(mViewport.getMaxX() / TILE_SIZE) * TILE_SIZE),
+                Math.min(pHeight, Math.ceil(mViewport.getMaxY() / TILE_SIZE) * TILE_SIZE) };
+    }
+
+    private static boolean contains(final double[] pOuter, final double[] pInner)
+    {
+        return pOuter[0] <= pInner[0] && pOuter[1] <= pInner[1] && pOuter[2] >= pInner[2] && pOuter[3] >= pInner[3];
+    }
+
+    private static double sizeOf(final double[] pArea)
+    {
+        return Math.max(0, pArea[2] - pArea[0]) * Math.max(0, pArea[3] - pArea[1]);
     }
 
     /**
@@ -3,36 +3,79 @@
  */
 package io.github.eckig.grapheditor.core;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import io.github.eckig.grapheditor.core.data.DummyDataFactory;
 import io.github.eckig.grapheditor.core.utils.FXTestUtils;
 
 import org.eclipse.emf.common.command.CommandStack;
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.command.RemoveCommand;
+import org.eclipse.emf.edit.command.SetCommand;
 import org.eclipse.emf.edit.domain.EditingDomain;
 import org.junit.Before;
 import org.junit.Test;
 
+import io.github.eckig.grapheditor.AdjacencyLookup;
 import io.github.eckig.grapheditor.Commands;
+import io.github.eckig.grapheditor.DetailLevel;
+import io.github.eckig.grapheditor.GConnectionSkin;
+import io.github.eckig.grapheditor.GConnectorSkin;
+import io.github.eckig.grapheditor.GJointSkin;
+import io.github.eckig.grapheditor.GNodeSkin;
 import io.github.eckig.grapheditor.GraphEditor;
+import io.github.eckig.grapheditor.IdLookup;
+import io.github.eckig.grapheditor.ProcessingStatistics;
+import io.github.eckig.grapheditor.SelectionManager;
 import io.github.eckig.grapheditor.SkinLookup;
+import io.github.eckig.grapheditor.core.skins.GraphEditorSkinManager;
+import io.github.eckig.grapheditor.core.skins.defaults.DefaultNodeSkin;
 import io.github.eckig.grapheditor.core.skins.defaults.utils.ConnectionCommands;
+import io.github.eckig.grapheditor.core.view.GraphEditorView;
+import io.github.eckig.grapheditor.core.view.impl.CanvasConnectionLayouter;
+import io.github.eckig.grapheditor.core.view.impl.DefaultConnectionLayouter;
 import io.github.eckig.grapheditor.model.GConnection;
 import io.github.eckig.grapheditor.model.GConnector;
 import io.github.eckig.grapheditor.model.GJoint;
 import io.github.eckig.grapheditor.model.GModel;
 import io.github.eckig.grapheditor.model.GNode;
 import io.github.eckig.grapheditor.model.GraphFactory;
+import io.github.eckig.grapheditor.model.GraphPackage;
+import io.github.eckig.grapheditor.utils.GeometryUtils;
+import io.github.eckig.grapheditor.utils.GraphEditorProperties;
 import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.binding.Bindings;
+import javafx.collections.SetChangeListener;
+import javafx.geometry.Point2D;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.scene.shape.HLineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
+import javafx.scene.transform.Scale;
 
 /**
  * This test treats the graph editor as a single unit.
@@ -125,6 +168,145 @@ public class GraphEditorTest {
         assertNotNull("Node skin instance should exist again.", skinLookup.lookupNode(node));
     }
 
+    @Test
+    public void undoRedoNodeReusesPooledSkin() throws InterruptedException
+    {
+        graphEditor.getProperties().getCustomProperties().put(GraphEditorSkinManager.SKIN_POOLING_KEY, "true");
+        final GraphEditorSkinManager skinManager = (GraphEditorSkinManager) skinLookup;
+
+        final GNode node = addNodeToModel();
+        reloadEditor();
+
+        final GNodeSkin nodeSkin = skinLookup.lookupNode(node);
+        final long created = skinManager.getCreatedSkinCount();
+
+        editingDomain.getCommandStack().undo();
+        reloadEditor();
+        editingDomain.getCommandStack().redo();
+        reloadEditor();
+
+        assertTrue("Node skin should have been reused.", skinLookup.lookupNode(node) == nodeSkin);
+        assertTrue("Node skin should be bound to the node.", nodeSkin.getItem() == node);
+        assertTrue("No skin should have been created.", skinManager.getCreatedSkinCount() == created);
+        assertTrue("Node and connector skins should have been reused.",
+                skinManager.getReusedSkinCount() == 1 + node.getConnectors().size());
+    }
+
+    @Test
+    public void pooledSkinFollowsTypeChange() throws InterruptedException
+    {
+        graphEditor.getProperties().getCustomProperties().put(GraphEditorSkinManager.SKIN_POOLING_KEY, "true");
+        final GraphEditorSkinManager skinManager = (GraphEditorSkinManager) skinLookup;
+        skinManager.setNodeSkinFactory(node -> "typed".equals(node.getType()) ? new TypedNodeSkin(node) : null);
+
+        final GNode node = addNodeToModel();
+        reloadEditor();
+        assertEquals(DefaultNodeSkin.class, skinLookup.lookupNode(node).getClass());
+
+        commandStack.execute(SetCommand.create(editingDomain, node, GraphPackage.Literals.GNODE__TYPE, "typed"));
+        reloadEditor();
+        assertEquals("Skin of the new type should have been created.", TypedNodeSkin.class,
+                skinLookup.lookupNode(node).getClass());
+
+        commandStack.undo();
+        reloadEditor();
+        assertEquals("Skin of the old type should have been reused.", DefaultNodeSkin.class,
+                skinLookup.lookupNode(node).getClass());
+    }
+
+    @Test
+    public void processingStatisticsAreReported() throws InterruptedException
+    {
+        final List<ProcessingStatistics> statistics = new ArrayList<>();
+        graphEditor.setOnProcessed(statistics::add);
+
+        final GNode node = addNodeToModel();
+        reloadEditor();
+
+        assertEquals("One processing run should have been reported.", 1, statistics.size());
+        final ProcessingStatistics added = statistics.get(0);
+        assertTrue("Notifications should have been counted.", added.notificationCount() > 0);
+        assertEquals("Node and connector skins should have been created.", 1 + node.getConnectors().size(),
+                added.skinsCreated());
+        assertEquals("All connections should have been drawn.", model.getConnections().size(),
+                added.connectionsDrawn());
+        assertTrue("Drawing should be part of the total time.", added.connectionLayoutNanos() <= added.totalNanos());
+        assertTrue("Intersections should be part of the drawing time.",
+                added.intersectionNanos() <= added.connectionLayoutNanos());
+
+        editingDomain.getCommandStack().undo();
+        reloadEditor();
+
+        assertEquals("Node and connector skins should have been removed.", 1 + node.getConnectors().size(),
+                statistics.get(1).skinsRemoved());
+
+        graphEditor.setOnProcessed(null);
+        reloadEditor();
+        assertEquals("No statistics should be reported without a consumer.", 2, statistics.size());
+    }
+
+    @Test
+    public void onlyHandledNotificationsAreQueued() throws InterruptedException
+    {
+        final List<ProcessingStatistics> statistics = new ArrayList<>();
+        graphEditor.setOnProcessed(statistics::add);
+
+        final GNode node = addNodeToModel();
+        // the node is only attached once its addition is processed, its skin still has to read the new position:
+        commandStack.execute(SetCommand.create(editingDomain, node, GraphPackage.Literals.GNODE__X, 123d));
+        reloadEditor();
+        assertEquals(123, skinLookup.lookupNode(node).getRoot().getLayoutX(), 0);
+
+        final GConnector connector = node.getConnectors().get(0);
+        for (int i = 1; i <= 5; i++) {
+            commandStack.execute(SetCommand.create(editingDomain, node, GraphPackage.Literals.GNODE__X, node.getX() + 1));
+            // nobody handles the connector position, so it does not separate the node positions:
+            commandStack.execute(SetCommand.create(editingDomain, connector, GraphPackage.Literals.GCONNECTOR__X, (double) i));
+        }
+        reloadEditor();
+
+        assertEquals("Consecutive positions should have been merged.", 1,
+                statistics.get(statistics.size() - 1).notificationCount());
+        assertEquals(128, skinLookup.lookupNode(node).getRoot().getLayoutX(), 0);
+    }
+
+    @Test
+    public void alternatingPositionsAreMerged() throws InterruptedException
+    {
+        final List<ProcessingStatistics> statistics = new ArrayList<>();
+        graphEditor.setOnProcessed(statistics::add);
+
+        final GNode first = addNodeToModel();
+        final GNode second = addNodeToModel();
+        reloadEditor();
+
+        // like dragging two nodes, every step changes X and Y of both:
+        for (int i = 1; i <= 5; i++) {
+            commandStack.execute(SetCommand.create(editingDomain, first, GraphPackage.Literals.GNODE__X, 10d * i));
+            commandStack.execute(SetCommand.create(editingDomain, first, GraphPackage.Literals.GNODE__Y, 20d * i));
+            commandStack.execute(SetCommand.create(editingDomain, second, GraphPackage.Literals.GNODE__X, 30d * i));
+            commandStack.execute(SetCommand.create(editingDomain, second, GraphPackage.Literals.GNODE__Y, 40d * i));
+        }
+        reloadEditor();
+
+        assertEquals("One position per node and feature should be left.", 4,
+                statistics.get(statistics.size() - 1).notificationCount());
+        assertEquals(50, skinLookup.lookupNode(first).getRoot().getLayoutX(), 0);
+        assertEquals(100, skinLookup.lookupNode(first).getRoot().getLayoutY(), 0);
+        assertEquals(150, skinLookup.lookupNode(second).getRoot().getLayoutX(), 0);
+        assertEquals(200, skinLookup.lookupNode(second).getRoot().getLayoutY(), 0);
+
+        commandStack.execute(SetCommand.create(editingDomain, first, GraphPackage.Literals.GNODE__X, 1d));
+        commandStack.execute(RemoveCommand.create(editingDomain, model, GraphPackage.Literals.GMODEL__NODES, second));
+        commandStack.execute(SetCommand.create(editingDomain, first, GraphPackage.Literals.GNODE__X, 2d));
+        reloadEditor();
+
+        assertEquals("Positions should not be merged across a removal.", 3,
+                statistics.get(statistics.size() - 1).notificationCount());
+        assertEquals(2, skinLookup.lookupNode(first).getRoot().getLayoutX(), 0);
+        assertNull(skinLookup.lookupNode(second));
+    }
+
     @Test
     public void undoRedoConnection() throws InterruptedException
     {
@@ -176,6 +358,268 @@ public class GraphEditorTest {
         assertTrue("All connections should have gone.", model.getConnections().isEmpty());
     }
 
+    @Test
+    public void deleteRemovesEachListOnceAndUndoes() throws InterruptedException
+    {
+        final List<GNode> nodes = new ArrayList<>(model.getNodes());
+        final List<GConnection> connections = new ArrayList<>(model.getConnections());
+        final GConnector connector = connections.get(0).getSource();
+        final List<GConnection> connectorConnections = new ArrayList<>(connector.getConnections());
+
+        final List<Notification> notifications = new ArrayList<>();
+        final Adapter recorder = new AdapterImpl()
+        {
+
+            @Override
+            public void notifyChanged(final Notification notification)
+            {
+                if (notification.getEventType() != Notification.REMOVING_ADAPTER)
+                {
+                    notifications.add(notification);
+                }
+            }
+        };
+        model.eAdapters().add(recorder);
+
+        graphEditor.delete(new ArrayList<>(nodes));
+        model.eAdapters().remove(recorder);
+
+        assertTrue("All nodes should have gone.", model.getNodes().isEmpty());
+        assertTrue("All connections should have gone.", model.getConnections().isEmpty());
+        assertTrue("Connector should no longer reference connections.", connector.getConnections().isEmpty());
+        assertNull("Removed node should have no container.", nodes.get(0).eContainer());
+        assertEquals("Nodes and connections should be removed with one notification each.", 2, notifications.size());
+
+        commandStack.undo();
+        reloadEditor();
+
+        assertEquals("Nodes should be back in their original order.", nodes, model.getNodes());
+        assertEquals("Connections should be back in their original order.", connections, model.getConnections());
+        assertEquals("Connector should reference its connections again.", connectorConnections,
+                connector.getConnections());
+        assertSame("Restored node should be contained in the model.", model, nodes.get(0).eContainer());
+        assertNotNull("Node skin should exist again.", skinLookup.lookupNode(nodes.get(0)));
+        assertNotNull("Connection skin should exist again.", skinLookup.lookupConnection(connections.get(0)));
+
+        commandStack.redo();
+        reloadEditor();
+
+        assertTrue("All nodes should have gone again.", model.getNodes().isEmpty());
+        assertNull("Node skin should no longer exist.", skinLookup.lookupNode(nodes.get(0)));
+    }
+
+    @Test
+    public void idLookupFollowsModel() throws InterruptedException
+    {
+        final IdLookup idLookup = graphEditor.getIdLookup();
+        final GConnection existing = model.getConnections().get(0);
+        existing.setId("existing-connection");
+        reloadEditor();
+        assertSame("Id changes should be indexed.", existing, idLookup.lookup("existing-connection"));
+        assertSame(skinLookup.lookupConnection(existing), idLookup.lookupSkin("existing-connection"));
+
+        final GNode node = DummyDataFactory.createNode();
+        node.setId(idLookup.createUniqueId("node-"));
+        node.getConnectors().get(0).setId(idLookup.createUniqueId("node-"));
+        Commands.addNode(model, node);
+        reloadEditor();
+
+        assertSame("Added node should be indexed.", node, idLookup.lookup(node.getId(), GNode.class));
+        assertNull("Type should be checked.", idLookup.lookup(node.getId(), GConnection.class));
+        assertSame(node.getConnectors().get(0), idLookup.lookup(node.getConnectors().get(0).getId()));
+        assertSame(skinLookup.lookupNode(node), idLookup.lookupSkin(node.getId()));
+        assertFalse("Created ids should be unique.", node.getId().equals(node.getConnectors().get(0).getId()));
+
+        commandStack.execute(SetCommand.create(editingDomain, node, GraphPackage.Literals.GNODE__ID, "renamed"));
+        reloadEditor();
+
+        assertSame("Renamed node should be found by its new id.", node, idLookup.lookup("renamed"));
+        assertNull("Old id should be gone.", idLookup.lookup("node-1"));
+
+        commandStack.undo();
+        commandStack.undo();
+        reloadEditor();
+
+        assertNull("Removed node should be gone.", idLookup.lookup(node.getId()));
+        assertNull("Removed connector should be gone.", idLookup.lookup(node.getConnectors().get(0).getId()));
+    }
+
+    @Test
+    public void idLookupFollowsCoalescedRenames() throws InterruptedException
+    {
+        graphEditor.getProperties().getCustomProperties().put(GraphEditorController.COALESCE_PROCESSING_KEY, "true");
+        final IdLookup idLookup = graphEditor.getIdLookup();
+        final GNode node = model.getNodes().get(0);
+
+        commandStack.execute(SetCommand.create(editingDomain, node, GraphPackage.Literals.GNODE__ID, "a"));
+        reloadEditor();
+        assertSame(node, idLookup.lookup("a"));
+
+        // only the last of the merged notifications is processed:
+        commandStack.execute(SetCommand.create(editingDomain, node, GraphPackage.Literals.GNODE__ID, "b"));
+        commandStack.execute(SetCommand.create(editingDomain, node, GraphPackage.Literals.GNODE__ID, "c"));
+        reloadEditor();
+
+        assertNull("First id should be gone.", idLookup.lookup("a"));
+        assertNull("Intermediate id should never be indexed.", idLookup.lookup("b"));
+        assertSame(node, idLookup.lookup("c"));
+    }
+
+    @Test
+    public void adjacencyLookupFollowsModel() throws InterruptedException
+    {
+        final AdjacencyLookup adjacency = graphEditor.getAdjacencyLookup();
+        for (final GNode node : model.getNodes()) {
+            int outDegree = 0;
+            int inDegree = 0;
+            for (final GConnector connector : node.getConnectors()) {
+                for (final GConnection connection : connector.getConnections()) {
+                    outDegree += connection.getSource().getParent() == node ? 1 : 0;
+                    inDegree += connection.getTarget().getParent() == node ? 1 : 0;
+                }
+            }
+            assertEquals(outDegree, adjacency.getOutDegree(node));
+            assertEquals(inDegree, adjacency.getInDegree(node));
+        }
+
+        final GConnection existing = model.getConnections().get(0);
+        final GNode source = existing.getSource().getParent();
+        final GNode target = existing.getTarget().getParent();
+        assertTrue(adjacency.getOutgoingConnections(source).contains(existing));
+        assertTrue(adjacency.getIncomingConnections(target).contains(existing));
+        assertTrue(adjacency.getNeighbours(source).contains(target));
+
+        final GNode node = DummyDataFactory.createNode();
+        Commands.addNode(model, node);
+        reloadEditor();
+
+        assertEquals("New node should be unconnected.", Set.of(node), adjacency.getConnectedComponent(node));
+
+        ConnectionCommands.addConnection(model, node.getConnectors().get(1), existing.getTarget(), null, List.of(),
+                null);
+        reloadEditor();
+
+        final GConnection added = model.getConnections().get(model.getConnections().size() - 1);
+        assertEquals(List.of(added), adjacency.getConnections(node));
+        assertEquals(Set.of(target), adjacency.getNeighbours(node));
+        assertTrue("Component should span the new connection.",
+                adjacency.getConnectedComponent(node).containsAll(List.of(node, source, target)));
+
+        commandStack.execute(
+                SetCommand.create(editingDomain, added, GraphPackage.Literals.GCONNECTION__SOURCE, existing.getSource()));
+        reloadEditor();
+
+        assertEquals("Moved connection should leave the node.", 0, adjacency.getOutDegree(node));
+        assertTrue(adjacency.getOutgoingConnections(source).contains(added));
+
+        commandStack.undo();
+        commandStack.undo();
+        commandStack.undo();
+        reloadEditor();
+
+        assertTrue(adjacency.getConnections(node).isEmpty());
+        assertFalse("Removed connection should be gone.", adjacency.getIncomingConnections(target).contains(added));
+        assertFalse(adjacency.getOutgoingConnections(source).contains(added));
+    }
+
+    @Test
+    public void replaceSelectionAppliesDelta() {
+
+        final SelectionManager selectionManager = graphEditor.getSelectionManager();
+        final GNode node = model.getNodes().get(0);
+        final GJoint joint = model.getConnections().get(0).getJoints().get(0);
+
+        selectionManager.selectAll();
+        assertTrue("Joint skin should be selected.", skinLookup.lookupJoint(joint).isSelected());
+
+        final List<Object> changes = new ArrayList<>();
+        selectionManager.getSelectedItems().addListener((SetChangeListener<EObject>) changes::add);
+        final int deselected = selectionManager.getSelectedItems().size() - 1;
+
+        selectionManager.replaceSelection(List.of(node));
+
+        assertTrue("Only the node should remain selected.", selectionManager.getSelectedItems().equals(Set.of(node)));
+        assertTrue("Only de-selected elements should change.", changes.size() == deselected);
+        assertTrue("Node skin should be selected.", skinLookup.lookupNode(node).isSelected());
+        assertFalse("Joint skin should be de-selected.", skinLookup.lookupJoint(joint).isSelected());
+
+        selectionManager.select(List.of(node, joint));
+        assertTrue("Joint skin should be selected again.", skinLookup.lookupJoint(joint).isSelected());
+        assertTrue("Only the joint should have been added.", changes.size() == deselected + 1);
+    }
+
+    @Test
+    public void bulkSelectionInvalidatesOnce() {
+
+        final SelectionManager selectionManager = graphEditor.getSelectionManager();
+        final List<EObject> nodes = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            nodes.add(GraphFactory.eINSTANCE.createGNode());
+        }
+
+        final List<EObject> added = new ArrayList<>();
+        final List<EObject> removed = new ArrayList<>();
+        final int[] invalidations = new int[1];
+        final Set<EObject> bound = new HashSet<>();
+        selectionManager.getSelectedItems().addListener((SetChangeListener<EObject>) c -> {
+            assertTrue("Every change should carry one element.", c.wasAdded() != c.wasRemoved());
+            if (c.wasAdded()) {
+                added.add(c.getElementAdded());
+            } else {
+                removed.add(c.getElementRemoved());
+            }
+        });
+        selectionManager.getSelectedItems().addListener((InvalidationListener) o -> invalidations[0]++);
+        Bindings.bindContent(bound, selectionManager.getSelectedItems());
+
+        selectionManager.select(nodes);
+        assertEquals("Selecting should invalidate once.", 1, invalidations[0]);
+        assertEquals("Every node should be reported as added.", new HashSet<>(nodes), new HashSet<>(added));
+        assertEquals("Bound content should follow the selection.", new HashSet<>(nodes), bound);
+
+        selectionManager.clearSelection();
+        assertEquals("De-selecting should invalidate once.", 2, invalidations[0]);
+        assertEquals("Every node should be reported as removed.", 1000, removed.size());
+        assertFalse("No change should carry null.", added.contains(null) || removed.contains(null));
+        assertTrue("Bound content should be empty.", bound.isEmpty());
+        assertTrue("Selection should be empty.", selectionManager.getSelectedItems().isEmpty());
+    }
+
+    @Test
+    public void selectionBoxOnlyChangesAffectedElements() throws InterruptedException {
+
+        final GNode node = model.getNodes().get(0);
+        final double endX = node.getX() + node.getWidth() + 1;
+        final double endY = node.getY() + node.getHeight() + 1;
+        final List<Object> changes = new ArrayList<>();
+        graphEditor.getSelectionManager().getSelectedItems().addListener((SetChangeListener<EObject>) changes::add);
+
+        final Region view = graphEditor.getView();
+        FXTestUtils.fireMouseEvent(view, MouseEvent.MOUSE_PRESSED, 0, 0);
+        FXTestUtils.fireMouseEvent(view, MouseEvent.MOUSE_DRAGGED, endX, endY);
+
+        assertTrue("Node inside the box should be selected.", graphEditor.getSelectionManager().isSelected(node));
+        final int changeCount = changes.size();
+
+        FXTestUtils.fireMouseEvent(view, MouseEvent.MOUSE_DRAGGED, endX + 1, endY + 1);
+        assertTrue("Unchanged box contents should not fire changes.", changes.size() == changeCount);
+
+        FXTestUtils.fireMouseEvent(view, MouseEvent.MOUSE_DRAGGED, 1, 1);
+        FXTestUtils.fireMouseEvent(view, MouseEvent.MOUSE_RELEASED, 1, 1);
+        assertFalse("Node outside the box should be deselected.", graphEditor.getSelectionManager().isSelected(node));
+
+        // the index follows model changes:
+        Platform.runLater(() -> commandStack.execute(SetCommand.create(editingDomain, node, GraphPackage.Literals.GNODE__X, 5000.0)));
+        final CountDownLatch moved = new CountDownLatch(1);
+        Platform.runLater(moved::countDown);
+        moved.await();
+
+        FXTestUtils.fireMouseEvent(view, MouseEvent.MOUSE_PRESSED, 0, 0);
+        FXTestUtils.fireMouseEvent(view, MouseEvent.MOUSE_DRAGGED, endX, endY);
+        FXTestUtils.fireMouseEvent(view, MouseEvent.MOUSE_RELEASED, endX, endY);
+        assertFalse("Moved node should no longer be inside the box.", graphEditor.getSelectionManager().isSelected(node));
+    }
+
     @Test
     public void moveJointAndUpdateLayout() {
 
@@ -194,6 +638,275 @@ public class GraphEditorTest {
         assertTrue("Second joint should have moved right by 17 pixels.", secondJointFinalX == secondJointInitialX + 17);
     }
 
+    @Test
+    public void moveJointAndRedrawIncrementally() {
+
+        graphEditor.getProperties().getCustomProperties().put(DefaultConnectionLayouter.INCREMENTAL_DRAW_KEY, "true");
+
+        final GConnection connection = model.getConnections().get(1);
+        final GJoint firstJoint = connection.getJoints().get(0);
+        final GJointSkin firstJointSkin = skinLookup.lookupJoint(firstJoint);
+
+        final double expectedX = GeometryUtils.moveOffPixel(firstJoint.getX() + 17);
+
+        FXTestUtils.dragBy(firstJointSkin.getRoot(), 17, 0);
+
+        final Path path = (Path) ((Group) skinLookup.lookupConnection(connection).getRoot()).getChildren().get(1);
+        final boolean redrawn = path.getElements()
+                .stream()
+                .anyMatch(e -> e instanceof HLineTo h && h.getX() == expectedX);
+
+        assertTrue("Connection should have been redrawn to the moved joint.", redrawn);
+    }
+
+    @Test
+    public void updateCoordinatesReusesBuffer() {
+
+        final GConnection connection = model.getConnections().get(0);
+        final GConnectionSkin connectionSkin = skinLookup.lookupConnection(connection);
+
+        final double[] coordinates = connectionSkin.updateCoordinates();
+        final double[] initial = coordinates.clone();
+
+        FXTestUtils.dragBy(skinLookup.lookupJoint(connection.getJoints().get(0)).getRoot(), 17, 0);
+        final double[] updated = connectionSkin.updateCoordinates();
+
+        final List<Point2D> expected = new ArrayList<>();
+        expected.add(GeometryUtils.getConnectorPosition(connection.getSource(), skinLookup));
+        for (final GJoint joint : connection.getJoints()) {
+            expected.add(GeometryUtils.getJointPosition(joint, skinLookup));
+        }
+        expected.add(GeometryUtils.getConnectorPosition(connection.getTarget(), skinLookup));
+
+        assertSame("The coordinate buffer should be reused.", coordinates, updated);
+        assertFalse("The coordinates should follow the moved joint.", Arrays.equals(initial, updated));
+        assertEquals("There should be one coordinate pair per point.", 2 * expected.size(), updated.length);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals("x of point " + i, expected.get(i).getX(), updated[2 * i], 0);
+            assertEquals("y of point " + i, expected.get(i).getY(), updated[2 * i + 1], 0);
+        }
+    }
+
+    @Test
+    public void redrawReusesPathElements() {
+
+        final GConnection connection = model.getConnections().get(0);
+        final Path path = (Path) ((Group) skinLookup.lookupConnection(connection).getRoot()).getChildren().get(1);
+        final List<PathElement> initialElements = new ArrayList<>(path.getElements());
+
+        FXTestUtils.dragBy(skinLookup.lookupJoint(connection.getJoints().get(0)).getRoot(), 17, 0);
+        graphEditor.getView().layout();
+
+        // the drag does not change the shape of the connection, only its coordinates:
+        assertEquals("Element count should not change.", initialElements.size(), path.getElements().size());
+        for (int i = 0; i < initialElements.size(); i++) {
+            assertSame("Path element " + i + " should be reused.", initialElements.get(i), path.getElements().get(i));
+        }
+    }
+
+    @Test
+    public void virtualizedViewDetachesOffscreenSkins() {
+
+        final Pane window = new Pane(graphEditor.getView());
+        window.resize(100, 100);
+        graphEditor.getProperties().getCustomProperties().put(GraphEditorView.VIRTUALIZED_KEY, "true");
+
+        final GNode node = model.getNodes().get(0);
+        final GNodeSkin nodeSkin = skinLookup.lookupNode(node);
+        final GJointSkin jointSkin = skinLookup.lookupJoint(model.getConnections().get(0).getJoints().get(0));
+
+        graphEditor.getView().relocate(-100000, -100000);
+
+        assertNull("Off-screen node should be detached.", nodeSkin.getRoot().getParent());
+        assertNull("Off-screen joint should be detached.", jointSkin.getRoot().getParent());
+        assertTrue("Off-screen node skin should still exist.", skinLookup.lookupNode(node) == nodeSkin);
+
+        graphEditor.getSelectionManager().select(node);
+        assertTrue("Off-screen node should be selectable.", nodeSkin.isSelected());
+
+        graphEditor.getView().relocate(-node.getX(), -node.getY());
+        assertNotNull("Visible node should be attached.", nodeSkin.getRoot().getParent());
+
+        graphEditor.getView().relocate(-100000, -100000);
+        graphEditor.getProperties().getCustomProperties().remove(GraphEditorView.VIRTUALIZED_KEY);
+        assertNotNull("All skins should be attached when not virtualized.", jointSkin.getRoot().getParent());
+    }
+
+    @Test
+    public void virtualizedViewKeepsStackingOrder() {
+
+        final Pane window = new Pane(graphEditor.getView());
+        window.resize(100, 100);
+
+        final GNodeSkin nodeSkin = skinLookup.lookupNode(model.getNodes().get(0));
+        final GConnectionSkin connectionSkin = skinLookup.lookupConnection(model.getConnections().get(0));
+        final List<Node> nodeOrder = new ArrayList<>(nodeSkin.getRoot().getParent().getChildrenUnmodifiable());
+        final List<Node> connectionOrder = new ArrayList<>(connectionSkin.getRoot().getParent().getChildrenUnmodifiable());
+
+        graphEditor.getProperties().getCustomProperties().put(GraphEditorView.VIRTUALIZED_KEY, "true");
+        graphEditor.getView().relocate(-100000, -100000);
+        assertNull("Off-screen node should be detached.", nodeSkin.getRoot().getParent());
+
+        final GNode lastNode = model.getNodes().get(model.getNodes().size() - 1);
+        graphEditor.getView().relocate(-lastNode.getX(), -lastNode.getY());
+        final Parent nodeLayer = skinLookup.lookupNode(lastNode).getRoot().getParent();
+        final List<Node> attachedNodes = new ArrayList<>(nodeLayer.getChildrenUnmodifiable());
+        assertEquals("Attached nodes should keep their order.",
+                nodeOrder.stream().filter(attachedNodes::contains).toList(), attachedNodes);
+
+        graphEditor.getProperties().getCustomProperties().remove(GraphEditorView.VIRTUALIZED_KEY);
+        assertEquals("Nodes should be back in their order.", nodeOrder,
+                nodeSkin.getRoot().getParent().getChildrenUnmodifiable());
+        assertEquals("Connections and joints should be back in their order.", connectionOrder,
+                connectionSkin.getRoot().getParent().getChildrenUnmodifiable());
+    }
+
+    @Test
+    public void gridOnlyDrawsVisibleTiles() {
+
+        final Pane window = new Pane(graphEditor.getView());
+        window.resize(100, 100);
+        graphEditor.getView().resize(20000, 20000);
+        graphEditor.getView().layout();
+
+        final Path grid = (Path) ((Region) graphEditor.getView().lookup(".graph-editor-grid"))
+                .getChildrenUnmodifiable().get(0);
+        final int elementCount = grid.getElements().size();
+        assertTrue("Only the visible tile should be drawn.", elementCount > 0 && elementCount < 200);
+
+        final PathElement first = grid.getElements().get(0);
+        graphEditor.getView().relocate(-10, -10);
+        assertTrue("Grid should not be redrawn inside the drawn tile.", grid.getElements().get(0) == first);
+
+        graphEditor.getView().relocate(-10000, -10000);
+        final MoveTo moveTo = (MoveTo) grid.getElements().get(0);
+        assertTrue("Grid should be redrawn for the new tile.", moveTo.getX() >= 9000 && moveTo.getY() >= 9000);
+        assertTrue("Only the visible tiles should be drawn.", grid.getElements().size() < 400);
+    }
+
+    @Test
+    public void zoomOutReducesDetailLevel() {
+
+        graphEditor.getProperties().getCustomProperties().put(GraphEditorView.DETAIL_LEVEL_REDUCED_ZOOM_KEY, "0.75");
+        graphEditor.getProperties().getCustomProperties().put(GraphEditorView.DETAIL_LEVEL_MINIMAL_ZOOM_KEY, "0.5");
+
+        final GNode node = model.getNodes().get(0);
+        final GNodeSkin nodeSkin = skinLookup.lookupNode(node);
+        final GConnectorSkin connectorSkin = skinLookup.lookupConnector(node.getConnectors().get(0));
+        final GJointSkin jointSkin = skinLookup.lookupJoint(model.getConnections().get(0).getJoints().get(0));
+
+        final Scale scale = new Scale(0.6, 0.6);
+        graphEditor.getView().getTransforms().add(scale);
+
+        assertTrue("Node should be drawn with reduced detail.", nodeSkin.getDetailLevel() == DetailLevel.REDUCED);
+        assertFalse("Connector should be hidden.", connectorSkin.getRoot().isVisible());
+        assertFalse("Joint should be hidden.", jointSkin.getRoot().isVisible());
+
+        scale.setX(0.4);
+        assertTrue("Node should be drawn with minimal detail.", nodeSkin.getDetailLevel() == DetailLevel.MINIMAL);
+
+        scale.setX(1);
+        assertTrue("Node should be drawn with full detail.", nodeSkin.getDetailLevel() == DetailLevel.FULL);
+        assertTrue("Connector should be visible.", connectorSkin.getRoot().isVisible());
+        assertTrue("Joint should be visible.", jointSkin.getRoot().isVisible());
+    }
+
+    @Test
+    public void canvasLayouterPaintsUnselectedConnections() throws InterruptedException
+    {
+        final GraphEditorProperties properties = new GraphEditorProperties();
+        properties.getCustomProperties().put(CanvasConnectionLayouter.CANVAS_KEY, "true");
+        final GraphEditor canvasEditor = new DefaultGraphEditor(properties);
+        final GModel canvasModel = DummyDataFactory.createModel();
+        canvasEditor.setModel(canvasModel);
+
+        final CountDownLatch wait = new CountDownLatch(1);
+        Platform.runLater(() ->
+        {
+            canvasEditor.reload();
+            wait.countDown();
+        });
+        wait.await();
+        canvasEditor.getView().autosize();
+        canvasEditor.getView().layout();
+
+        final GConnection connection = canvasModel.getConnections().get(0);
+        final GConnectionSkin connectionSkin = canvasEditor.getSkinLookup().lookupConnection(connection);
+        final boolean tilesPainted = canvasEditor.getView()
+                .getChildrenUnmodifiable()
+                .stream()
+                .anyMatch(n -> n.getStyleClass().contains("graph-editor-connection-canvas-layer")
+                        && !((Pane) n).getChildren().isEmpty());
+
+        assertFalse("Unselected connection should be painted.", connectionSkin.getRoot().isVisible());
+        assertTrue("Canvas tiles should exist.", tilesPainted);
+
+        canvasEditor.getSelectionManager().select(connection);
+        canvasEditor.getView().layout();
+
+        assertTrue("Selected connection should be promoted.", connectionSkin.getRoot().isVisible());
+    }
+
+    @Test
+    public void coalescedProcessingWaitsForPulse() throws InterruptedException
+    {
+        graphEditor.getProperties().getCustomProperties().put(GraphEditorController.COALESCE_PROCESSING_KEY, "true");
+
+        final GNode node = model.getNodes().get(0);
+        final GNodeSkin nodeSkin = skinLookup.lookupNode(node);
+        final double initialX = nodeSkin.getRoot().getLayoutX();
+
+        final boolean[] deferred = new boolean[1];
+        final CountDownLatch executed = new CountDownLatch(1);
+        Platform.runLater(() ->
+        {
+            for (int i = 1; i <= 10; i++)
+            {
+                commandStack.execute(SetCommand.create(editingDomain, node, GraphPackage.Literals.GNODE__X, initialX + i));
+            }
+            deferred[0] = nodeSkin.getRoot().getLayoutX() == initialX;
+            executed.countDown();
+        });
+        executed.await();
+        assertTrue("Processing should be deferred to the next pulse.", deferred[0]);
+
+        final long timeout = System.currentTimeMillis() + 5000;
+        while (nodeSkin.getRoot().getLayoutX() != initialX + 10 && System.currentTimeMillis() < timeout)
+        {
+            Thread.sleep(10);
+        }
+
+        assertTrue("Node should be relocated after the pulse.", nodeSkin.getRoot().getLayoutX() == initialX + 10);
+    }
+
+    @Test
+    public void loadModelCreatesSkinsInStages() throws Exception
+    {
+        final GModel largeModel = DummyDataFactory.createModel();
+        for (int i = 0; i < 2000; i++) {
+            final GNode node = DummyDataFactory.createNode();
+            node.setX(i % 50 * 150);
+            node.setY(i / 50 * 150);
+            largeModel.getNodes().add(node);
+        }
+
+        final List<Double> progress = new ArrayList<>();
+        graphEditor.loadProgressProperty().addListener((w, o, n) -> progress.add(n.doubleValue()));
+
+        final GModel loaded = graphEditor.loadModel(largeModel).get(30, TimeUnit.SECONDS);
+
+        assertTrue("Loaded model should be set.", loaded == largeModel && graphEditor.getModel() == largeModel);
+        assertTrue("Loading should be complete.", graphEditor.loadProgressProperty().get() == 1);
+        assertTrue("Progress should have been reported.", progress.size() > 2);
+        for (final GNode node : largeModel.getNodes()) {
+            assertNotNull("Node skin should exist.", skinLookup.lookupNode(node));
+            assertNotNull("Connector skin should exist.", skinLookup.lookupConnector(node.getConnectors().get(0)));
+        }
+        for (final GConnection connection : largeModel.getConnections()) {
+            assertNotNull("Connection skin should exist.", skinLookup.lookupConnection(connection));
+        }
+    }
+
     /**
      * Adds a node to the model that has an input and output connector.
      *
@@ -204,4 +917,11 @@ public class GraphEditorTest {
         Commands.addNode(model, node);
         return node;
     }
+
+    private static class TypedNodeSkin extends DefaultNodeSkin {
+
+        TypedNodeSkin(final GNode node) {
+            super(node);
+        }
+    }
 }
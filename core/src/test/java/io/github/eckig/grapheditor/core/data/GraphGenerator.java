@@ -0,0 +1,367 @@
+/*
+ * Copyright (C) 2005 - 2014 by TESIS DYNAware GmbH
+ */
+package io.github.eckig.grapheditor.core.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.emf.ecore.util.InternalEList;
+
+import io.github.eckig.grapheditor.core.connectors.DefaultConnectorTypes;
+import io.github.eckig.grapheditor.model.GConnection;
+import io.github.eckig.grapheditor.model.GConnector;
+import io.github.eckig.grapheditor.model.GJoint;
+import io.github.eckig.grapheditor.model.GModel;
+import io.github.eckig.grapheditor.model.GNode;
+import io.github.eckig.grapheditor.model.GraphFactory;
+import io.github.eckig.grapheditor.model.GraphPackage;
+
+/**
+ * Generates large {@link GModel} instances for tests and benchmarks.
+ *
+ * <p>
+ * The generated model only depends on the configuration and the seed, so the same configuration always produces the
+ * same model. Inputs are placed on the left and outputs on the right of every node, and every connection is
+ * rectangular with an even number of joints, so the models work with the default skins.
+ * </p>
+ *
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * <code>GModel model = new GraphGenerator().setNodeCount(10000).setLayout(Layout.CROSSING_BUNDLES).generate();</code>
+ * </pre>
+ */
+public class GraphGenerator {
+
+    /**
+     * How the nodes are placed and connected.
+     */
+    public enum Layout {
+
+        /**
+         * Nodes on a square grid, connected to nodes in the next column a few rows up or down.
+         */
+        GRID,
+
+        /**
+         * Nodes at random positions, connected to random other nodes. Produces long connections with many crossings.
+         */
+        RANDOM,
+
+        /**
+         * A tree whose levels are laid out as columns from left to right. Every node except the root is connected to
+         * its parent, further connections go to random nodes of the next level.
+         */
+        LAYERED_TREE,
+
+        /**
+         * Nodes in columns, where every connection goes to the mirrored row of the next column. So all connections
+         * between two columns cross each other, the worst case for intersections.
+         */
+        CROSSING_BUNDLES
+    }
+
+    private static final double NODE_WIDTH = 100;
+    private static final double NODE_HEIGHT = 60;
+    private static final double MAX_EXTRA_SIZE = 60;
+    private static final double SPACING_X = 250;
+    private static final double SPACING_Y = 150;
+    private static final int TREE_BRANCHING = 3;
+    private static final int GRID_ROW_RANGE = 2;
+
+    private int nodeCount = 100;
+    private int connectorsPerNode = 2;
+    private double connectionDensity = 1;
+    private int jointCount = 2;
+    private Layout layout = Layout.GRID;
+    private long seed = 0;
+
+    private Random random;
+
+    /**
+     * Sets the number of nodes. Defaults to 100.
+     *
+     * @param nodeCount the number of nodes
+     * @return this generator
+     */
+    public GraphGenerator setNodeCount(final int nodeCount) {
+        if (nodeCount < 0) {
+            throw new IllegalArgumentException("Negative node count: " + nodeCount);
+        }
+        this.nodeCount = nodeCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of connectors of every node, the first half of them are inputs, the rest outputs. Defaults to
+     * 2.
+     *
+     * @param connectorsPerNode the number of connectors, at least 2
+     * @return this generator
+     */
+    public GraphGenerator setConnectorsPerNode(final int connectorsPerNode) {
+        if (connectorsPerNode < 2) {
+            throw new IllegalArgumentException("Every node needs an input and an output: " + connectorsPerNode);
+        }
+        this.connectorsPerNode = connectorsPerNode;
+        return this;
+    }
+
+    /**
+     * Sets the number of connections per node. Defaults to 1.
+     *
+     * @param connectionDensity the number of connections per node
+     * @return this generator
+     */
+    public GraphGenerator setConnectionDensity(final double connectionDensity) {
+        if (connectionDensity < 0) {
+            throw new IllegalArgumentException("Negative connection density: " + connectionDensity);
+        }
+        this.connectionDensity = connectionDensity;
+        return this;
+    }
+
+    /**
+     * Sets the number of joints of every connection. Defaults to 2.
+     *
+     * @param jointCount an even number of joints, as required for rectangular connections between left and right
+     *            connectors
+     * @return this generator
+     */
+    public GraphGenerator setJointCount(final int jointCount) {
+        if (jointCount < 0 || (jointCount & 1) == 1) {
+            throw new IllegalArgumentException("Joint count must be even: " + jointCount);
+        }
+        this.jointCount = jointCount;
+        return this;
+    }
+
+    /**
+     * Sets the {@link Layout}. Defaults to {@link Layout#GRID}.
+     *
+     * @param layout the {@link Layout}
+     * @return this generator
+     */
+    public GraphGenerator setLayout(final Layout layout) {
+        this.layout = layout;
+        return this;
+    }
+
+    /**
+     * Sets the seed of the random numbers. Defaults to 0.
+     *
+     * @param seed the seed
+     * @return this generator
+     */
+    public GraphGenerator setSeed(final long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Generates a new model with the current configuration.
+     *
+     * @return a new {@link GModel}
+     */
+    public GModel generate() {
+
+        // Need to instantiate this to make metamodel available.
+        @SuppressWarnings("unused")
+        final GraphPackage packageInstance = GraphPackage.eINSTANCE;
+
+        random = new Random(seed);
+
+        final List<GNode> nodes = new ArrayList<>(nodeCount);
+        final int rows = Math.max(1, (int) Math.ceil(Math.sqrt(nodeCount)));
+        for (int i = 0; i < nodeCount; i++) {
+            nodes.add(createNode(i));
+        }
+        placeNodes(nodes, rows);
+
+        final List<GConnection> connections = new ArrayList<>();
+        if (nodeCount > 1) {
+            connectNodes(nodes, rows, connections);
+        }
+
+        final GModel model = GraphFactory.eINSTANCE.createGModel();
+        double maxX = 0;
+        double maxY = 0;
+        for (final GNode node : nodes) {
+            maxX = Math.max(maxX, node.getX() + node.getWidth());
+            maxY = Math.max(maxY, node.getY() + node.getHeight());
+        }
+        model.setContentWidth(Math.max(maxX + SPACING_X, model.getContentWidth()));
+        model.setContentHeight(Math.max(maxY + SPACING_Y, model.getContentHeight()));
+
+        // the generated lists are unique, skip the linear uniqueness check:
+        ((InternalEList<GNode>) model.getNodes()).addAllUnique(nodes);
+        ((InternalEList<GConnection>) model.getConnections()).addAllUnique(connections);
+        return model;
+    }
+
+    private GNode createNode(final int index) {
+
+        final GNode node = GraphFactory.eINSTANCE.createGNode();
+        node.setId("node-" + index);
+        node.setWidth(NODE_WIDTH + Math.floor(random.nextDouble() * MAX_EXTRA_SIZE));
+        node.setHeight(NODE_HEIGHT + Math.floor(random.nextDouble() * MAX_EXTRA_SIZE));
+
+        final int inputs = connectorsPerNode / 2;
+        for (int i = 0; i < connectorsPerNode; i++) {
+            final GConnector connector = GraphFactory.eINSTANCE.createGConnector();
+            connector.setId(node.getId() + "-connector-" + i);
+            connector.setType(i < inputs ? DefaultConnectorTypes.LEFT_INPUT : DefaultConnectorTypes.RIGHT_OUTPUT);
+            node.getConnectors().add(connector);
+        }
+        return node;
+    }
+
+    private void placeNodes(final List<GNode> nodes, final int rows) {
+
+        for (int i = 0; i < nodes.size(); i++) {
+            final GNode node = nodes.get(i);
+            switch (layout) {
+            case RANDOM:
+                node.setX(Math.floor(random.nextDouble() * rows * SPACING_X));
+                node.setY(Math.floor(random.nextDouble() * rows * SPACING_Y));
+                break;
+            case LAYERED_TREE:
+                final int level = treeLevel(i);
+                node.setX(level * SPACING_X);
+                node.setY((i - treeLevelStart(level)) * SPACING_Y);
+                break;
+            case GRID:
+            case CROSSING_BUNDLES:
+            default:
+                node.setX(i / rows * SPACING_X);
+                node.setY(i % rows * SPACING_Y);
+                break;
+            }
+        }
+    }
+
+    private void connectNodes(final List<GNode> nodes, final int rows, final List<GConnection> connections) {
+
+        final int connectionCount = (int) Math.round(nodeCount * connectionDensity);
+
+        if (layout == Layout.LAYERED_TREE) {
+            for (int i = 1; i < nodeCount && connections.size() < connectionCount; i++) {
+                connections.add(connect(nodes.get((i - 1) / TREE_BRANCHING), nodes.get(i), connections.size()));
+            }
+        }
+
+        int attempts = 0;
+        while (connections.size() < connectionCount && attempts++ < 4 * connectionCount) {
+            final int source = random.nextInt(nodeCount);
+            final int target = pickTarget(source, rows);
+            if (target >= 0 && target < nodeCount && target != source) {
+                connections.add(connect(nodes.get(source), nodes.get(target), connections.size()));
+            }
+        }
+    }
+
+    /**
+     * @return the index of the target node for a connection from the given source node, or {@code -1} if the source
+     *         node has no suitable target
+     */
+    private int pickTarget(final int source, final int rows) {
+
+        switch (layout) {
+        case RANDOM:
+            return random.nextInt(nodeCount);
+        case LAYERED_TREE:
+            final int nextLevel = treeLevel(source) + 1;
+            final int start = treeLevelStart(nextLevel);
+            if (start >= nodeCount) {
+                return -1;
+            }
+            final int end = Math.min(nodeCount, treeLevelStart(nextLevel + 1));
+            return start + random.nextInt(end - start);
+        case CROSSING_BUNDLES:
+            final int column = source / rows;
+            final int row = source % rows;
+            return (column + 1) * rows + rows - 1 - row;
+        case GRID:
+        default:
+            final int targetRow = source % rows + random.nextInt(2 * GRID_ROW_RANGE + 1) - GRID_ROW_RANGE;
+            if (targetRow < 0 || targetRow >= rows) {
+                return -1;
+            }
+            return (source / rows + 1) * rows + targetRow;
+        }
+    }
+
+    /**
+     * @return the level of the given node in the layered tree, starting with 0 for the root
+     */
+    private static int treeLevel(final int index) {
+        int level = 0;
+        while (treeLevelStart(level + 1) <= index) {
+            level++;
+        }
+        return level;
+    }
+
+    /**
+     * @return the index of the first node of the given level in the layered tree
+     */
+    private static int treeLevelStart(final int level) {
+        // 1 + b + b^2 + ... + b^(level - 1)
+        long start = 0;
+        long levelSize = 1;
+        for (int i = 0; i < level && start <= Integer.MAX_VALUE; i++) {
+            start += levelSize;
+            levelSize *= TREE_BRANCHING;
+        }
+        return (int) Math.min(start, Integer.MAX_VALUE);
+    }
+
+    private GConnection connect(final GNode sourceNode, final GNode targetNode, final int index) {
+
+        final int inputs = connectorsPerNode / 2;
+        final GConnector source = sourceNode.getConnectors().get(inputs + random.nextInt(connectorsPerNode - inputs));
+        final GConnector target = targetNode.getConnectors().get(random.nextInt(inputs));
+
+        final GConnection connection = GraphFactory.eINSTANCE.createGConnection();
+        connection.setId("connection-" + index);
+        connection.setSource(source);
+        connection.setTarget(target);
+        source.getConnections().add(connection);
+        target.getConnections().add(connection);
+
+        addJoints(connection, sourceNode.getX() + sourceNode.getWidth(),
+                sourceNode.getY() + sourceNode.getHeight() / 2, targetNode.getX(),
+                targetNode.getY() + targetNode.getHeight() / 2);
+        return connection;
+    }
+
+    /**
+     * Adds joints for a staircase from the source to the target position: horizontal, vertical, horizontal and so
+     * on.
+     */
+    private void addJoints(final GConnection connection, final double startX, final double startY, final double endX,
+            final double endY) {
+
+        final int steps = jointCount / 2;
+        for (int i = 0; i < steps; i++) {
+            final double x = Math.floor(startX + (endX - startX) * (i + 1) / (steps + 1));
+            final double fromY = Math.floor(startY + (endY - startY) * i / steps);
+            final double toY = Math.floor(startY + (endY - startY) * (i + 1) / steps);
+            connection.getJoints().add(createJoint(connection, x, fromY));
+            connection.getJoints().add(createJoint(connection, x, toY));
+        }
+    }
+
+    private static GJoint createJoint(final GConnection connection, final double x, final double y) {
+
+        final GJoint joint = GraphFactory.eINSTANCE.createGJoint();
+        joint.setId(connection.getId() + "-joint-" + connection.getJoints().size());
+        joint.setX(x);
+        joint.setY(y);
+        return joint;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2005 - 2014 by TESIS DYNAware GmbH
+ */
+package io.github.eckig.grapheditor.core.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import io.github.eckig.grapheditor.core.connections.RectangularConnections;
+import io.github.eckig.grapheditor.core.data.GraphGenerator.Layout;
+import io.github.eckig.grapheditor.model.GConnection;
+import io.github.eckig.grapheditor.model.GModel;
+import io.github.eckig.grapheditor.model.GNode;
+
+public class GraphGeneratorTest {
+
+    @Test
+    public void sameSeedGeneratesSameModel() {
+
+        for (final Layout layout : Layout.values()) {
+            final GModel first = new GraphGenerator().setNodeCount(500).setLayout(layout).setSeed(7).generate();
+            final GModel second = new GraphGenerator().setNodeCount(500).setLayout(layout).setSeed(7).generate();
+            final GModel other = new GraphGenerator().setNodeCount(500).setLayout(layout).setSeed(8).generate();
+
+            assertEquals(describe(first), describe(second));
+            assertNotEquals(describe(first), describe(other));
+        }
+    }
+
+    @Test
+    public void generatesConfiguredElements() {
+
+        for (final Layout layout : Layout.values()) {
+            final GModel model = new GraphGenerator().setNodeCount(400)
+                    .setConnectorsPerNode(4)
+                    .setConnectionDensity(1.5)
+                    .setJointCount(4)
+                    .setLayout(layout)
+                    .generate();
+
+            assertEquals(400, model.getNodes().size());
+            assertTrue(layout + " should be densely connected", model.getConnections().size() > 400);
+            for (final GNode node : model.getNodes()) {
+                assertEquals(4, node.getConnectors().size());
+            }
+            for (final GConnection connection : model.getConnections()) {
+                assertEquals(4, connection.getJoints().size());
+                assertTrue(RectangularConnections.checkJointCount(connection));
+                assertTrue(connection.getSource().getConnections().contains(connection));
+                assertTrue(connection.getTarget().getConnections().contains(connection));
+                assertNotEquals(connection.getSource().getParent(), connection.getTarget().getParent());
+            }
+        }
+    }
+
+    private static String describe(final GModel model) {
+
+        final StringBuilder builder = new StringBuilder();
+        for (final GNode node : model.getNodes()) {
+            builder.append(node.getX()).append(',').append(node.getY()).append(',').append(node.getWidth()).append(';');
+        }
+        for (final GConnection connection : model.getConnections()) {
+            builder.append(connection.getSource().getId()).append('>').append(connection.getTarget().getId()).append(';');
+        }
+        return builder.toString();
+    }
+}
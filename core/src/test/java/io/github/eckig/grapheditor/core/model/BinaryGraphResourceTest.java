@@ -0,0 +1,157 @@
+package io.github.eckig.grapheditor.core.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.github.eckig.grapheditor.core.data.DummyDataFactory;
+import io.github.eckig.grapheditor.model.GConnection;
+import io.github.eckig.grapheditor.model.GModel;
+import io.github.eckig.grapheditor.model.GraphFactory;
+
+public class BinaryGraphResourceTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static final URI URI_BINARY = URI.createFileURI("test." + BinaryGraphResourceFactory.FILE_EXTENSION);
+
+    @Test
+    public void saveAndLoadKeepsModel() throws IOException {
+
+        final GModel model = DummyDataFactory.createModel();
+        final GModel loaded = (GModel) load(save(model)).getContents().get(0);
+
+        assertTrue("Loaded model should equal the saved model.", EcoreUtil.equals(model, loaded));
+
+        final GConnection connection = loaded.getConnections().get(0);
+        assertSame(loaded, EcoreUtil.getRootContainer(connection.getSource()));
+        assertTrue(connection.getSource().getConnections().contains(connection));
+        assertTrue(connection.getTarget().getConnections().contains(connection));
+    }
+
+    @Test
+    public void binaryIsSmallerThanXmi() throws IOException {
+
+        final GModel model = DummyDataFactory.createModel();
+
+        final Resource xmi = new XMIResourceFactoryImpl().createResource(URI.createFileURI("test.graph"));
+        xmi.getContents().add(EcoreUtil.copy(model));
+        final ByteArrayOutputStream xmiBytes = new ByteArrayOutputStream();
+        xmi.save(xmiBytes, Collections.emptyMap());
+
+        assertTrue(save(model).length < xmiBytes.size());
+    }
+
+    @Test
+    public void emptyResource() throws IOException {
+
+        final Resource resource = new BinaryGraphResourceFactory().createResource(URI_BINARY);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        resource.save(bytes, Collections.emptyMap());
+
+        assertEquals(0, load(bytes.toByteArray()).getContents().size());
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsOtherFormats() throws IOException {
+
+        load(new byte[] { 1, 2, 3, 4, 5 });
+    }
+
+    @Test
+    public void nullStringsAreKept() throws IOException {
+
+        final GModel model = DummyDataFactory.createModel();
+        model.getNodes().get(0).setType(null);
+
+        final GModel loaded = (GModel) load(save(model)).getContents().get(0);
+        assertNull(loaded.getNodes().get(0).getType());
+    }
+
+    @Test
+    public void mappedLoadKeepsModel() throws IOException {
+
+        final GModel model = DummyDataFactory.createModel();
+        final File file = folder.newFile("test." + BinaryGraphResourceFactory.FILE_EXTENSION);
+        Files.write(file.toPath(), save(EcoreUtil.copy(model)));
+
+        assertTrue(EcoreUtil.equals(model, loadMapped(file).getContents().get(0)));
+    }
+
+    @Test
+    public void emptyResourceRoundTripsThroughMappedFile() throws IOException {
+
+        final Resource empty = new BinaryGraphResourceFactory().createResource(URI_BINARY);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        empty.save(bytes, Collections.emptyMap());
+        final File file = folder.newFile("empty." + BinaryGraphResourceFactory.FILE_EXTENSION);
+        Files.write(file.toPath(), bytes.toByteArray());
+
+        assertEquals(0, loadMapped(file).getContents().size());
+    }
+
+    @Test
+    public void modelWithoutNodesRoundTripsThroughMappedFile() throws IOException {
+
+        final GModel model = GraphFactory.eINSTANCE.createGModel();
+        model.setContentWidth(10);
+        final File file = folder.newFile("nodes." + BinaryGraphResourceFactory.FILE_EXTENSION);
+        Files.write(file.toPath(), save(EcoreUtil.copy(model)));
+
+        assertTrue(EcoreUtil.equals(model, loadMapped(file).getContents().get(0)));
+    }
+
+    @Test(expected = IOException.class)
+    public void mappedLoadRejectsTruncatedFiles() throws IOException {
+
+        final byte[] bytes = save(DummyDataFactory.createModel());
+        final File file = folder.newFile("truncated." + BinaryGraphResourceFactory.FILE_EXTENSION);
+        Files.write(file.toPath(), Arrays.copyOf(bytes, bytes.length / 2));
+
+        loadMapped(file);
+    }
+
+    private static byte[] save(final GModel model) throws IOException {
+
+        final Resource resource = new BinaryGraphResourceFactory().createResource(URI_BINARY);
+        resource.getContents().add(model);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        resource.save(bytes, Collections.emptyMap());
+        return bytes.toByteArray();
+    }
+
+    private static Resource loadMapped(final File file) throws IOException {
+
+        // not createFileURI(), interning absolute paths breaks URI.createFileURI("") when assertions are enabled:
+        final URI uri = URI.createURI(file.toURI().toString());
+        final Resource resource = new BinaryGraphResourceFactory().createResource(uri);
+        resource.load(Collections.singletonMap(BinaryGraphResource.OPTION_MEMORY_MAPPED, Boolean.TRUE));
+        return resource;
+    }
+
+    private static Resource load(final byte[] bytes) throws IOException {
+
+        final Resource resource = new BinaryGraphResourceFactory().createResource(URI_BINARY);
+        resource.load(new ByteArrayInputStream(bytes), Collections.emptyMap());
+        return resource;
+    }
+}
@@ -0,0 +1,149 @@
+package io.github.eckig.grapheditor.core.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.common.command.Command;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.domain.EditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.junit.Test;
+
+import io.github.eckig.grapheditor.core.data.GraphGenerator;
+import io.github.eckig.grapheditor.model.GConnection;
+import io.github.eckig.grapheditor.model.GConnector;
+import io.github.eckig.grapheditor.model.GModel;
+import io.github.eckig.grapheditor.model.GNode;
+
+public class GraphFragmentTest {
+
+    @Test
+    public void copiesNodesAndInnerConnections() {
+
+        final GModel model = new GraphGenerator().setNodeCount(400).setConnectionDensity(2).setJointCount(4).generate();
+        final List<GNode> selection = new ArrayList<>(model.getNodes().subList(0, 200));
+        final Set<GNode> selected = new HashSet<>(selection);
+
+        int innerConnections = 0;
+        for (final GConnection connection : model.getConnections()) {
+            if (selected.contains(connection.getSource().getParent())
+                    && selected.contains(connection.getTarget().getParent())) {
+                innerConnections++;
+            }
+        }
+
+        final GraphFragment fragment = GraphFragment.copy(selection);
+
+        assertEquals(200, fragment.getNodes().size());
+        assertEquals(innerConnections, fragment.getConnections().size());
+        for (final GConnection connection : fragment.getConnections()) {
+            assertTrue(fragment.getNodes().contains(connection.getSource().getParent()));
+            assertTrue(fragment.getNodes().contains(connection.getTarget().getParent()));
+            assertTrue(connection.getSource().getConnections().contains(connection));
+            assertTrue(connection.getTarget().getConnections().contains(connection));
+            assertEquals(4, connection.getJoints().size());
+        }
+        for (final GNode node : fragment.getNodes()) {
+            assertNull(node.eContainer());
+            for (final GConnector connector : node.getConnectors()) {
+                for (final GConnection connection : connector.getConnections()) {
+                    assertTrue("Connectors should only reference copied connections.",
+                            fragment.getConnections().contains(connection));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void pasteAddsCopiesAndUndoes() {
+
+        final GModel model = new GraphGenerator().setNodeCount(50).generate();
+        final EditingDomain editingDomain = createEditingDomain(model);
+        final int nodeCount = model.getNodes().size();
+        final int connectionCount = model.getConnections().size();
+
+        final GraphFragment fragment = GraphFragment.copy(model.getNodes());
+        final GraphFragment pasted = fragment.copy();
+        pasted.translate(20, 10);
+
+        final Command command = pasted.createAddCommand(editingDomain, model);
+        assertTrue(command.canExecute());
+        editingDomain.getCommandStack().execute(command);
+
+        assertEquals(2 * nodeCount, model.getNodes().size());
+        assertEquals(2 * connectionCount, model.getConnections().size());
+        assertSame(model, pasted.getNodes().get(0).eContainer());
+        assertEquals(model.getNodes().get(0).getX() + 20, pasted.getNodes().get(0).getX(), 0);
+        assertNotSame(fragment.getNodes().get(0), pasted.getNodes().get(0));
+        assertNull("The fragment itself should be left untouched.", fragment.getNodes().get(0).eContainer());
+
+        editingDomain.getCommandStack().undo();
+
+        assertEquals(nodeCount, model.getNodes().size());
+        assertEquals(connectionCount, model.getConnections().size());
+        assertFalse(model.getNodes().contains(pasted.getNodes().get(0)));
+    }
+
+    @Test
+    public void bytesKeepFragment() throws IOException {
+
+        final GModel model = new GraphGenerator().setNodeCount(100).setJointCount(2).generate();
+        final GraphFragment fragment = GraphFragment.copy(model.getNodes().subList(0, 60));
+
+        final GraphFragment read = GraphFragment.fromBytes(fragment.toBytes());
+
+        assertNull("Writing should not attach the elements.", fragment.getNodes().get(0).eContainer());
+        assertNull("Read elements should be detached.", read.getNodes().get(0).eContainer());
+        assertTrue(EcoreUtil.equals(fragment.getNodes(), read.getNodes()));
+        assertTrue(EcoreUtil.equals(fragment.getConnections(), read.getConnections()));
+    }
+
+    @Test
+    public void bytesOfPastedFragmentKeepModel() throws IOException {
+
+        final GModel model = new GraphGenerator().setNodeCount(20).setJointCount(2).generate();
+        final EditingDomain editingDomain = createEditingDomain(model);
+        final GraphFragment pasted = GraphFragment.copy(model.getNodes().subList(0, 10));
+        editingDomain.getCommandStack().execute(pasted.createAddCommand(editingDomain, model));
+        final int nodeCount = model.getNodes().size();
+        final int connectionCount = model.getConnections().size();
+
+        final GraphFragment read = GraphFragment.fromBytes(pasted.toBytes());
+
+        assertEquals(nodeCount, model.getNodes().size());
+        assertEquals(connectionCount, model.getConnections().size());
+        assertSame("Writing should not move pasted elements.", model, pasted.getNodes().get(0).eContainer());
+        assertSame(model, pasted.getConnections().get(0).eContainer());
+        assertTrue(EcoreUtil.equals(pasted.getNodes(), read.getNodes()));
+
+        editingDomain.getCommandStack().undo();
+
+        assertEquals(20, model.getNodes().size());
+        assertFalse(model.getNodes().contains(pasted.getNodes().get(0)));
+    }
+
+    private static EditingDomain createEditingDomain(final GModel model) {
+
+        final Resource resource = new XMIResourceFactoryImpl().createResource(URI.createFileURI("test.graph"));
+        resource.getContents().add(model);
+        final EditingDomain editingDomain = new AdapterFactoryEditingDomain(
+                new ComposedAdapterFactory(ComposedAdapterFactory.Descriptor.Registry.INSTANCE), new BasicCommandStack());
+        editingDomain.getResourceSet().getResources().add(resource);
+        return editingDomain;
+    }
+}
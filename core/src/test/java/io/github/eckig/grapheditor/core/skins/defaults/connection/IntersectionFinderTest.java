@@ -0,0 +1,242 @@
+package io.github.eckig.grapheditor.core.skins.defaults.connection;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import io.github.eckig.grapheditor.GConnectionSkin;
+import io.github.eckig.grapheditor.GJointSkin;
+import io.github.eckig.grapheditor.core.connections.RectangularConnections;
+import io.github.eckig.grapheditor.core.connectors.DefaultConnectorTypes;
+import io.github.eckig.grapheditor.model.GConnection;
+import io.github.eckig.grapheditor.model.GConnector;
+import io.github.eckig.grapheditor.model.GModel;
+import io.github.eckig.grapheditor.model.GraphFactory;
+import io.github.eckig.grapheditor.utils.GeometryUtils;
+import javafx.geometry.Point2D;
+import javafx.scene.Group;
+import javafx.scene.Node;
+
+public class IntersectionFinderTest {
+
+    private static final int CONNECTION_COUNT = 150;
+    private static final int MAX_JOINT_PAIRS = 3;
+
+    @Test
+    public void indexedSearchMatchesExhaustiveSearch() {
+
+        final Random random = new Random(42);
+        final Group layer = new Group();
+        final ConnectionPoints allPoints = new ConnectionPoints();
+
+        for (int i = 0; i < CONNECTION_COUNT; i++) {
+            final boolean horizontalStart = random.nextBoolean();
+            final TestConnectionSkin skin = new TestConnectionSkin(createConnection(horizontalStart));
+            layer.getChildren().add(skin.getRoot());
+            allPoints.put(skin, createRectangularPoints(random, horizontalStart));
+        }
+
+        for (final GConnectionSkin skin : allPoints.keySet()) {
+            skin.draw(null);
+        }
+
+        final Map<GConnectionSkin, Point2D[]> plainPoints = new HashMap<>(allPoints);
+        for (final GConnectionSkin skin : allPoints.keySet()) {
+            for (final boolean behind : new boolean[] { true, false }) {
+                final double[][] expected = findExhaustive(skin, allPoints, behind);
+                assertIntersectionsEqual(expected, IntersectionFinder.find(skin, allPoints, behind));
+                assertIntersectionsEqual(expected, IntersectionFinder.find(skin, plainPoints, behind));
+            }
+        }
+    }
+
+    @Test
+    public void detachedSkinsUseModelOrder() {
+
+        final Random random = new Random(7);
+        final Group layer = new Group();
+        final GModel model = GraphFactory.eINSTANCE.createGModel();
+        final ConnectionPoints allPoints = new ConnectionPoints();
+
+        for (int i = 0; i < CONNECTION_COUNT; i++) {
+            final boolean horizontalStart = random.nextBoolean();
+            final GConnection connection = createConnection(horizontalStart);
+            model.getConnections().add(connection);
+            final TestConnectionSkin skin = new TestConnectionSkin(connection);
+            // later connections are behind, as in the graph editor view:
+            layer.getChildren().add(0, skin.getRoot());
+            allPoints.put(skin, createRectangularPoints(random, horizontalStart));
+        }
+
+        for (final GConnectionSkin skin : allPoints.keySet()) {
+            skin.draw(null);
+        }
+
+        final Map<GConnectionSkin, double[][]> expectedBehind = new HashMap<>();
+        final Map<GConnectionSkin, double[][]> expectedInFront = new HashMap<>();
+        for (final GConnectionSkin skin : allPoints.keySet()) {
+            expectedBehind.put(skin, findExhaustive(skin, allPoints, true));
+            expectedInFront.put(skin, findExhaustive(skin, allPoints, false));
+        }
+
+        layer.getChildren().clear();
+        for (final GConnectionSkin skin : allPoints.keySet()) {
+            skin.draw(null);
+        }
+
+        final Map<GConnectionSkin, Point2D[]> detachedPoints = new HashMap<>(allPoints);
+        for (final GConnectionSkin skin : allPoints.keySet()) {
+            assertEquals(-1, skin.getParentIndex());
+            assertIntersectionsEqual(expectedBehind.get(skin), IntersectionFinder.find(skin, detachedPoints, true));
+            assertIntersectionsEqual(expectedInFront.get(skin), IntersectionFinder.find(skin, detachedPoints, false));
+        }
+    }
+
+    @Test
+    public void unknownConnectionHasNoIntersections() {
+
+        final TestConnectionSkin skin = new TestConnectionSkin(createConnection(true));
+        assertNull(IntersectionFinder.find(skin, new ConnectionPoints(), true));
+    }
+
+    private static void assertIntersectionsEqual(final double[][] pExpected, final double[][] pActual) {
+
+        if (pExpected == null) {
+            assertNull(pActual);
+            return;
+        }
+        for (int i = 0; i < pExpected.length; i++) {
+            assertArrayEquals(pExpected[i], pActual[i], 0);
+        }
+    }
+
+    private static GConnection createConnection(final boolean pHorizontalStart) {
+
+        final GConnector source = GraphFactory.eINSTANCE.createGConnector();
+        source.setType(pHorizontalStart ? DefaultConnectorTypes.RIGHT_OUTPUT : DefaultConnectorTypes.BOTTOM_OUTPUT);
+
+        final GConnection connection = GraphFactory.eINSTANCE.createGConnection();
+        connection.setSource(source);
+        return connection;
+    }
+
+    private static Point2D[] createRectangularPoints(final Random pRandom, final boolean pHorizontalStart) {
+
+        final int count = 2 + 2 * pRandom.nextInt(MAX_JOINT_PAIRS + 1);
+        final List<Point2D> points = new ArrayList<>();
+
+        double x = pRandom.nextInt(1000);
+        double y = pRandom.nextInt(1000);
+        points.add(new Point2D(x, y));
+        for (int i = 1; i < count; i++) {
+            if (pHorizontalStart == ((i & 1) == 1)) {
+                x = pRandom.nextInt(1000);
+            } else {
+                y = pRandom.nextInt(1000);
+            }
+            points.add(new Point2D(x, y));
+        }
+        return points.toArray(new Point2D[0]);
+    }
+
+    /**
+     * Reference implementation comparing every segment with every other segment.
+     */
+    private static double[][] findExhaustive(final GConnectionSkin pSkin, final Map<GConnectionSkin, Point2D[]> pAllPoints,
+            final boolean pBehind) {
+
+        final Point2D[] points = pAllPoints.get(pSkin);
+        double[][] intersections = null;
+
+        for (int i = 0; i < points.length - 1; i++) {
+
+            final boolean horizontal = RectangularConnections.isSegmentHorizontal(pSkin.getItem(), i);
+            double[] found = new double[0];
+
+            for (final Map.Entry<GConnectionSkin, Point2D[]> entry : pAllPoints.entrySet()) {
+
+                final GConnectionSkin other = entry.getKey();
+                if (other != pSkin) {
+                    final boolean otherIsBehind = pSkin.getParentIndex() != -1
+                            && other.getParentIndex() < pSkin.getParentIndex();
+                    if (otherIsBehind != pBehind) {
+                        continue;
+                    }
+                }
+
+                final Point2D[] otherPoints = entry.getValue();
+                for (int j = 0; j < otherPoints.length - 1; j++) {
+
+                    if (other == pSkin && i > j ^ pBehind) {
+                        continue;
+                    }
+                    if (horizontal && GeometryUtils.checkIntersection(points[i], points[i + 1], otherPoints[j],
+                            otherPoints[j + 1])) {
+                        found = append(found, otherPoints[j].getX());
+                    } else if (!horizontal && GeometryUtils.checkIntersection(otherPoints[j], otherPoints[j + 1],
+                            points[i], points[i + 1])) {
+                        found = append(found, otherPoints[j].getY());
+                    }
+                }
+            }
+
+            if (found.length > 0) {
+                Arrays.sort(found);
+                final boolean decreasing = horizontal ? points[i + 1].getX() < points[i].getX()
+                        : points[i + 1].getY() < points[i].getY();
+                if (decreasing) {
+                    for (int k = 0; k < found.length / 2; k++) {
+                        final double temp = found[k];
+                        found[k] = found[found.length - k - 1];
+                        found[found.length - k - 1] = temp;
+                    }
+                }
+                if (intersections == null) {
+                    intersections = new double[points.length][];
+                }
+                intersections[i] = found;
+            }
+        }
+        return intersections;
+    }
+
+    private static double[] append(final double[] pArray, final double pValue) {
+
+        final double[] result = Arrays.copyOf(pArray, pArray.length + 1);
+        result[pArray.length] = pValue;
+        return result;
+    }
+
+    private static class TestConnectionSkin extends GConnectionSkin {
+
+        private final Group root = new Group();
+
+        TestConnectionSkin(final GConnection connection) {
+            super(connection);
+        }
+
+        @Override
+        public void setJointSkins(final List<GJointSkin> jointSkins) {
+            // not needed
+        }
+
+        @Override
+        public Node getRoot() {
+            return root;
+        }
+
+        @Override
+        protected void selectionChanged(final boolean isSelected) {
+            // not needed
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2005 - 2014 by TESIS DYNAware GmbH
+ */
+package io.github.eckig.grapheditor.core.skins.defaults.connection.segment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import javafx.scene.shape.HLineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.PathElement;
+
+public class ConnectionSegmentTest {
+
+    @Test
+    public void redrawReusesElementsInPlace() {
+
+        final ConnectionSegment segment = new GappedConnectionSegment(0, 0, 100, 0, new double[] { 50 });
+        segment.draw();
+        final List<PathElement> initial = new ArrayList<>(segment.getPathElements());
+
+        segment.setCoordinates(0, 0, 120, 0, new double[] { 60 });
+        segment.draw();
+
+        assertEquals(initial.size(), segment.getPathElements().size());
+        for (int i = 0; i < initial.size(); i++) {
+            assertSame("Element " + i + " should be reused.", initial.get(i), segment.getPathElements().get(i));
+        }
+
+        segment.setCoordinates(0, 0, 120, 0, null);
+        segment.draw();
+
+        assertEquals("Only the straight line should be left.", 1, segment.getPathElements().size());
+        assertSame(initial.get(0), segment.getPathElements().get(0));
+    }
+
+    @Test
+    public void appendedElementsKeepTheirPosition() {
+
+        final AppendingSegment segment = new AppendingSegment(0, 0, 100, 0, new double[] { 30, 60 });
+        segment.draw();
+        assertMarkersBetweenLines(segment, 2);
+
+        // a draw with fewer intersections must not cut off the appended elements:
+        segment.setCoordinates(0, 0, 100, 0, new double[] { 60 });
+        segment.draw();
+        assertMarkersBetweenLines(segment, 1);
+
+        segment.setCoordinates(0, 0, 100, 0, new double[] { 20, 50, 80 });
+        segment.draw();
+        assertMarkersBetweenLines(segment, 3);
+    }
+
+    private static void assertMarkersBetweenLines(final ConnectionSegment segment, final int intersections) {
+
+        final List<PathElement> elements = segment.getPathElements();
+        assertEquals(2 * intersections + 1, elements.size());
+        for (int i = 0; i < elements.size(); i++) {
+            assertTrue("Unexpected element at " + i, i % 2 == 0 ? elements.get(i) instanceof HLineTo
+                    : elements.get(i) instanceof MoveTo);
+        }
+    }
+
+    /**
+     * Marks every intersection with an element appended directly to the path elements, like subclasses did before
+     * the path elements were reused.
+     */
+    private static class AppendingSegment extends ConnectionSegment {
+
+        AppendingSegment(final double startX, final double startY, final double endX, final double endY,
+                final double[] intersections) {
+            super(startX, startY, endX, endY, intersections);
+        }
+
+        @Override
+        protected void drawToFirstIntersection(final double intersection) {
+            addHLineTo(intersection);
+            getPathElements().add(new MoveTo(intersection, 0));
+        }
+
+        @Override
+        protected void drawBetweenIntersections(final double intersection, final double lastIntersection) {
+            addHLineTo(intersection);
+            getPathElements().add(new MoveTo(intersection, 0));
+        }
+
+        @Override
+        protected void drawFromLastIntersection(final double intersection) {
+            addHLineTo(getEndX());
+        }
+    }
+}
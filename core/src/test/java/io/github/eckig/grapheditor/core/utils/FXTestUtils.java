@@ -87,6 +87,18 @@ public class FXTestUtils {
         Event.fireEvent(node, released);
     }
 
+    /**
+     * Fires a primary-button {@link MouseEvent} at the given {@link Node}.
+     *
+     * @param node the {@link Node} to fire the event at
+     * @param type the {@link EventType} of the event
+     * @param x the x coordinate of the event
+     * @param y the y coordinate of the event
+     */
+    public static void fireMouseEvent(final Node node, final EventType<MouseEvent> type, final double x, final double y) {
+        Event.fireEvent(node, createMouseEvent(type, x, y));
+    }
+
     /**
      * Creates a new {@link MouseEvent}.
      *